@@ -21,6 +21,10 @@ public interface CartMapper {
     int deleteCart(@Param("studentId") Long studentId,
                    @Param("lectureId") Long lectureId);
 
+    // 장바구니에서 여러 강의 한 번에 제거 (장바구니 → 수강신청 성공분)
+    int deleteCarts(@Param("studentId") Long studentId,
+                    @Param("lectureIds") List<Long> lectureIds);
+
     // 장바구니 목록 조회
     List<CartItemResponseDto> findCartItems(@Param("studentId") Long studentId);
 }
@@ -6,7 +6,8 @@ import com.sku.cart.mapper.CartMapper;
 import com.sku.cart.service.CartService;
 import com.sku.common.exception.CustomException;
 import com.sku.common.util.ErrorCode;
-import com.sku.enrollment.service.EnrollmentService;
+import com.sku.enrollment.dto.BulkEnrollmentResultDto;
+import com.sku.enrollment.service.BulkEnrollmentService;
 import com.sku.lecture.mapper.LectureMapper;
 import com.sku.lecture.vo.Lecture;
 import com.sku.member.mapper.StudentMapper;
@@ -27,7 +28,7 @@ public class CartServiceImpl implements CartService {
     private final CartMapper cartMapper;
     private final StudentMapper studentMapper;
     private final LectureMapper lectureMapper;
-    private final EnrollmentService enrollmentService;
+    private final BulkEnrollmentService bulkEnrollmentService;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -114,46 +115,39 @@ public class CartServiceImpl implements CartService {
         return items;
     }
 
+    /**
+     * 장바구니 → 수강신청
+     * - 강의별 enroll 반복 대신 BulkEnrollmentService 로 한 번에 판정/반영
+     * - 성공한 강의의 장바구니 삭제는 신청과 같은 쓰기 트랜잭션에서 일괄 처리
+     */
     @Override
-    @Transactional(rollbackFor = Exception.class)
     public List<CartEnrollResultDto> enrollFromCart(String studentNumber, List<Long> lectureIds) {
 
         if (lectureIds == null || lectureIds.isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-
         Student student = studentMapper.findByStudentNumber(studentNumber);
         if (student == null) {
             throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
         }
         Long studentId = student.getId();
 
-        List<CartEnrollResultDto> results = new ArrayList<>();
-
-        for (Long lectureId : lectureIds) {
+        List<BulkEnrollmentResultDto> outcomes = bulkEnrollmentService.enrollAll(studentNumber, lectureIds,
+                enrolledIds -> cartMapper.deleteCarts(studentId, enrolledIds));
 
-            if (lectureId == null || lectureId <= 0) {
-                results.add(new CartEnrollResultDto(lectureId, false, "유효하지 않은 강의 ID입니다."));
-                continue;
-            }
-
-            try {
-                // 수강신청 시도
-                enrollmentService.enroll(studentNumber, lectureId);
-
-                // 수강신청 성공 시, 장바구니에서 제거 (있
-                int exists = cartMapper.existsCart(studentId, lectureId);
-                if (exists > 0) {
-                    cartMapper.deleteCart(studentId, lectureId);
-                }
+        List<CartEnrollResultDto> results = new ArrayList<>();
+        for (BulkEnrollmentResultDto outcome : outcomes) {
+            Long lectureId = outcome.getLectureId();
 
+            if (outcome.isSuccess()) {
                 results.add(new CartEnrollResultDto(lectureId, true, "수강신청 완료"));
-
-            } catch (CustomException e) {
-                results.add(new CartEnrollResultDto(lectureId, false, e.getErrorCode().getMsg()));
+            } else if (outcome.getErrorCode() == ErrorCode.INVALID_INPUT_VALUE) {
+                results.add(new CartEnrollResultDto(lectureId, false, "유효하지 않은 강의 ID입니다."));
+            } else {
+                results.add(new CartEnrollResultDto(lectureId, false, outcome.getErrorCode().getMsg()));
                 log.warn("장바구니 → 수강신청 실패. studentId={}, lectureId={}, reason={}",
-                        studentId, lectureId, e.getErrorCode().getMsg());
+                        studentId, lectureId, outcome.getErrorCode().getMsg());
             }
         }
 
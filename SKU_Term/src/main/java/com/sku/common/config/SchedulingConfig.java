@@ -0,0 +1,42 @@
+package com.sku.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 실행 스레드
+ * - taskScheduler: 나머지 주기 작업 (SSE 순번 계산, 캐시 재적재, 정합성 점검 등)
+ * - queueLeaderScheduler: 대기열 리더 임대 갱신/입장 처리 전용
+ *   (다른 작업이 길어져도 임대 갱신이 밀려 리더가 바뀌거나 입장 처리가 멈추지 않도록 분리)
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String QUEUE_LEADER_SCHEDULER = "queueLeaderScheduler";
+
+    @Value("${peakguard.scheduling.pool-size:8}")
+    private int poolSize;
+
+    // 여러 TaskScheduler 가 있으면 @Scheduled 기본값은 이름이 taskScheduler 인 bean
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return scheduler(poolSize, "scheduling-");
+    }
+
+    // 임대 갱신 1 + 입장 처리 1
+    @Bean(name = QUEUE_LEADER_SCHEDULER)
+    public ThreadPoolTaskScheduler queueLeaderScheduler() {
+        return scheduler(2, "queue-leader-");
+    }
+
+    private ThreadPoolTaskScheduler scheduler(int size, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(size);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
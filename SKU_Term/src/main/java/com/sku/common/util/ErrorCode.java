@@ -40,6 +40,14 @@ public enum ErrorCode {
     ENROLLMENT_NOT_FOUND(404, "EN005", "수강 신청 내역을 찾을 수 없습니다."),
     CANCEL_PERIOD_EXPIRED(400, "EN006", "수강 취소 가능 기간이 아닙니다."),
     ENROLLMENT_FAILED(500, "EN007", "수강 신청 처리 중 시스템 오류가 발생했습니다."),
+    ENROLLMENT_BUSY(503, "EN008", "수강신청 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    DUPLICATE_REQUEST_IN_PROGRESS(409, "EN009", "동일한 수강신청 요청을 처리 중입니다. 잠시 후 결과를 확인해주세요."),
+    ENROLLMENT_TICKET_NOT_FOUND(404, "EN010", "수강신청 접수 내역을 찾을 수 없습니다."),
+    WAITLIST_SEAT_AVAILABLE(409, "EN011", "잔여 좌석이 있는 강의입니다. 바로 수강신청해주세요."),
+    WAITLIST_FULL(409, "EN012", "대기 인원이 가득 찼습니다."),
+    WAITLIST_NOT_FOUND(404, "EN013", "대기열에 등록된 내역이 없습니다."),
+    BENCHMARK_DISABLED(403, "EN014", "수강신청 벤치마크가 비활성화되어 있습니다."),
+    BENCHMARK_IN_PROGRESS(409, "EN015", "이미 수강신청 벤치마크가 실행 중입니다."),
 
     // =================================== 장바구니 에러 (Cart) ===================================
     CART_ALREADY_EXISTS(409, "CT001", "이미 장바구니에 담긴 강의입니다."),
@@ -1,7 +1,10 @@
 package com.sku.admin.controller;
 
 import com.sku.common.dto.ResponseDto;
+import com.sku.enrollment.dto.EnrollmentBenchmarkRequestDto;
+import com.sku.enrollment.enums.RecalculateMode;
 import com.sku.enrollment.service.EnrollmentAdminService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,8 +19,29 @@ public class AdminEnrollmentController {
 
     private final EnrollmentAdminService enrollmentAdminService;
 
+    /**
+     * LECTURE_CURRENT_COUNT 재계산
+     * - mode=FULL: 전체 강의 재계산 (기존 동작)
+     * - mode=INCREMENTAL: 신청/취소로 변경된 강의만 배치 재계산
+     * - dryRun=true: 수정 없이 드리프트(저장값 ↔ 실제 신청 수) 보고
+     */
     @PostMapping("/lectures/recalculate-current-counts")
-    public ResponseEntity<ResponseDto<Map<String, Object>>> recalculateLectureCurrentCounts() {
+    public ResponseEntity<ResponseDto<Map<String, Object>>> recalculateLectureCurrentCounts(
+            @RequestParam(defaultValue = "FULL") RecalculateMode mode,
+            @RequestParam(defaultValue = "false") boolean dryRun
+    ) {
+
+        if (mode == RecalculateMode.INCREMENTAL || dryRun) {
+            Map<String, Object> result = enrollmentAdminService.reconcileLectureCurrentCounts(mode, dryRun);
+
+            return ResponseEntity.ok(
+                    new ResponseDto<>(
+                            HttpStatus.OK.value(),
+                            dryRun ? "lecture_current_count 드리프트 점검 완료" : "lecture_current_count 증분 재계산 완료",
+                            result
+                    )
+            );
+        }
 
         int affected = enrollmentAdminService.recalculateLectureCurrentCounts();
 
@@ -29,4 +53,216 @@ public class AdminEnrollmentController {
                 )
         );
     }
+
+    @PostMapping("/lectures/resync-seat-counters")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> resyncSeatCounters() {
+
+        Map<String, Object> result = enrollmentAdminService.resyncSeatCounters();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "좌석 카운터 재동기화 완료",
+                        result
+                )
+        );
+    }
+
+    @PostMapping("/lectures/reconcile-seat-reservations")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> reconcileSeatReservations() {
+
+        Map<String, Object> result = enrollmentAdminService.reconcileSeatReservations();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "좌석 카운터 정합성 점검 완료",
+                        result
+                )
+        );
+    }
+
+    /**
+     * Redis 학점 원장 정합성 점검
+     * - 예약 후 grace-ms 가 지난 항목이 Enrollment 와 다르면 원장을 삭제 (다음 신청에서 DB 기준 재적재)
+     */
+    @PostMapping("/enrollment/credit-ledger/reconcile")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> reconcileCreditLedgers() {
+
+        Map<String, Object> result = enrollmentAdminService.reconcileCreditLedgers();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "학점 원장 정합성 점검 완료",
+                        result
+                )
+        );
+    }
+
+    /**
+     * 강의 좌석 샤드 수 변경 (SHARDED_COUNTER)
+     * - shards=1 이면 샤드 해제, 잔여 좌석은 실제 신청 수 기준으로 재분배
+     */
+    @PostMapping("/lectures/{lectureId}/seat-shards")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> reshardLectureSeats(
+            @PathVariable Long lectureId,
+            @RequestParam int shards
+    ) {
+
+        Map<String, Object> result = enrollmentAdminService.reshardLectureSeats(lectureId, shards);
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "강의 좌석 샤드 재구성 완료",
+                        result
+                )
+        );
+    }
+
+    @GetMapping("/lectures/{lectureId}/seat-shards")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getLectureSeatShards(@PathVariable Long lectureId) {
+
+        Map<String, Object> result = enrollmentAdminService.getLectureSeatShards(lectureId);
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "강의 좌석 샤드 조회 성공",
+                        result
+                )
+        );
+    }
+
+    /**
+     * 강의 정보(시간/학점) 변경 반영
+     * - DB 에서 강의를 수정한 뒤 호출: 모든 노드의 강의 캐시 무효화 + 신청 학생 요약 행 재계산
+     */
+    @PostMapping("/lectures/{lectureId}/refresh")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> refreshLecture(@PathVariable Long lectureId) {
+
+        Map<String, Object> result = enrollmentAdminService.refreshLecture(lectureId);
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "강의 변경 반영 완료",
+                        result
+                )
+        );
+    }
+
+    @PostMapping("/enrollment/summary/backfill")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> backfillEnrollmentSummaries() {
+
+        Map<String, Object> result = enrollmentAdminService.backfillEnrollmentSummaries();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "수강신청 요약 backfill 완료",
+                        result
+                )
+        );
+    }
+
+    @GetMapping("/enrollment/metrics")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getEnrollmentMetrics() {
+
+        Map<String, Object> result = enrollmentAdminService.getEnrollmentMetrics();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "수강신청 lock mode 지표 조회 성공",
+                        result
+                )
+        );
+    }
+
+    @GetMapping("/enrollment/sequencer/stats")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getSequencerStats() {
+
+        Map<String, Object> result = enrollmentAdminService.getSequencerStats();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "수강신청 시퀀서 현황 조회 성공",
+                        result
+                )
+        );
+    }
+
+    @GetMapping("/enrollment/async/stats")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getAsyncEnrollmentStats() {
+
+        Map<String, Object> result = enrollmentAdminService.getAsyncEnrollmentStats();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "비동기 수강신청 큐 현황 조회 성공",
+                        result
+                )
+        );
+    }
+
+    @GetMapping("/enrollment/waitlist/stats")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getWaitlistStats() {
+
+        Map<String, Object> result = enrollmentAdminService.getWaitlistStats();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "강의 대기열 현황 조회 성공",
+                        result
+                )
+        );
+    }
+
+    /**
+     * 강의별 경합 상위 목록 (노드별)
+     * - current: 진행 중인 구간, previous: 직전 구간 (peakguard.enrollment.contention.window-ms)
+     */
+    @GetMapping("/enrollment/contention")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getLectureContention(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+
+        Map<String, Object> result = enrollmentAdminService.getLectureContention(Math.max(1, limit));
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "강의별 경합 지표 조회 성공",
+                        result
+                )
+        );
+    }
+
+    /**
+     * 현재 lock mode 로 수강신청 벤치마크 실행
+     * - peakguard.enrollment.benchmark.enabled=true 인 환경에서만 동작
+     * - 벤치마크 전용 학생/강의를 생성하고 측정 후 삭제한다
+     */
+    @PostMapping("/enrollment/benchmark")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> runBenchmark(
+            @Valid @RequestBody(required = false) EnrollmentBenchmarkRequestDto request
+    ) {
+
+        Map<String, Object> result = enrollmentAdminService.runBenchmark(
+                request != null ? request : new EnrollmentBenchmarkRequestDto()
+        );
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "수강신청 벤치마크 완료",
+                        result
+                )
+        );
+    }
 }
@@ -1,15 +1,20 @@
 package com.sku.enrollment.controller;
 
 import com.sku.common.dto.ResponseDto;
+import com.sku.enrollment.dto.AsyncEnrollmentTicketDto;
 import com.sku.enrollment.dto.EnrollmentListResponseDto;
 import com.sku.enrollment.dto.EnrollmentRequestDto;
+import com.sku.enrollment.service.AsyncEnrollmentService;
 import com.sku.enrollment.service.EnrollmentService;
+import com.sku.enrollment.service.EnrollmentWaitlistService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -21,18 +26,22 @@ import java.util.Map;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final AsyncEnrollmentService asyncEnrollmentService;
+    private final EnrollmentWaitlistService waitlistService;
 
     /**
      * 수강신청
+     * - Idempotency-Key 헤더가 같은 재요청은 한 번만 처리하고 같은 결과를 돌려준다
      */
     @PostMapping
     public ResponseEntity<ResponseDto<Map<String, Object>>> enroll(
             @Valid @RequestBody EnrollmentRequestDto request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal User user
     ) {
         String studentNumber = user.getUsername();
 
-        enrollmentService.enroll(studentNumber, request.getLectureId());
+        enrollmentService.enroll(studentNumber, request.getLectureId(), idempotencyKey);
 
         return ResponseEntity.ok(
                 new ResponseDto<>(
@@ -43,6 +52,126 @@ public class EnrollmentController {
         );
     }
 
+    /**
+     * 비동기 수강신청 접수
+     * - 마감 여부만 확인하고 작업 큐에 넣은 뒤 202 + ticketId 반환
+     * - 결과는 GET /async/{ticketId} 또는 /async/{ticketId}/events(SSE) 로 확인
+     */
+    @PostMapping("/async")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> enrollAsync(
+            @Valid @RequestBody EnrollmentRequestDto request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal User user
+    ) {
+        String studentNumber = user.getUsername();
+
+        String ticketId = asyncEnrollmentService.submit(studentNumber, request.getLectureId(), idempotencyKey);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                new ResponseDto<>(
+                        HttpStatus.ACCEPTED.value(),
+                        "수강신청이 접수되었습니다.",
+                        Map.of("ticketId", ticketId, "lectureId", request.getLectureId())
+                )
+        );
+    }
+
+    /**
+     * 비동기 수강신청 처리 상태 조회
+     */
+    @GetMapping("/async/{ticketId}")
+    public ResponseEntity<ResponseDto<AsyncEnrollmentTicketDto>> getAsyncEnrollment(
+            @PathVariable String ticketId,
+            @AuthenticationPrincipal User user
+    ) {
+        String studentNumber = user.getUsername();
+
+        AsyncEnrollmentTicketDto ticket = asyncEnrollmentService.getTicket(studentNumber, ticketId);
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "수강신청 처리 상태 조회 성공",
+                        ticket
+                )
+        );
+    }
+
+    /**
+     * 비동기 수강신청 결과 구독 (처리가 끝나면 "result" 이벤트 1회 후 종료)
+     */
+    @GetMapping(value = "/async/{ticketId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeAsyncEnrollment(
+            @PathVariable String ticketId,
+            @AuthenticationPrincipal User user
+    ) {
+        return asyncEnrollmentService.subscribe(user.getUsername(), ticketId);
+    }
+
+    /**
+     * 강의 대기열 등록 (정원 마감 강의만)
+     * - 좌석이 반환되면 대기 순서대로 자동 수강신청된다
+     */
+    @PostMapping("/{lectureId}/waitlist")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> joinWaitlist(
+            @PathVariable Long lectureId,
+            @AuthenticationPrincipal User user
+    ) {
+        String studentNumber = user.getUsername();
+
+        long position = waitlistService.join(studentNumber, lectureId);
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "대기열에 등록되었습니다.",
+                        Map.of("lectureId", lectureId, "position", position)
+                )
+        );
+    }
+
+    /**
+     * 강의 대기 순번 조회
+     */
+    @GetMapping("/{lectureId}/waitlist")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getWaitlistPosition(
+            @PathVariable Long lectureId,
+            @AuthenticationPrincipal User user
+    ) {
+        String studentNumber = user.getUsername();
+
+        long position = waitlistService.getPosition(studentNumber, lectureId);
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "대기 순번 조회 성공",
+                        Map.of("lectureId", lectureId, "position", position)
+                )
+        );
+    }
+
+    /**
+     * 강의 대기열 취소
+     */
+    @DeleteMapping("/{lectureId}/waitlist")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> leaveWaitlist(
+            @PathVariable Long lectureId,
+            @AuthenticationPrincipal User user
+    ) {
+        String studentNumber = user.getUsername();
+
+        waitlistService.leave(studentNumber, lectureId);
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "대기열 등록이 취소되었습니다.",
+                        Map.of("lectureId", lectureId)
+                )
+        );
+    }
+
     /**
      * 수강 취소
      */
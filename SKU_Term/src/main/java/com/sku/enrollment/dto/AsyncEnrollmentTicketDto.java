@@ -0,0 +1,20 @@
+package com.sku.enrollment.dto;
+
+import com.sku.enrollment.enums.AsyncEnrollmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncEnrollmentTicketDto {
+
+    private String ticketId;
+    private Long lectureId;
+    private AsyncEnrollmentStatus status;
+    private String code;        // 실패 시 ErrorCode (예: EN001)
+    private String message;     // 실패 사유
+}
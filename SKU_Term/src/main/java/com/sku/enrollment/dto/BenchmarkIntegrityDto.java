@@ -0,0 +1,19 @@
+package com.sku.enrollment.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 벤치마크 종료 후 정합성 검사 결과 (벤치마크용 강의 범위)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BenchmarkIntegrityDto {
+
+    private Long enrollments;          // 실제 Enrollment 행 수
+    private Long overbookedLectures;   // 실제 신청 수가 정원을 넘은 강의 수
+    private Long overbookedSeats;      // 정원을 넘겨 배정된 좌석 합계
+    private Long countDriftLectures;   // LECTURE_CURRENT_COUNT ≠ 실제 신청 수인 강의 수
+}
@@ -0,0 +1,17 @@
+package com.sku.enrollment.dto;
+
+import com.sku.common.util.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BulkEnrollmentResultDto {
+
+    private Long lectureId;
+    private ErrorCode errorCode;    // 성공 시 null
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sku.enrollment.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * lock mode 부하 측정 조건
+ * - 값을 생략하면 기본값 사용 (수강신청 오픈 직후처럼 소수 강의에 요청이 몰리는 분포)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class EnrollmentBenchmarkRequestDto {
+
+    @Min(value = 1, message = "스레드 수는 1 이상이어야 합니다.")
+    @Max(value = 512, message = "스레드 수는 512 이하여야 합니다.")
+    private int threads = 32;
+
+    @Min(value = 1, message = "학생 수는 1 이상이어야 합니다.")
+    @Max(value = 100000, message = "학생 수는 100000 이하여야 합니다.")
+    private int students = 2000;
+
+    @Min(value = 1, message = "강의 수는 1 이상이어야 합니다.")
+    @Max(value = 5000, message = "강의 수는 5000 이하여야 합니다.")
+    private int lectures = 50;
+
+    // 강의별 정원
+    @Min(value = 1, message = "정원은 1 이상이어야 합니다.")
+    private int capacity = 30;
+
+    // 강의별 학점
+    @Min(value = 1, message = "학점은 1 이상이어야 합니다.")
+    @Max(value = 6, message = "학점은 6 이하여야 합니다.")
+    private int credit = 3;
+
+    // 강의별 좌석 샤드 수 (SHARDED_COUNTER 에서만 적용, 1 = 샤드 미사용)
+    @Min(value = 1, message = "샤드 수는 1 이상이어야 합니다.")
+    @Max(value = 64, message = "샤드 수는 64 이하여야 합니다.")
+    private int seatShards = 8;
+
+    // 전체 신청 요청 수
+    @Min(value = 1, message = "요청 수는 1 이상이어야 합니다.")
+    @Max(value = 1000000, message = "요청 수는 1000000 이하여야 합니다.")
+    private int requests = 20000;
+
+    // Zipf 지수 (0 = 균등, 1 이상이면 상위 몇 개 강의에 집중)
+    @DecimalMin(value = "0.0", message = "Zipf 지수는 0 이상이어야 합니다.")
+    @DecimalMax(value = "4.0", message = "Zipf 지수는 4 이하여야 합니다.")
+    private double zipfExponent = 1.1;
+
+    // 같은 seed 면 모든 mode 에서 같은 (학생, 강의) 요청 순서를 사용한다
+    private long seed = 42L;
+
+    // 측정 후 벤치마크용 학생/강의 삭제
+    private boolean cleanup = true;
+}
@@ -0,0 +1,17 @@
+package com.sku.enrollment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureCountDriftDto {
+
+    private Long lectureId;
+    private Integer storedCount;    // LECTURE_CURRENT_COUNT
+    private Integer actualCount;    // Enrollment COUNT(*)
+}
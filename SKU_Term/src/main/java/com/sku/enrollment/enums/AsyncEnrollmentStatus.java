@@ -0,0 +1,15 @@
+package com.sku.enrollment.enums;
+
+/**
+ * 비동기 수강신청 접수(ticket) 처리 상태
+ */
+public enum AsyncEnrollmentStatus {
+    /**
+     * 작업 큐 대기 또는 처리 중
+     */
+    PENDING,
+
+    SUCCEEDED,
+
+    FAILED
+}
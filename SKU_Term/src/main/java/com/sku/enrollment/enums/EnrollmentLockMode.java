@@ -17,5 +17,30 @@ public enum EnrollmentLockMode {
     /**
      * UPDATE ... WHERE current_count < max_capacity 형태의 원자적 증가
      */
-    ATOMIC_UPDATE
+    ATOMIC_UPDATE,
+
+    /**
+     * Redis Lua 스크립트로 좌석/중복/학점을 원자적으로 판정 + MySQL write-behind 반영
+     */
+    REDIS_RESERVATION,
+
+    /**
+     * JVM 내부 좌석 카운터(CAS)로 선점 후, 선점 성공 요청만 트랜잭션 진입 (단일 노드 전용)
+     */
+    IN_MEMORY_COUNTER,
+
+    /**
+     * 강의 파티션별 단일 작성자 스레드가 좌석을 판정하고 배치로 커밋 (단일 노드 전용)
+     */
+    SEQUENCER,
+
+    /**
+     * Lecture 버전 컬럼 기반 낙관적 갱신 + 충돌 시 지터 백오프 재시도
+     */
+    OPTIMISTIC,
+
+    /**
+     * LECTURE_SEAT_SHARDS > 1 인 강의는 잔여 좌석 샤드 중 임의 샤드에서 조건부 차감 (나머지 강의는 ATOMIC_UPDATE 와 동일)
+     */
+    SHARDED_COUNTER
 }
@@ -0,0 +1,16 @@
+package com.sku.enrollment.enums;
+
+/**
+ * LECTURE_CURRENT_COUNT 재계산 범위
+ */
+public enum RecalculateMode {
+    /**
+     * 전체 Lecture 재계산 (상관 서브쿼리 COUNT, 피크 시간대 사용 자제)
+     */
+    FULL,
+
+    /**
+     * 신청/취소로 변경된 강의만 작은 배치로 재계산
+     */
+    INCREMENTAL
+}
@@ -0,0 +1,21 @@
+package com.sku.enrollment.enums;
+
+/**
+ * DB 락 기반 lock mode 에서 학생 단위 직렬화 방식
+ */
+public enum StudentLockMode {
+    /**
+     * Student row SELECT ... FOR UPDATE (트랜잭션 전체 동안 row 락 유지)
+     */
+    ROW_LOCK,
+
+    /**
+     * JVM 내부 striped lock (단일 노드 전용) + 짧은 쓰기 트랜잭션
+     */
+    LOCAL_STRIPED,
+
+    /**
+     * Redis SET NX PX 분산 락 (다중 노드) + 짧은 쓰기 트랜잭션
+     */
+    REDIS
+}
@@ -0,0 +1,7 @@
+package com.sku.enrollment.event;
+
+/**
+ * 강의 정보(시간/학점/정원)가 변경됨 (노드별 강의 캐시 무효화 트리거)
+ */
+public record LectureChangedEvent(Long lectureId) {
+}
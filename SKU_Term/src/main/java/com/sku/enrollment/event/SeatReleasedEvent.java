@@ -0,0 +1,7 @@
+package com.sku.enrollment.event;
+
+/**
+ * 수강 취소로 좌석이 반환됨 (커밋 후 대기열 승급 트리거)
+ */
+public record SeatReleasedEvent(Long lectureId) {
+}
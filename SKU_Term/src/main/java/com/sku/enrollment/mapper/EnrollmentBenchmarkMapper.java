@@ -0,0 +1,46 @@
+package com.sku.enrollment.mapper;
+
+import com.sku.enrollment.dto.BenchmarkIntegrityDto;
+import com.sku.lecture.vo.Lecture;
+import com.sku.member.vo.Student;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * lock mode 벤치마크 전용 (학생 번호/강의명 prefix 로 벤치마크 데이터만 다룬다)
+ */
+@Mapper
+public interface EnrollmentBenchmarkMapper {
+
+    // 벤치마크용 학생 multi-row INSERT
+    int insertStudents(@Param("students") List<Student> students);
+
+    // 벤치마크용 강의 multi-row INSERT
+    int insertLectures(@Param("lectures") List<Lecture> lectures);
+
+    // 벤치마크용 강의 ID (INSERT 순서)
+    List<Long> findLectureIdsByCourseNamePrefix(@Param("courseNamePrefix") String courseNamePrefix);
+
+    // 벤치마크용 학생 ID (정리 시 학생 ID 기준 Redis 원장 삭제용)
+    List<Long> findStudentIdsByStudentNumberPrefix(@Param("studentNumberPrefix") String studentNumberPrefix);
+
+    // 벤치마크용 강의의 Enrollment 행 수 (write-behind 반영 대기용)
+    long countEnrollmentsByCourseNamePrefix(@Param("courseNamePrefix") String courseNamePrefix);
+
+    // 초과 배정/카운터 드리프트 검사
+    BenchmarkIntegrityDto checkIntegrity(@Param("courseNamePrefix") String courseNamePrefix);
+
+    // InnoDB 누적 락 지표 (deadlocks, rowLockWaits, rowLockTimeMs)
+    Map<String, Object> findInnodbLockStats();
+
+    int deleteCarts(@Param("studentNumberPrefix") String studentNumberPrefix,
+                    @Param("courseNamePrefix") String courseNamePrefix);
+
+    // Enrollment/StudentEnrollmentSummary 는 FK ON DELETE CASCADE 로 함께 삭제된다
+    int deleteStudents(@Param("studentNumberPrefix") String studentNumberPrefix);
+
+    int deleteLectures(@Param("courseNamePrefix") String courseNamePrefix);
+}
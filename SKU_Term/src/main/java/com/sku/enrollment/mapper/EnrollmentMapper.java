@@ -1,12 +1,14 @@
 package com.sku.enrollment.mapper;
 
 import com.sku.enrollment.dto.EnrollmentListResponseDto;
+import com.sku.enrollment.dto.LectureCountDriftDto;
+import com.sku.enrollment.vo.Enrollment;
 import com.sku.lecture.vo.Lecture;
-import com.sku.lecture.vo.LectureTime;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface EnrollmentMapper {
@@ -19,29 +21,59 @@ public interface EnrollmentMapper {
     int insertEnrollment(@Param("studentId") Long studentId,
                          @Param("lectureId") Long lectureId);
 
+    // 그룹 커밋용 multi-row INSERT
+    int insertEnrollments(@Param("enrollments") List<Enrollment> enrollments);
+
     // 수강신청 삭제
     int deleteEnrollment(@Param("studentId") Long studentId,
                          @Param("lectureId") Long lectureId);
 
+    // 학번 기준 신청 강의와 학점 (학점 원장 적재/점검)
+    List<Lecture> findEnrolledCreditsByStudentNumber(@Param("studentNumber") String studentNumber);
+
     // 현재 신청 학점 합계
     int sumCreditsByStudent(@Param("studentId") Long studentId);
 
     int increaseCurrentCount(@Param("lectureId") Long lectureId);
 
+    // 그룹 커밋 시 강의별 증가분을 UPDATE ... CASE 한 번으로 반영 (key: lectureId, value: 증가분)
+    // 증가 후 정원을 넘는 강의는 갱신하지 않으므로 반환값 < increments.size() 이면 정원 초과 강의가 있다
+    int increaseCurrentCounts(@Param("increments") Map<Long, Integer> increments);
+
     // 정원 초과가 아닌 경우에만 원자적으로 +1 (비교군)
     int increaseCurrentCountIfAvailable(@Param("lectureId") Long lectureId);
 
-    // 해당 학생이 신청한 모든 강의의 시간 정보
-    List<LectureTime> findEnrolledLectureTimes(@Param("studentId") Long studentId);
+    // OPTIMISTIC: 버전 일치 + 정원 미만일 때만 +1
+    int increaseCurrentCountIfVersionMatches(@Param("lectureId") Long lectureId,
+                                             @Param("version") Long version);
+
+    // 해당 학생이 신청한 강의 ID 목록
+    List<Long> findEnrolledLectureIds(@Param("studentId") Long studentId);
+
+    // 해당 강의를 신청한 학생 ID 목록 (강의 변경 시 요약 행 재계산)
+    List<Long> findStudentIdsByLectureId(@Param("lectureId") Long lectureId);
 
     // 수강신청 목록 조회
     List<EnrollmentListResponseDto> findMyEnrollments(@Param("studentId") Long studentId);
 
     // 정원 증가
     Lecture findLectureWithLock(@Param("lectureId") Long lectureId);
+
+    // 일괄 신청: 여러 강의를 LECTURE_ID 순으로 잠금 (데드락 방지)
+    List<Lecture> findLecturesWithLock(@Param("lectureIds") List<Long> lectureIds);
+
     // 정원 감소
     int decreaseCurrentCount(@Param("lectureId") Long lectureId);
 
     int recalculateLectureCurrentCounts();
 
+    // 지정 강의 중 LECTURE_CURRENT_COUNT 와 실제 신청 수가 다른 강의
+    List<LectureCountDriftDto> findCountDriftByLectureIds(@Param("lectureIds") List<Long> lectureIds);
+
+    // 전체 강의 중 LECTURE_CURRENT_COUNT 와 실제 신청 수가 다른 강의 (수정 없음)
+    List<LectureCountDriftDto> findAllCountDrift();
+
+    // 지정 강의 중 차이가 있는 강의만 재계산 (IX_enrollment_lecture_id)
+    int recalculateCurrentCountsByLectureIds(@Param("lectureIds") List<Long> lectureIds);
+
 }
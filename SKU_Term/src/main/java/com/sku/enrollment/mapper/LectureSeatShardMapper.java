@@ -0,0 +1,45 @@
+package com.sku.enrollment.mapper;
+
+import com.sku.enrollment.vo.LectureSeatShard;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface LectureSeatShardMapper {
+
+    // 샤드 목록 (락 없음)
+    List<LectureSeatShard> findByLectureId(@Param("lectureId") Long lectureId);
+
+    // 잔여 좌석이 있을 때만 -1 (1 이면 좌석 확보)
+    int claimSeat(@Param("lectureId") Long lectureId,
+                  @Param("shardNo") int shardNo);
+
+    // 취소 시 +1
+    int releaseSeat(@Param("lectureId") Long lectureId,
+                    @Param("shardNo") int shardNo);
+
+    // 재생성 전 샤드 행 잠금 (진행 중인 좌석 차감이 끝날 때까지 대기)
+    List<LectureSeatShard> lockByLectureId(@Param("lectureId") Long lectureId);
+
+    // 재생성 기준 신청 수 (공유 락으로 최신 커밋 값)
+    int countEnrollmentsForShare(@Param("lectureId") Long lectureId);
+
+    int deleteByLectureId(@Param("lectureId") Long lectureId);
+
+    int insertShards(@Param("shards") List<LectureSeatShard> shards);
+
+    int updateSeatShards(@Param("lectureId") Long lectureId,
+                         @Param("seatShards") int seatShards);
+
+    // 샤드 수가 설정과 다르거나 잔여 좌석 합계가 (정원 - 실제 신청 수)와 다른 강의
+    List<Long> findStaleLectureIds();
+
+    // LECTURE_CURRENT_COUNT = 정원 - SUM(SHARD_REMAINING) (차이가 있는 row 만 갱신)
+    int syncCurrentCounts(@Param("lectureIds") Collection<Long> lectureIds);
+
+    // 모든 샤드 강의 대상 syncCurrentCounts
+    int syncAllCurrentCounts();
+}
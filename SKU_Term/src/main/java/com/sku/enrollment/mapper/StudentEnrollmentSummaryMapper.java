@@ -0,0 +1,27 @@
+package com.sku.enrollment.mapper;
+
+import com.sku.enrollment.vo.StudentEnrollmentSummary;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface StudentEnrollmentSummaryMapper {
+
+    // 학생 요약 행 PK 조회 (락 없음, 학생 락 모드의 트랜잭션 밖 검사용)
+    StudentEnrollmentSummary findByStudentId(@Param("studentId") Long studentId);
+
+    // 학생 요약 행 PK 조회 (학생 단위 직렬화 구간에서 사용)
+    StudentEnrollmentSummary findByStudentIdForUpdate(@Param("studentId") Long studentId);
+
+    // 요약 행 생성 또는 전체 갱신 (재계산/backfill)
+    int upsertSummary(StudentEnrollmentSummary summary);
+
+    // 신청 반영 후 요약 행 갱신
+    int updateSummary(StudentEnrollmentSummary summary);
+
+    // backfill 용 학생 ID 청크 조회
+    List<Long> findStudentIdsAfter(@Param("lastStudentId") Long lastStudentId,
+                                   @Param("limit") int limit);
+}
@@ -0,0 +1,26 @@
+package com.sku.enrollment.service;
+
+import com.sku.enrollment.dto.AsyncEnrollmentTicketDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * 비동기 수강신청 접수
+ * - 요청 스레드는 가벼운 검증 후 작업 큐에 넣고 ticket 만 돌려준다
+ * - 실제 신청은 전용 worker pool 이 EnrollmentService.enroll 로 처리
+ */
+public interface AsyncEnrollmentService {
+
+    // 접수 후 ticketId 반환 (작업 큐가 가득 차면 ENROLLMENT_BUSY)
+    String submit(String studentNumber, Long lectureId, String idempotencyKey);
+
+    // 본인 ticket 의 처리 상태
+    AsyncEnrollmentTicketDto getTicket(String studentNumber, String ticketId);
+
+    // 처리 결과를 server-sent event("result") 로 한 번 보내고 닫는다
+    SseEmitter subscribe(String studentNumber, String ticketId);
+
+    // 큐 깊이/대기 시간/worker 사용률
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,19 @@
+package com.sku.enrollment.service;
+
+import com.sku.enrollment.dto.BulkEnrollmentResultDto;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 강의 일괄 수강신청 (장바구니 → 수강신청)
+ * - 강의별 결과를 돌려주며, 일부 강의 실패가 나머지 신청을 롤백시키지 않는다
+ */
+public interface BulkEnrollmentService {
+
+    /**
+     * @param onEnrolled 신청에 성공한 강의 ID 목록으로 같은 쓰기 트랜잭션 안에서 실행 (장바구니 삭제 등)
+     * @return 요청 순서대로 강의별 결과
+     */
+    List<BulkEnrollmentResultDto> enrollAll(String studentNumber, List<Long> lectureIds, Consumer<List<Long>> onEnrolled);
+}
@@ -1,5 +1,52 @@
 package com.sku.enrollment.service;
 
+import com.sku.enrollment.dto.EnrollmentBenchmarkRequestDto;
+import com.sku.enrollment.enums.RecalculateMode;
+
+import java.util.Map;
+
 public interface EnrollmentAdminService {
     int recalculateLectureCurrentCounts();
+
+    // 증분 재계산(INCREMENTAL) 또는 드리프트 점검(dryRun)
+    Map<String, Object> reconcileLectureCurrentCounts(RecalculateMode mode, boolean dryRun);
+
+    // DB 재계산 후 IN_MEMORY_COUNTER 좌석 카운터 재동기화
+    Map<String, Object> resyncSeatCounters();
+
+    // REDIS_RESERVATION 좌석 카운터 ↔ DB 정합성 점검
+    Map<String, Object> reconcileSeatReservations();
+
+    // Redis 학점 원장 ↔ Enrollment 정합성 점검 (어긋난 원장 삭제)
+    Map<String, Object> reconcileCreditLedgers();
+
+    // 학생별 수강신청 요약 테이블 전체 재계산
+    Map<String, Object> backfillEnrollmentSummaries();
+
+    // 강의 정보 변경 반영 (모든 노드의 강의 캐시 무효화 + 신청 학생 요약 재계산)
+    Map<String, Object> refreshLecture(Long lectureId);
+
+    // lock mode 별 처리/재시도/경합 지표
+    Map<String, Object> getEnrollmentMetrics();
+
+    // SEQUENCER 파티션별 큐 깊이/처리량
+    Map<String, Object> getSequencerStats();
+
+    // 비동기 수강신청 큐 깊이/대기 시간/worker 사용률
+    Map<String, Object> getAsyncEnrollmentStats();
+
+    // 강의 대기열 승급 처리량/대기 인원
+    Map<String, Object> getWaitlistStats();
+
+    // 강의 좌석 샤드 수 변경 + 잔여 좌석 재분배 (SHARDED_COUNTER)
+    Map<String, Object> reshardLectureSeats(Long lectureId, int shards);
+
+    // 강의 좌석 샤드별 잔여 좌석
+    Map<String, Object> getLectureSeatShards(Long lectureId);
+
+    // 경합 상위 강의 (시도율/결과 코드/lock wait/트랜잭션 시간)
+    Map<String, Object> getLectureContention(int limit);
+
+    // 현재 lock mode 로 벤치마크 부하 실행 (처리량/지연/초과 배정/deadlock)
+    Map<String, Object> runBenchmark(EnrollmentBenchmarkRequestDto request);
 }
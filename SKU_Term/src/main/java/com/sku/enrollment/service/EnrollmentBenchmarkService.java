@@ -0,0 +1,15 @@
+package com.sku.enrollment.service;
+
+import com.sku.enrollment.dto.EnrollmentBenchmarkRequestDto;
+
+import java.util.Map;
+
+/**
+ * 현재 lock mode 로 수강신청 부하를 재현해 처리량/지연/정합성을 측정
+ * - 벤치마크 전용 학생/강의를 만들고 측정 후 정리한다 (운영 데이터는 건드리지 않음)
+ * - mode 별 비교는 mode 를 바꿔 앱을 다시 띄워야 한다 (enrollment.benchmark.LockModeBenchmark)
+ */
+public interface EnrollmentBenchmarkService {
+
+    Map<String, Object> run(EnrollmentBenchmarkRequestDto request);
+}
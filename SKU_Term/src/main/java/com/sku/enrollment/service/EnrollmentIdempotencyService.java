@@ -0,0 +1,14 @@
+package com.sku.enrollment.service;
+
+/**
+ * 수강신청 중복 요청 제거 (Redis)
+ * - 처리 중인 중복 요청은 원 요청의 결과를 기다리고, 완료된 중복 요청은 저장된 결과를 재사용한다
+ */
+public interface EnrollmentIdempotencyService {
+
+    // 같은 key 의 요청은 한 번만 action 을 실행
+    void execute(String studentNumber, Long lectureId, String idempotencyKey, Runnable action);
+
+    // 수강 취소 후 재신청이 이전 결과를 재사용하지 않도록 유도 key 제거
+    void invalidate(String studentNumber, Long lectureId);
+}
@@ -0,0 +1,25 @@
+package com.sku.enrollment.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * SEQUENCER lock mode 전용 강의 파티션 단일 작성자(single-writer) 실행기
+ */
+public interface EnrollmentSequencerService {
+
+    // lectureId 파티션에 신청을 넣고 결과를 동기적으로 기다린다
+    void submit(String studentNumber, Long lectureId);
+
+    // 수강 취소 커밋 후 파티션 좌석 상태 반영
+    void releaseAfterCommit(Long lectureId);
+
+    // 강의 정보/정원 수가 바뀐 경우 파티션 좌석 상태를 버리고 다음 요청에서 DB 기준으로 다시 적재
+    void evictSeats(Collection<Long> lectureIds);
+
+    // 전체 재계산 후 모든 파티션 좌석 상태를 버린다
+    void evictAllSeats();
+
+    // 파티션별 큐 깊이/처리량
+    Map<String, Object> getStats();
+}
@@ -11,6 +11,12 @@ public interface EnrollmentService {
     // 수강신청
     void enroll(String studentNumber, Long lectureId);
 
+    // 대기열 승급 (반환된 좌석이므로 마감 캐시/대기열 보류를 거치지 않고 바로 좌석 판정)
+    void enrollReleasedSeat(String studentNumber, Long lectureId);
+
+    // 수강신청 (Idempotency-Key 기반 중복 요청 제거, key 가 없으면 학번+강의로 유도)
+    void enroll(String studentNumber, Long lectureId, String idempotencyKey);
+
     // 수강 취소
     void cancel(String studentNumber, Long lectureId);
 
@@ -0,0 +1,22 @@
+package com.sku.enrollment.service;
+
+import java.util.Map;
+
+/**
+ * 강의별 대기열 (정원 마감 강의)
+ * - 좌석이 반환되면 비동기 승급기가 대기 순서대로 수강신청을 대신 시도한다 (학점/시간표 재검사)
+ */
+public interface EnrollmentWaitlistService {
+
+    // 대기열 등록, 대기 순번 반환 (잔여 좌석이 있으면 WAITLIST_SEAT_AVAILABLE)
+    long join(String studentNumber, Long lectureId);
+
+    // 대기열 취소
+    void leave(String studentNumber, Long lectureId);
+
+    // 현재 대기 순번 (대기열에 없으면 WAITLIST_NOT_FOUND)
+    long getPosition(String studentNumber, Long lectureId);
+
+    // 승급 처리량/대기열 길이
+    Map<String, Object> getStats();
+}
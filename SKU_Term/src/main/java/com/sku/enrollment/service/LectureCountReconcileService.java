@@ -0,0 +1,19 @@
+package com.sku.enrollment.service;
+
+import java.util.Map;
+
+/**
+ * LECTURE_CURRENT_COUNT ↔ Enrollment 신청 수 증분 정합성 점검
+ * - 신청/취소로 변경된 강의(DirtyLectureTracker)만 작은 배치로 재계산
+ */
+public interface LectureCountReconcileService {
+
+    // 변경된 강의 재계산 (dryRun 이면 드리프트 보고만 하고 변경 목록도 유지)
+    Map<String, Object> reconcileDirty(boolean dryRun);
+
+    // 전체 강의 드리프트 보고 (수정 없음)
+    Map<String, Object> reportAllDrift();
+
+    // 누적 점검/보정 지표
+    Map<String, Object> getStats();
+}
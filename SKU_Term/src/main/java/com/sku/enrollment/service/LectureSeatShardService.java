@@ -0,0 +1,28 @@
+package com.sku.enrollment.service;
+
+import java.util.Map;
+
+/**
+ * SHARDED_COUNTER 강의 좌석 샤드
+ * - LECTURE_SEAT_SHARDS > 1 인 강의는 Lecture 행 대신 샤드 행에서 좌석을 차감한다
+ * - LECTURE_CURRENT_COUNT 는 샤드 합계로 주기 동기화 (조회 화면의 신청 인원은 최대 sync-ms 늦을 수 있음)
+ *   (노드가 동기화 전에 종료되어도 full-sync-ms 주기의 전체 동기화로 맞춰진다)
+ */
+public interface LectureSeatShardService {
+
+    // 트랜잭션 안에서 호출. 모든 샤드가 비었으면 false
+    boolean claim(Long lectureId, int shards);
+
+    // 취소 트랜잭션 안에서 호출. 샤드가 없는 강의면 false (Lecture 행에서 감소해야 함)
+    boolean release(Long lectureId);
+
+    // 샤드 수 변경 후 Enrollment 기준으로 잔여 좌석 재분배 (shards=1 이면 샤드 해제)
+    // 변경 직전에 샤드 수를 읽은 신청은 이전 방식으로 처리되므로 신청 기간 전에 설정하는 것을 권장
+    Map<String, Object> reshard(Long lectureId, int shards);
+
+    // 샤드별 잔여 좌석
+    Map<String, Object> getShards(Long lectureId);
+
+    // 샤드 잔여 좌석 합계 (LECTURE_CURRENT_COUNT 동기화 전이라도 최신 값, 샤드가 없는 강의면 null)
+    Integer getRemainingSeats(Long lectureId);
+}
@@ -0,0 +1,27 @@
+package com.sku.enrollment.service;
+
+import java.util.Map;
+
+/**
+ * IN_MEMORY_COUNTER lock mode 전용 JVM 내부 좌석 카운터 서비스 (단일 노드 배포 전제)
+ */
+public interface SeatCounterService {
+
+    // LectureMapper 기준으로 카운터 적재
+    int load();
+
+    // 좌석 선점 (StripedSeatCounter.CLAIMED / FULL / UNKNOWN)
+    int tryClaim(Long lectureId);
+
+    // 선점한 좌석을 현재 트랜잭션 결과에 연동 (롤백 시 자동 반환)
+    void bindClaimToTransaction(Long lectureId);
+
+    // 트랜잭션 시작 전 실패 시 선점 취소
+    void abortClaim(Long lectureId);
+
+    // 수강 취소 커밋 후 좌석 반환
+    void releaseAfterCommit(Long lectureId);
+
+    // DB(LECTURE_CURRENT_COUNT) 기준 재동기화
+    Map<String, Object> resync();
+}
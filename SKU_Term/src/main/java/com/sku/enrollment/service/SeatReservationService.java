@@ -0,0 +1,36 @@
+package com.sku.enrollment.service;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * REDIS_RESERVATION lock mode 전용 좌석 예약 서비스
+ * - 좌석/중복/학점 판정은 Redis(Lua)에서 원자적으로 처리
+ * - MySQL 반영은 비동기 write-behind 로 처리
+ */
+public interface SeatReservationService {
+
+    // 강의별 좌석 카운터 적재 (Lecture.LECTURE_CURRENT_COUNT 기준)
+    int seedSeatCounters();
+
+    // 학생이 예약(신청)한 강의 ID 목록 (원장이 없으면 DB 기준으로 적재)
+    Set<Long> getReservedLectureIds(Long studentId);
+
+    // 좌석 예약 (정원/중복/학점 검사 + 차감)
+    void reserve(Long studentId, Long lectureId, int maxCredit);
+
+    // 예약 확정 → MySQL write-behind 큐에 적재
+    void confirmReservation(Long studentId, Long lectureId);
+
+    // 확정 전 예약 취소 (후속 검증 실패 시 보상)
+    void abortReservation(Long studentId, Long lectureId);
+
+    // 수강 취소 등으로 좌석 반환
+    boolean release(Long studentId, Long lectureId);
+
+    // Redis 좌석 카운터의 신청 인원 (write-behind 전이라도 최신 값, 카운터가 없으면 null)
+    Integer getReservedCount(Long lectureId);
+
+    // Redis 카운터 ↔ DB 정합성 점검 및 보정
+    Map<String, Object> reconcile();
+}
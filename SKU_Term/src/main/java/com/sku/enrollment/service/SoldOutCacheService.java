@@ -0,0 +1,24 @@
+package com.sku.enrollment.service;
+
+import java.util.Map;
+
+/**
+ * 마감 강의 빠른 거절 캐시
+ * - 노드별 BitSet 을 Redis pub/sub 로 동기화, 주기적으로 DB 기준 재적재
+ */
+public interface SoldOutCacheService {
+
+    // true 면 트랜잭션 없이 ENROLLMENT_CAPACITY_FULL 로 거절해도 된다
+    boolean isSoldOut(Long lectureId);
+
+    // 정원 초과 판정 시 호출
+    void markSoldOut(Long lectureId);
+
+    // 좌석 반환 시 호출 (트랜잭션 안이면 커밋 후 반영)
+    void markAvailable(Long lectureId);
+
+    // DB 정원 기준으로 전체 재적재 후 다른 노드에도 재적재 요청
+    int refreshAll();
+
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,33 @@
+package com.sku.enrollment.service;
+
+import java.util.Map;
+
+/**
+ * 학생별 신청 학점 원장 (Redis)
+ * - 학점 제한을 MySQL 작업 전에 Lua 1회로 판정하고, 신청/취소에 맞춰 원장을 갱신한다
+ * - 최종 판정은 여전히 DB 트랜잭션(학생 요약 행)에서 한 번 더 한다 → 원장이 어긋나도 초과 신청은 생기지 않는다
+ * - Redis 장애 시에는 원장 없이 DB 판정만 사용 (fail-open)
+ */
+public interface StudentCreditLedgerService {
+
+    /**
+     * 학점 예약
+     * - 학점 초과면 CREDIT_EXCEEDED
+     * - true 면 원장에 반영됨 → 신청이 실패하면 release 로 되돌려야 한다 (호출자 트랜잭션이 있으면 롤백 시 자동 반환)
+     * - false 면 원장 미사용(비활성/장애/이미 원장에 있음) → DB 판정에 맡긴다
+     */
+    boolean reserve(String studentNumber, Long lectureId);
+
+    void release(String studentNumber, Long lectureId);
+
+    // 수강 취소: 트랜잭션 안이면 커밋 후 반환
+    void releaseAfterCommit(String studentNumber, Long lectureId);
+
+    // 원장을 거치지 않은 신청(일괄 신청 등) 후 호출 → 다음 요청에서 DB 기준으로 재적재
+    void invalidate(String studentNumber);
+
+    // 원장 ↔ Enrollment 정합성 점검 (어긋난 원장은 삭제 후 재적재)
+    Map<String, Object> reconcile();
+
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,38 @@
+package com.sku.enrollment.service;
+
+import com.sku.enrollment.vo.StudentEnrollmentSummary;
+import com.sku.lecture.vo.Lecture;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학생별 수강신청 요약(총 학점/신청 수/주간 시간표 비트맵) 유지
+ * - Enrollment INSERT/DELETE 와 같은 트랜잭션에서 갱신한다
+ */
+public interface StudentEnrollmentSummaryService {
+
+    // 요약 행 조회 (락 없음, 학생 락으로 직렬화된 구간에서만 사용), 없으면 생성
+    StudentEnrollmentSummary get(Long studentId);
+
+    // 요약 행 조회 (FOR UPDATE), 없으면 Enrollment 기준으로 생성
+    StudentEnrollmentSummary getForUpdate(Long studentId);
+
+    // 수강신청 INSERT 직후 호출
+    void applyEnroll(StudentEnrollmentSummary summary, Long lectureId, Integer credit);
+
+    // 일괄 신청 INSERT 직후 호출 (요약 행 UPDATE 1회)
+    void applyEnrollAll(StudentEnrollmentSummary summary, List<Lecture> lectures);
+
+    // 수강취소 DELETE 직후 호출 (summary 는 DELETE 전에 getForUpdate 로 잡은 행)
+    void applyCancel(StudentEnrollmentSummary summary, Long lectureId, Integer credit);
+
+    // Enrollment 기준 재계산 (backfill/보정용)
+    StudentEnrollmentSummary rebuild(Long studentId);
+
+    // 전체 학생 요약 재계산
+    Map<String, Object> backfill();
+
+    // 강의를 신청한 학생들의 요약 재계산 (강의 시간/학점 변경 시)
+    int rebuildByLecture(Long lectureId);
+}
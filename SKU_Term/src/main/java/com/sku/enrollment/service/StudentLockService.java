@@ -0,0 +1,19 @@
+package com.sku.enrollment.service;
+
+import java.util.function.Supplier;
+
+/**
+ * 학생 단위 임계 구역 (StudentLockMode.LOCAL_STRIPED / REDIS)
+ */
+public interface StudentLockService {
+
+    // 학생 락을 잡은 상태로 action 실행, 대기 시간 초과 시 ENROLLMENT_BUSY
+    <T> T executeWithLock(Long studentId, Supplier<T> action);
+
+    default void runWithLock(Long studentId, Runnable action) {
+        executeWithLock(studentId, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
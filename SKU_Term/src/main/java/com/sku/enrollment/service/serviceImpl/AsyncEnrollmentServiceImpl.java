@@ -0,0 +1,411 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.dto.AsyncEnrollmentTicketDto;
+import com.sku.enrollment.enums.AsyncEnrollmentStatus;
+import com.sku.enrollment.service.AsyncEnrollmentService;
+import com.sku.enrollment.service.EnrollmentService;
+import com.sku.enrollment.service.SoldOutCacheService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 수강신청 작업 큐 + 전용 worker pool
+ * - 접수 노드는 ticket 을 메모리에 두고 SSE 구독자에게 결과를 바로 밀어준다
+ * - 상태는 Redis(enroll:ticket:{ticketId} = {학번}|{강의}|P/S/E:{ErrorCode})에도 남겨
+ *   다른 노드로 들어온 상태 조회/SSE 구독도 응답할 수 있게 한다 (Redis 장애 시 접수 노드에서만 조회 가능)
+ * - 큐에서 max-queue-wait-ms 이상 기다린 요청은 처리하지 않고 ENROLLMENT_BUSY 로 끝낸다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncEnrollmentServiceImpl implements AsyncEnrollmentService {
+
+    private final EnrollmentService enrollmentService;
+    private final SoldOutCacheService soldOutCacheService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String KEY_PREFIX = "enroll:ticket:";
+    private static final String PENDING = "P";
+    private static final String SUCCEEDED = "S";
+    private static final String FAILED_PREFIX = "E:";
+    private static final String SSE_EVENT = "result";
+
+    @Value("${peakguard.enrollment.async.workers:8}")
+    private int workers;
+
+    @Value("${peakguard.enrollment.async.queue-capacity:2048}")
+    private int queueCapacity;
+
+    @Value("${peakguard.enrollment.async.max-queue-wait-ms:10000}")
+    private long maxQueueWaitMs;
+
+    // 처리 완료된 ticket 을 조회할 수 있는 시간
+    @Value("${peakguard.enrollment.async.ticket-ttl-ms:300000}")
+    private long ticketTtlMs;
+
+    @Value("${peakguard.enrollment.async.sse-timeout-ms:30000}")
+    private long sseTimeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private long startedAtNanos;
+
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    // 다른 노드가 접수한 ticket 의 SSE 구독자 (Redis 결과를 주기적으로 확인)
+    private final Map<String, List<SseEmitter>> remoteSubscribers = new ConcurrentHashMap<>();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder processNanos = new LongAdder();
+
+    private static final class Ticket {
+        private final String id;
+        private final String studentNumber;
+        private final Long lectureId;
+        private final String idempotencyKey;
+        private final long acceptedAtNanos = System.nanoTime();
+
+        private volatile AsyncEnrollmentStatus status = AsyncEnrollmentStatus.PENDING;
+        private volatile ErrorCode errorCode;
+        private volatile long completedAtMillis;
+
+        // guarded by this
+        private final List<SseEmitter> emitters = new ArrayList<>();
+
+        private Ticket(String id, String studentNumber, Long lectureId, String idempotencyKey) {
+            this.id = id;
+            this.studentNumber = studentNumber;
+            this.lectureId = lectureId;
+            this.idempotencyKey = idempotencyKey;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> new Thread(r, "enroll-async-" + threadIndex.getAndIncrement()),
+                new ThreadPoolExecutor.AbortPolicy());
+        startedAtNanos = System.nanoTime();
+
+        log.info("비동기 수강신청 worker pool 시작 - workers={}, queueCapacity={}", workers, queueCapacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String submit(String studentNumber, Long lectureId, String idempotencyKey) {
+        if (soldOutCacheService.isSoldOut(lectureId)) {
+            throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
+        }
+        if (executor.getQueue().remainingCapacity() == 0) {
+            rejected.increment();
+            throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+        }
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), studentNumber, lectureId, idempotencyKey);
+        tickets.put(ticket.id, ticket);
+        // 완료 기록이 PENDING 으로 덮이지 않도록 큐에 넣기 전에 남긴다
+        store(ticket, PENDING);
+
+        try {
+            executor.execute(() -> process(ticket));
+        } catch (RejectedExecutionException e) {
+            tickets.remove(ticket.id);
+            forget(ticket.id);
+            rejected.increment();
+            throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+        }
+
+        accepted.increment();
+        return ticket.id;
+    }
+
+    @Override
+    public AsyncEnrollmentTicketDto getTicket(String studentNumber, String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket != null) {
+            checkOwner(ticket.studentNumber, studentNumber);
+            return toDto(ticket);
+        }
+        return loadRemote(studentNumber, ticketId);
+    }
+
+    @Override
+    public SseEmitter subscribe(String studentNumber, String ticketId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket != null) {
+            checkOwner(ticket.studentNumber, studentNumber);
+            emitter.onCompletion(() -> {
+                synchronized (ticket) {
+                    ticket.emitters.remove(emitter);
+                }
+            });
+
+            boolean done;
+            synchronized (ticket) {
+                done = ticket.status != AsyncEnrollmentStatus.PENDING;
+                if (!done) {
+                    ticket.emitters.add(emitter);
+                }
+            }
+            if (done) {
+                send(emitter, toDto(ticket));
+            }
+            return emitter;
+        }
+
+        AsyncEnrollmentTicketDto current = loadRemote(studentNumber, ticketId);
+        if (current.getStatus() != AsyncEnrollmentStatus.PENDING) {
+            send(emitter, current);
+            return emitter;
+        }
+
+        List<SseEmitter> subscribers = remoteSubscribers.computeIfAbsent(ticketId, k -> new CopyOnWriteArrayList<>());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        return emitter;
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long startedCount = started.sum();
+        long uptimeNanos = Math.max(1L, System.nanoTime() - startedAtNanos);
+        int active = executor.getActiveCount();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("workers", workers);
+        result.put("queueCapacity", queueCapacity);
+        result.put("queueDepth", executor.getQueue().size());
+        result.put("activeWorkers", active);
+        result.put("workerUtilization", (double) active / workers);
+        // 기동 이후 worker 가 신청을 처리하느라 바빴던 시간 비율
+        result.put("workerBusyRatio", (double) processNanos.sum() / ((double) uptimeNanos * workers));
+        result.put("accepted", accepted.sum());
+        result.put("rejected", rejected.sum());
+        result.put("succeeded", succeeded.sum());
+        result.put("failed", failed.sum());
+        result.put("expired", expired.sum());
+        result.put("avgQueueWaitMs", startedCount == 0 ? 0.0 : queueWaitNanos.sum() / 1_000_000.0 / startedCount);
+        result.put("maxObservedQueueWaitMs", maxQueueWaitNanos.get() / 1_000_000.0);
+        result.put("avgProcessMs", startedCount == 0 ? 0.0 : processNanos.sum() / 1_000_000.0 / startedCount);
+        result.put("trackedTickets", tickets.size());
+        result.put("remoteSubscribers", remoteSubscribers.values().stream().mapToInt(List::size).sum());
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.async.remote-poll-ms:500}")
+    public void pollRemoteSubscribers() {
+        if (remoteSubscribers.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, List<SseEmitter>> entry : remoteSubscribers.entrySet()) {
+            List<SseEmitter> subscribers = entry.getValue();
+            if (subscribers.isEmpty()) {
+                remoteSubscribers.remove(entry.getKey(), subscribers);
+                continue;
+            }
+
+            String value;
+            try {
+                value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + entry.getKey());
+            } catch (RuntimeException e) {
+                log.warn("비동기 수강신청 결과 조회 실패 - ticketId={}", entry.getKey(), e);
+                continue;
+            }
+
+            if (value == null) {
+                // 접수 기록이 만료됨 → 구독 종료
+                remoteSubscribers.remove(entry.getKey());
+                subscribers.forEach(SseEmitter::complete);
+                continue;
+            }
+            AsyncEnrollmentTicketDto dto = parse(entry.getKey(), value);
+            if (dto.getStatus() != AsyncEnrollmentStatus.PENDING) {
+                remoteSubscribers.remove(entry.getKey());
+                subscribers.forEach(emitter -> send(emitter, dto));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.async.cleanup-ms:60000}")
+    public void evictCompletedTickets() {
+        long threshold = System.currentTimeMillis() - ticketTtlMs;
+        tickets.values().removeIf(ticket ->
+                ticket.status != AsyncEnrollmentStatus.PENDING && ticket.completedAtMillis < threshold);
+    }
+
+    private void process(Ticket ticket) {
+        long startedAt = System.nanoTime();
+        long waited = startedAt - ticket.acceptedAtNanos;
+        started.increment();
+        queueWaitNanos.add(waited);
+        maxQueueWaitNanos.accumulate(waited);
+
+        try {
+            if (TimeUnit.NANOSECONDS.toMillis(waited) > maxQueueWaitMs) {
+                expired.increment();
+                complete(ticket, ErrorCode.ENROLLMENT_BUSY);
+                return;
+            }
+
+            ErrorCode errorCode = null;
+            try {
+                enrollmentService.enroll(ticket.studentNumber, ticket.lectureId, ticket.idempotencyKey);
+            } catch (CustomException e) {
+                errorCode = e.getErrorCode();
+            } catch (RuntimeException e) {
+                log.error("비동기 수강신청 처리 실패 - ticketId={}, lectureId={}", ticket.id, ticket.lectureId, e);
+                errorCode = ErrorCode.ENROLLMENT_FAILED;
+            }
+            complete(ticket, errorCode);
+        } finally {
+            processNanos.add(System.nanoTime() - startedAt);
+        }
+    }
+
+    private void complete(Ticket ticket, ErrorCode errorCode) {
+        List<SseEmitter> subscribers;
+        synchronized (ticket) {
+            ticket.errorCode = errorCode;
+            ticket.completedAtMillis = System.currentTimeMillis();
+            ticket.status = errorCode == null ? AsyncEnrollmentStatus.SUCCEEDED : AsyncEnrollmentStatus.FAILED;
+            subscribers = new ArrayList<>(ticket.emitters);
+            ticket.emitters.clear();
+        }
+
+        if (errorCode == null) {
+            succeeded.increment();
+            store(ticket, SUCCEEDED);
+        } else {
+            failed.increment();
+            store(ticket, FAILED_PREFIX + errorCode.name());
+        }
+
+        AsyncEnrollmentTicketDto dto = toDto(ticket);
+        subscribers.forEach(emitter -> send(emitter, dto));
+    }
+
+    private AsyncEnrollmentTicketDto loadRemote(String studentNumber, String ticketId) {
+        String value;
+        try {
+            value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + ticketId);
+        } catch (RuntimeException e) {
+            log.warn("비동기 수강신청 결과 조회 실패 - ticketId={}", ticketId, e);
+            throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+        }
+        if (value == null) {
+            throw new CustomException(ErrorCode.ENROLLMENT_TICKET_NOT_FOUND);
+        }
+        checkOwner(value.substring(0, value.indexOf('|')), studentNumber);
+        return parse(ticketId, value);
+    }
+
+    private AsyncEnrollmentTicketDto parse(String ticketId, String value) {
+        String[] parts = value.split("\\|", 3);
+        Long lectureId = Long.valueOf(parts[1]);
+        String state = parts[2];
+
+        if (PENDING.equals(state)) {
+            return new AsyncEnrollmentTicketDto(ticketId, lectureId, AsyncEnrollmentStatus.PENDING, null, null);
+        }
+        if (SUCCEEDED.equals(state)) {
+            return new AsyncEnrollmentTicketDto(ticketId, lectureId, AsyncEnrollmentStatus.SUCCEEDED, null, null);
+        }
+        ErrorCode errorCode = ErrorCode.valueOf(state.substring(FAILED_PREFIX.length()));
+        return new AsyncEnrollmentTicketDto(ticketId, lectureId, AsyncEnrollmentStatus.FAILED,
+                errorCode.getCode(), errorCode.getMsg());
+    }
+
+    private AsyncEnrollmentTicketDto toDto(Ticket ticket) {
+        ErrorCode errorCode = ticket.errorCode;
+        return new AsyncEnrollmentTicketDto(
+                ticket.id,
+                ticket.lectureId,
+                ticket.status,
+                errorCode == null ? null : errorCode.getCode(),
+                errorCode == null ? null : errorCode.getMsg()
+        );
+    }
+
+    private void checkOwner(String owner, String studentNumber) {
+        // 다른 학생의 ticket 은 존재 여부도 드러내지 않는다
+        if (!owner.equals(studentNumber)) {
+            throw new CustomException(ErrorCode.ENROLLMENT_TICKET_NOT_FOUND);
+        }
+    }
+
+    private void send(SseEmitter emitter, AsyncEnrollmentTicketDto dto) {
+        try {
+            emitter.send(SseEmitter.event().name(SSE_EVENT).data(dto));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊었거나 타임아웃으로 닫힌 경우
+            log.debug("비동기 수강신청 결과 전송 실패 - ticketId={}", dto.getTicketId(), e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void store(Ticket ticket, String state) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + ticket.id,
+                    ticket.studentNumber + "|" + ticket.lectureId + "|" + state, Duration.ofMillis(ticketTtlMs));
+        } catch (RuntimeException e) {
+            log.warn("비동기 수강신청 상태 저장 실패 - ticketId={}", ticket.id, e);
+        }
+    }
+
+    private void forget(String ticketId) {
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + ticketId);
+        } catch (RuntimeException e) {
+            log.warn("비동기 수강신청 상태 삭제 실패 - ticketId={}", ticketId, e);
+        }
+    }
+}
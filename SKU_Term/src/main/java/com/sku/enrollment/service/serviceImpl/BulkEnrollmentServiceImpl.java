@@ -0,0 +1,299 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.dto.BulkEnrollmentResultDto;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.enums.StudentLockMode;
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.service.BulkEnrollmentService;
+import com.sku.enrollment.service.EnrollmentService;
+import com.sku.enrollment.service.SoldOutCacheService;
+import com.sku.enrollment.service.StudentCreditLedgerService;
+import com.sku.enrollment.service.StudentEnrollmentSummaryService;
+import com.sku.enrollment.service.StudentLockService;
+import com.sku.enrollment.support.CreditLimitPolicy;
+import com.sku.enrollment.support.DirtyLectureTracker;
+import com.sku.enrollment.support.EnrollmentMetrics;
+import com.sku.enrollment.support.EnrollmentRuleChecker;
+import com.sku.enrollment.support.LectureTimeMaskCache;
+import com.sku.enrollment.util.WeeklyTimeMask;
+import com.sku.enrollment.vo.Enrollment;
+import com.sku.enrollment.vo.StudentEnrollmentSummary;
+import com.sku.lecture.vo.Lecture;
+import com.sku.member.mapper.StudentMapper;
+import com.sku.member.vo.Student;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 집합 단위 일괄 수강신청 (DB 락 기반 lock mode: PESSIMISTIC / NONE / ATOMIC_UPDATE / OPTIMISTIC)
+ * - 강의 시간표는 트랜잭션 전에 IN 조회 1회로 캐시에 적재
+ * - 쓰기 트랜잭션 1개: 학생 직렬화 → 요약 행/신청 목록 조회 → 강의 row 를 LECTURE_ID 순으로 일괄 잠금
+ *   → 정원/중복/학점/시간표를 메모리에서 요청 순서대로 판정 → multi-row INSERT + UPDATE ... CASE + 요약 행 UPDATE 1회
+ * - 강의별 실패는 예외가 아닌 결과로 남기므로 트랜잭션이 rollback-only 가 되지 않는다
+ * - 좌석 상태를 DB 밖에서 소유하는 모드(IN_MEMORY_COUNTER / REDIS_RESERVATION / SEQUENCER)는 강의별 enroll 로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkEnrollmentServiceImpl implements BulkEnrollmentService {
+
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentMapper enrollmentMapper;
+    private final StudentMapper studentMapper;
+    private final StudentEnrollmentSummaryService summaryService;
+    private final StudentLockService studentLockService;
+    private final SoldOutCacheService soldOutCacheService;
+    private final EnrollmentRuleChecker ruleChecker;
+    private final CreditLimitPolicy creditPolicy;
+    private final StudentCreditLedgerService creditLedgerService;
+    private final LectureTimeMaskCache timeMaskCache;
+    private final EnrollmentMetrics metrics;
+    private final DirtyLectureTracker dirtyLectureTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${peakguard.enrollment.lock-mode:NONE}")
+    private EnrollmentLockMode lockMode;
+
+    @Value("${peakguard.enrollment.student-lock.mode:ROW_LOCK}")
+    private StudentLockMode studentLockMode;
+
+    @Override
+    public List<BulkEnrollmentResultDto> enrollAll(String studentNumber, List<Long> lectureIds, Consumer<List<Long>> onEnrolled) {
+
+        Student student = studentMapper.findByStudentNumber(studentNumber);
+        if (student == null) {
+            throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
+        }
+        Long studentId = student.getId();
+
+        // 유효하지 않은 ID / 중복 ID / 마감 강의는 트랜잭션 전에 걸러낸다
+        Map<Long, ErrorCode> outcomes = new HashMap<>();
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Long lectureId : lectureIds) {
+            if (lectureId == null || lectureId <= 0 || outcomes.containsKey(lectureId) || candidates.contains(lectureId)) {
+                continue;
+            }
+            if (soldOutCacheService.isSoldOut(lectureId)) {
+                outcomes.put(lectureId, ErrorCode.ENROLLMENT_CAPACITY_FULL);
+                metrics.recordRejected(lockMode, ErrorCode.ENROLLMENT_CAPACITY_FULL);
+                continue;
+            }
+            candidates.add(lectureId);
+        }
+
+        if (!candidates.isEmpty()) {
+            if (supportsBulk()) {
+                outcomes.putAll(enrollCandidates(studentNumber, studentId, creditPolicy.maxCredits(student),
+                        new ArrayList<>(candidates), onEnrolled));
+            } else {
+                outcomes.putAll(enrollEach(studentNumber, new ArrayList<>(candidates), onEnrolled));
+            }
+        }
+
+        return toResults(lectureIds, outcomes);
+    }
+
+    private Map<Long, ErrorCode> enrollCandidates(String studentNumber, Long studentId, int maxCredits,
+                                                  List<Long> candidates, Consumer<List<Long>> onEnrolled) {
+        timeMaskCache.preload(candidates);
+
+        Map<Long, ErrorCode> outcomes;
+        try {
+            if (usesStudentLock()) {
+                outcomes = studentLockService.executeWithLock(studentId, () -> transactionTemplate.execute(status ->
+                        enrollInTransaction(studentId, maxCredits, candidates, onEnrolled)));
+            } else {
+                outcomes = transactionTemplate.execute(status -> {
+                    Student locked = studentMapper.findByStudentNumberForUpdate(studentNumber);
+                    if (locked == null) {
+                        throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
+                    }
+                    return enrollInTransaction(studentId, maxCredits, candidates, onEnrolled);
+                });
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 학생 직렬화 밖에서 들어온 신청과 유니크 충돌 → 강의별 경로로 다시 판정
+            log.warn("일괄 수강신청 유니크 충돌, 강의별 처리로 전환 - studentId={}", studentId, e);
+            return enrollEach(studentNumber, candidates, onEnrolled);
+        } catch (CustomException e) {
+            metrics.recordRejected(lockMode, e.getErrorCode());
+            throw e;
+        } catch (RuntimeException e) {
+            metrics.recordError(lockMode);
+            throw e;
+        }
+
+        if (outcomes.containsValue(null)) {
+            // 일괄 경로는 학점 원장을 거치지 않으므로 다음 신청에서 DB 기준으로 재적재
+            creditLedgerService.invalidate(studentNumber);
+        }
+
+        outcomes.forEach((lectureId, errorCode) -> {
+            if (errorCode == null) {
+                metrics.recordSuccess(lockMode);
+                return;
+            }
+            if (errorCode == ErrorCode.ENROLLMENT_CAPACITY_FULL) {
+                soldOutCacheService.markSoldOut(lectureId);
+            }
+            metrics.recordRejected(lockMode, errorCode);
+        });
+        return outcomes;
+    }
+
+    /**
+     * 요청 순서대로 판정 (중복 신청 → 학점 → 정원 → 시간표, 단건 신청과 같은 순서)
+     *
+     * @return 강의별 결과 (성공 시 null)
+     */
+    private Map<Long, ErrorCode> enrollInTransaction(Long studentId, int maxCredits, List<Long> candidates,
+                                                     Consumer<List<Long>> onEnrolled) {
+
+        StudentEnrollmentSummary summary = summaryService.getForUpdate(studentId);
+        Set<Long> enrolled = new HashSet<>(enrollmentMapper.findEnrolledLectureIds(studentId));
+
+        List<Long> sortedIds = new ArrayList<>(candidates);
+        sortedIds.sort(null);
+        Map<Long, Lecture> lectures = new HashMap<>();
+        for (Lecture lecture : enrollmentMapper.findLecturesWithLock(sortedIds)) {
+            lectures.put(lecture.getId(), lecture);
+        }
+
+        WeeklyTimeMask mask = WeeklyTimeMask.fromBytes(summary.getTimeMask(), Boolean.TRUE.equals(summary.getTimeMaskExact()));
+        int credits = summary.getTotalCredits();
+
+        Map<Long, ErrorCode> outcomes = new LinkedHashMap<>();
+        List<Lecture> accepted = new ArrayList<>();
+
+        for (Long lectureId : candidates) {
+            Lecture lecture = lectures.get(lectureId);
+            if (lecture == null) {
+                outcomes.put(lectureId, ErrorCode.LECTURE_NOT_FOUND);
+                continue;
+            }
+            if (enrolled.contains(lectureId)) {
+                outcomes.put(lectureId, ErrorCode.ALREADY_ENROLLED);
+                continue;
+            }
+            int credit = lecture.getCredit() != null ? lecture.getCredit() : 0;
+            if (credits + credit > maxCredits) {
+                outcomes.put(lectureId, ErrorCode.CREDIT_EXCEEDED);
+                continue;
+            }
+            if (lecture.getCurrentCount() >= lecture.getMaxCapacity()) {
+                outcomes.put(lectureId, ErrorCode.ENROLLMENT_CAPACITY_FULL);
+                continue;
+            }
+
+            WeeklyTimeMask target = timeMaskCache.maskOf(lectureId);
+            if (mask.intersects(target)
+                    && ((mask.isExact() && target.isExact()) || ruleChecker.hasTimeConflict(enrolled, lectureId))) {
+                outcomes.put(lectureId, ErrorCode.TIME_CONFLICT);
+                continue;
+            }
+
+            enrolled.add(lectureId);
+            credits += credit;
+            mask = mask.or(target);
+            accepted.add(lecture);
+            outcomes.put(lectureId, null);
+        }
+
+        if (!accepted.isEmpty()) {
+            writeEnrollments(studentId, summary, accepted);
+            onEnrolled.accept(accepted.stream().map(Lecture::getId).toList());
+        }
+
+        log.info("일괄 수강신청 완료(lockMode={}) - studentId={}, requested={}, enrolled={}",
+                lockMode, studentId, candidates.size(), accepted.size());
+        return outcomes;
+    }
+
+    // 잠근 강의 row 기준으로 판정했으므로 조건 없이 증가
+    private void writeEnrollments(Long studentId, StudentEnrollmentSummary summary, List<Lecture> accepted) {
+        Map<Long, Integer> increments = new LinkedHashMap<>();
+        List<Enrollment> enrollments = new ArrayList<>();
+        for (Lecture lecture : accepted) {
+            increments.put(lecture.getId(), 1);
+
+            Enrollment enrollment = new Enrollment();
+            enrollment.setStudentId(studentId);
+            enrollment.setLectureId(lecture.getId());
+            enrollments.add(enrollment);
+        }
+
+        enrollmentMapper.increaseCurrentCounts(increments);
+        dirtyLectureTracker.markDirty(increments.keySet());
+        enrollmentMapper.insertEnrollments(enrollments);
+        summaryService.applyEnrollAll(summary, accepted);
+    }
+
+    // 강의별 enroll (각자 트랜잭션), 성공분 후처리만 한 트랜잭션으로 모은다
+    private Map<Long, ErrorCode> enrollEach(String studentNumber, List<Long> candidates, Consumer<List<Long>> onEnrolled) {
+        Map<Long, ErrorCode> outcomes = new LinkedHashMap<>();
+        List<Long> succeeded = new ArrayList<>();
+
+        for (Long lectureId : candidates) {
+            try {
+                enrollmentService.enroll(studentNumber, lectureId);
+                outcomes.put(lectureId, null);
+                succeeded.add(lectureId);
+            } catch (CustomException e) {
+                outcomes.put(lectureId, e.getErrorCode());
+            }
+        }
+
+        if (!succeeded.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> onEnrolled.accept(succeeded));
+        }
+        return outcomes;
+    }
+
+    private List<BulkEnrollmentResultDto> toResults(List<Long> lectureIds, Map<Long, ErrorCode> outcomes) {
+        List<BulkEnrollmentResultDto> results = new ArrayList<>();
+        Set<Long> reported = new HashSet<>();
+
+        for (Long lectureId : lectureIds) {
+            if (lectureId == null || lectureId <= 0) {
+                results.add(new BulkEnrollmentResultDto(lectureId, ErrorCode.INVALID_INPUT_VALUE));
+                continue;
+            }
+            ErrorCode errorCode = outcomes.get(lectureId);
+            if (!reported.add(lectureId) && errorCode == null) {
+                // 같은 요청 안에서 앞서 신청된 강의
+                errorCode = ErrorCode.ALREADY_ENROLLED;
+            }
+            results.add(new BulkEnrollmentResultDto(lectureId, errorCode));
+        }
+        return results;
+    }
+
+    private boolean supportsBulk() {
+        return lockMode == EnrollmentLockMode.PESSIMISTIC
+                || lockMode == EnrollmentLockMode.NONE
+                || lockMode == EnrollmentLockMode.ATOMIC_UPDATE
+                || lockMode == EnrollmentLockMode.OPTIMISTIC;
+    }
+
+    private boolean usesStudentLock() {
+        return studentLockMode != StudentLockMode.ROW_LOCK
+                && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+}
@@ -1,20 +1,158 @@
 package com.sku.enrollment.service.serviceImpl;
 
+import com.sku.enrollment.dto.EnrollmentBenchmarkRequestDto;
+import com.sku.enrollment.enums.RecalculateMode;
 import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.service.AsyncEnrollmentService;
 import com.sku.enrollment.service.EnrollmentAdminService;
+import com.sku.enrollment.service.EnrollmentBenchmarkService;
+import com.sku.enrollment.service.EnrollmentSequencerService;
+import com.sku.enrollment.service.EnrollmentWaitlistService;
+import com.sku.enrollment.service.LectureCountReconcileService;
+import com.sku.enrollment.service.LectureSeatShardService;
+import com.sku.enrollment.service.SeatCounterService;
+import com.sku.enrollment.service.SeatReservationService;
+import com.sku.enrollment.service.SoldOutCacheService;
+import com.sku.enrollment.service.StudentCreditLedgerService;
+import com.sku.enrollment.service.StudentEnrollmentSummaryService;
+import com.sku.enrollment.support.EnrollmentMetrics;
+import com.sku.enrollment.support.LectureChangeNotifier;
+import com.sku.enrollment.support.LectureContentionTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class EnrollmentAdminServiceImpl implements EnrollmentAdminService {
 
     private final EnrollmentMapper enrollmentMapper;
+    private final SeatReservationService seatReservationService;
+    private final SeatCounterService seatCounterService;
+    private final EnrollmentSequencerService sequencerService;
+    private final StudentEnrollmentSummaryService summaryService;
+    private final EnrollmentMetrics enrollmentMetrics;
+    private final LectureContentionTracker contentionTracker;
+    private final SoldOutCacheService soldOutCacheService;
+    private final AsyncEnrollmentService asyncEnrollmentService;
+    private final EnrollmentWaitlistService waitlistService;
+    private final LectureCountReconcileService reconcileService;
+    private final EnrollmentBenchmarkService benchmarkService;
+    private final LectureSeatShardService seatShardService;
+    private final StudentCreditLedgerService creditLedgerService;
+    private final LectureChangeNotifier lectureChangeNotifier;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public int recalculateLectureCurrentCounts() {
-        return enrollmentMapper.recalculateLectureCurrentCounts();
+        int affected = enrollmentMapper.recalculateLectureCurrentCounts();
+        refreshSeatCachesAfterCommit();
+        return affected;
+    }
+
+    @Override
+    public Map<String, Object> reconcileLectureCurrentCounts(RecalculateMode mode, boolean dryRun) {
+        if (mode == RecalculateMode.FULL) {
+            return reconcileService.reportAllDrift();
+        }
+        return reconcileService.reconcileDirty(dryRun);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public Map<String, Object> resyncSeatCounters() {
+        int affected = enrollmentMapper.recalculateLectureCurrentCounts();
+
+        Map<String, Object> result = new LinkedHashMap<>(seatCounterService.resync());
+        result.put("affectedLectures", affected);
+        refreshSeatCachesAfterCommit();
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> reconcileSeatReservations() {
+        return seatReservationService.reconcile();
+    }
+
+    @Override
+    public Map<String, Object> reconcileCreditLedgers() {
+        return creditLedgerService.reconcile();
+    }
+
+    @Override
+    public Map<String, Object> backfillEnrollmentSummaries() {
+        return summaryService.backfill();
+    }
+
+    @Override
+    public Map<String, Object> refreshLecture(Long lectureId) {
+        // 캐시를 먼저 비워야 요약 재계산이 변경된 시간표로 계산된다
+        lectureChangeNotifier.notifyChanged(lectureId);
+        int rebuilt = summaryService.rebuildByLecture(lectureId);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("lectureId", lectureId);
+        result.put("rebuiltSummaries", rebuilt);
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> getEnrollmentMetrics() {
+        Map<String, Object> result = new LinkedHashMap<>(enrollmentMetrics.snapshot());
+        result.put("soldOutCache", soldOutCacheService.getStats());
+        result.put("countReconciler", reconcileService.getStats());
+        result.put("creditLedger", creditLedgerService.getStats());
+        return result;
+    }
+
+    // 재계산된 정원 기준으로 모든 노드의 마감 캐시와 시퀀서 좌석 상태 재적재
+    private void refreshSeatCachesAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                soldOutCacheService.refreshAll();
+                sequencerService.evictAllSeats();
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> getSequencerStats() {
+        return sequencerService.getStats();
+    }
+
+    @Override
+    public Map<String, Object> getAsyncEnrollmentStats() {
+        return asyncEnrollmentService.getStats();
+    }
+
+    @Override
+    public Map<String, Object> getWaitlistStats() {
+        return waitlistService.getStats();
+    }
+
+    @Override
+    public Map<String, Object> reshardLectureSeats(Long lectureId, int shards) {
+        return seatShardService.reshard(lectureId, shards);
+    }
+
+    @Override
+    public Map<String, Object> getLectureSeatShards(Long lectureId) {
+        return seatShardService.getShards(lectureId);
+    }
+
+    @Override
+    public Map<String, Object> getLectureContention(int limit) {
+        return contentionTracker.snapshot(limit);
+    }
+
+    @Override
+    public Map<String, Object> runBenchmark(EnrollmentBenchmarkRequestDto request) {
+        return benchmarkService.run(request);
     }
 }
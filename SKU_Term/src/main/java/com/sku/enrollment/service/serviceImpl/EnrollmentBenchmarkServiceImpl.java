@@ -0,0 +1,450 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.dto.BenchmarkIntegrityDto;
+import com.sku.enrollment.dto.EnrollmentBenchmarkRequestDto;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.enums.StudentLockMode;
+import com.sku.enrollment.mapper.EnrollmentBenchmarkMapper;
+import com.sku.enrollment.service.EnrollmentBenchmarkService;
+import com.sku.enrollment.service.EnrollmentService;
+import com.sku.enrollment.service.LectureSeatShardService;
+import com.sku.enrollment.service.SeatCounterService;
+import com.sku.enrollment.service.SeatReservationService;
+import com.sku.enrollment.service.SoldOutCacheService;
+import com.sku.enrollment.support.LectureChangeNotifier;
+import com.sku.enrollment.util.ZipfDistribution;
+import com.sku.lecture.vo.Lecture;
+import com.sku.member.vo.Student;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 벤치마크 절차
+ * 1) 학생(BM########)/강의(BENCH-####) 생성 후 mode 별 좌석 카운터/마감 캐시 적재
+ * 2) seed 로 (학생, 강의) 요청 목록을 미리 만들고 (강의는 Zipf 분포) threads 개 스레드로 enroll 호출
+ * 3) write-behind 반영을 기다린 뒤 Enrollment 기준으로 초과 배정/카운터 드리프트 검사
+ * 4) InnoDB deadlock/row lock 대기 지표는 실행 전후 차이 (서버 전체 누적값이라 다른 부하가 있으면 섞인다)
+ * 5) 정리 시 DB 행과 함께 벤치마크 학생/강의의 Redis 상태(학점/예약 원장, 중복 요청 결과, 좌석 카운터, 대기열)와 노드별 강의 캐시도 지운다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentBenchmarkServiceImpl implements EnrollmentBenchmarkService {
+
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentBenchmarkMapper benchmarkMapper;
+    private final SeatReservationService seatReservationService;
+    private final SeatCounterService seatCounterService;
+    private final SoldOutCacheService soldOutCacheService;
+    private final LectureSeatShardService seatShardService;
+    private final LectureChangeNotifier lectureChangeNotifier;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String STUDENT_NUMBER_PREFIX = "BM";
+    private static final String COURSE_NAME_PREFIX = "BENCH-";
+    // BCrypt 형식이 아니므로 로그인 불가
+    private static final String UNUSABLE_PASSWORD = "!benchmark";
+    private static final String ROLE_STUDENT = "ROLE_STUDENT";
+
+    // 학번으로 시작하는 Redis key (학점 원장, 중복 요청 결과)
+    private static final List<String> STUDENT_NUMBER_KEY_PREFIXES = List.of("enroll:credit:", "enroll:idem:");
+    // 학생 ID / 강의 ID 기준 Redis key (REDIS_RESERVATION 원장/좌석 카운터, 강의 대기열)
+    private static final String STUDENT_KEY_PREFIX = "enroll:student:";
+    private static final List<String> LECTURE_KEY_PREFIXES = List.of("enroll:seat:", "enroll:waitlist:");
+    private static final String WAITLIST_LECTURES_KEY = "enroll:waitlist:lectures";
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final long SETTLE_POLL_MS = 200L;
+    private static final int SETTLE_STABLE_POLLS = 3;
+
+    // 벤치마크는 Student/Lecture 에 쓰기를 하므로 명시적으로 켠 환경에서만 허용
+    @Value("${peakguard.enrollment.benchmark.enabled:false}")
+    private boolean enabled;
+
+    // write-behind 모드에서 Enrollment 반영을 기다리는 최대 시간
+    @Value("${peakguard.enrollment.benchmark.settle-timeout-ms:30000}")
+    private long settleTimeoutMs;
+
+    @Value("${peakguard.enrollment.lock-mode:NONE}")
+    private EnrollmentLockMode lockMode;
+
+    @Value("${peakguard.enrollment.student-lock.mode:ROW_LOCK}")
+    private StudentLockMode studentLockMode;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Override
+    public Map<String, Object> run(EnrollmentBenchmarkRequestDto request) {
+        if (!enabled) {
+            throw new CustomException(ErrorCode.BENCHMARK_DISABLED);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new CustomException(ErrorCode.BENCHMARK_IN_PROGRESS);
+        }
+
+        try {
+            // 이전 실행이 중간에 죽었을 수 있으므로 항상 정리 후 시작
+            cleanup();
+            return runOnce(request);
+        } finally {
+            if (request.isCleanup()) {
+                cleanup();
+            }
+            running.set(false);
+        }
+    }
+
+    private Map<String, Object> runOnce(EnrollmentBenchmarkRequestDto request) {
+        List<String> studentNumbers = seedStudents(request.getStudents());
+        List<Long> lectureIds = seedLectures(request);
+        prepareMode(request, lectureIds);
+
+        ZipfDistribution zipf = new ZipfDistribution(lectureIds.size(), request.getZipfExponent());
+        int[] studentOf = new int[request.getRequests()];
+        int[] lectureOf = new int[request.getRequests()];
+        Random random = new Random(request.getSeed());
+        for (int i = 0; i < request.getRequests(); i++) {
+            studentOf[i] = random.nextInt(studentNumbers.size());
+            lectureOf[i] = zipf.sample(random);
+        }
+
+        Map<String, Object> lockStatsBefore = readInnodbLockStats();
+
+        Outcome outcome = new Outcome(request.getRequests());
+        AtomicInteger cursor = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(request.getThreads());
+
+        for (int t = 0; t < request.getThreads(); t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    int i;
+                    while ((i = cursor.getAndIncrement()) < studentOf.length) {
+                        long begin = System.nanoTime();
+                        try {
+                            enrollmentService.enroll(studentNumbers.get(studentOf[i]), lectureIds.get(lectureOf[i]));
+                            outcome.successes.increment();
+                        } catch (RuntimeException e) {
+                            outcome.classify(e);
+                        }
+                        outcome.latencyNanos[i] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "enroll-benchmark-" + t);
+            worker.start();
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        awaitWorkers(done);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        long settleMs = awaitSettled();
+        Map<String, Object> lockStatsAfter = readInnodbLockStats();
+        BenchmarkIntegrityDto integrity = benchmarkMapper.checkIntegrity(COURSE_NAME_PREFIX);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("lockMode", lockMode.name());
+        result.put("studentLockMode", studentLockMode.name());
+        result.put("threads", request.getThreads());
+        result.put("students", request.getStudents());
+        result.put("lectures", request.getLectures());
+        result.put("capacity", request.getCapacity());
+        if (lockMode == EnrollmentLockMode.SHARDED_COUNTER) {
+            result.put("seatShards", request.getSeatShards());
+        }
+        result.put("requests", request.getRequests());
+        result.put("zipfExponent", request.getZipfExponent());
+        result.put("hottestLectureShare", zipf.probability(0));
+        result.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        result.put("throughputPerSec", elapsedNanos == 0 ? 0.0 : request.getRequests() * 1_000_000_000.0 / elapsedNanos);
+        result.put("successes", outcome.successes.sum());
+        result.put("rejections", outcome.rejectionCounts());
+        result.put("deadlocks", outcome.deadlocks.sum());
+        result.put("lockWaitTimeouts", outcome.lockWaitTimeouts.sum());
+        result.put("errors", outcome.errors.sum());
+        result.put("latencyMs", latencySummary(outcome.latencyNanos));
+        result.put("settleMs", settleMs);
+        result.put("integrity", integrity);
+        result.put("innodb", diff(lockStatsBefore, lockStatsAfter));
+
+        log.info("수강신청 벤치마크 완료 - mode={}, result={}", lockMode, result);
+        return result;
+    }
+
+    private List<String> seedStudents(int count) {
+        List<String> studentNumbers = new ArrayList<>(count);
+        List<Student> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setStudentNumber(String.format("%s%08d", STUDENT_NUMBER_PREFIX, i));
+            student.setPassword(UNUSABLE_PASSWORD);
+            student.setName("벤치마크" + i);
+            student.setDepartment("BENCHMARK");
+            student.setGrade(1 + i % 4);
+            student.setRole(ROLE_STUDENT);
+            studentNumbers.add(student.getStudentNumber());
+
+            chunk.add(student);
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                benchmarkMapper.insertStudents(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            benchmarkMapper.insertStudents(chunk);
+        }
+        return studentNumbers;
+    }
+
+    private List<Long> seedLectures(EnrollmentBenchmarkRequestDto request) {
+        List<Lecture> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = 0; i < request.getLectures(); i++) {
+            Lecture lecture = new Lecture();
+            lecture.setCourseName(String.format("%s%04d", COURSE_NAME_PREFIX, i));
+            lecture.setProfessor("BENCHMARK");
+            lecture.setCredit(request.getCredit());
+            lecture.setMaxCapacity(request.getCapacity());
+            lecture.setDivision("01");
+            lecture.setRoom("BENCH");
+
+            chunk.add(lecture);
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                benchmarkMapper.insertLectures(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            benchmarkMapper.insertLectures(chunk);
+        }
+        // INSERT 순서 = Zipf 순위 (0 번 강의가 가장 인기)
+        return benchmarkMapper.findLectureIdsByCourseNamePrefix(COURSE_NAME_PREFIX);
+    }
+
+    // 새로 만든 강의를 mode 별 좌석 카운터와 마감 캐시에 반영
+    private void prepareMode(EnrollmentBenchmarkRequestDto request, List<Long> lectureIds) {
+        if (lockMode == EnrollmentLockMode.REDIS_RESERVATION) {
+            seatReservationService.seedSeatCounters();
+        } else if (lockMode == EnrollmentLockMode.IN_MEMORY_COUNTER) {
+            seatCounterService.load();
+        } else if (lockMode == EnrollmentLockMode.SHARDED_COUNTER && request.getSeatShards() > 1) {
+            for (Long lectureId : lectureIds) {
+                seatShardService.reshard(lectureId, request.getSeatShards());
+            }
+        }
+        soldOutCacheService.refreshAll();
+    }
+
+    private void awaitWorkers(CountDownLatch done) {
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    // write-behind(REDIS_RESERVATION) 등으로 늦게 들어오는 Enrollment 가 멈출 때까지 대기
+    private long awaitSettled() {
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + settleTimeoutMs;
+        long last = -1;
+        int stable = 0;
+
+        while (System.currentTimeMillis() < deadline && stable < SETTLE_STABLE_POLLS) {
+            long current = benchmarkMapper.countEnrollmentsByCourseNamePrefix(COURSE_NAME_PREFIX);
+            stable = current == last ? stable + 1 : 0;
+            last = current;
+            try {
+                Thread.sleep(SETTLE_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return System.currentTimeMillis() - startedAt;
+    }
+
+    private Map<String, Object> latencySummary(long[] latencyNanos) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("p50", toMillis(percentile(sorted, 0.50)));
+        summary.put("p99", toMillis(percentile(sorted, 0.99)));
+        summary.put("p999", toMillis(percentile(sorted, 0.999)));
+        summary.put("max", toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        summary.put("mean", toMillis(sorted.length == 0 ? 0 : (long) Arrays.stream(sorted).average().orElse(0)));
+        return summary;
+    }
+
+    // nearest-rank
+    private long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private Map<String, Object> readInnodbLockStats() {
+        try {
+            return benchmarkMapper.findInnodbLockStats();
+        } catch (RuntimeException e) {
+            log.warn("InnoDB 락 지표 조회 실패 (performance_schema/INNODB_METRICS 권한 확인)", e);
+            return null;
+        }
+    }
+
+    private Map<String, Object> diff(Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        for (String key : List.of("deadlocks", "rowLockWaits", "rowLockTimeMs")) {
+            Object b = before == null ? null : before.get(key);
+            Object a = after == null ? null : after.get(key);
+            delta.put(key, a instanceof Number && b instanceof Number
+                    ? ((Number) a).longValue() - ((Number) b).longValue()
+                    : null);
+        }
+        return delta;
+    }
+
+    private void cleanup() {
+        List<Long> studentIds;
+        List<Long> lectureIds;
+        try {
+            // 행을 지우면 ID 를 알 수 없으므로 먼저 조회
+            studentIds = benchmarkMapper.findStudentIdsByStudentNumberPrefix(STUDENT_NUMBER_PREFIX);
+            lectureIds = benchmarkMapper.findLectureIdsByCourseNamePrefix(COURSE_NAME_PREFIX);
+
+            benchmarkMapper.deleteCarts(STUDENT_NUMBER_PREFIX, COURSE_NAME_PREFIX);
+            benchmarkMapper.deleteStudents(STUDENT_NUMBER_PREFIX);
+            benchmarkMapper.deleteLectures(COURSE_NAME_PREFIX);
+        } catch (RuntimeException e) {
+            log.warn("벤치마크 데이터 정리 실패", e);
+            return;
+        }
+
+        try {
+            cleanupRedis(studentIds, lectureIds);
+        } catch (RuntimeException e) {
+            log.warn("벤치마크 Redis 상태 정리 실패", e);
+        }
+        // 노드별 강의 캐시(시간표 비트맵, 강의 학점)에서 삭제된 강의 제거
+        lectureIds.forEach(lectureChangeNotifier::notifyChanged);
+    }
+
+    private void cleanupRedis(List<Long> studentIds, List<Long> lectureIds) {
+        List<String> keys = new ArrayList<>();
+        for (String prefix : STUDENT_NUMBER_KEY_PREFIXES) {
+            ScanOptions options = ScanOptions.scanOptions().match(prefix + STUDENT_NUMBER_PREFIX + "*").count(1000).build();
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+        }
+        for (Long studentId : studentIds) {
+            keys.add(STUDENT_KEY_PREFIX + studentId + ":lectures");
+            keys.add(STUDENT_KEY_PREFIX + studentId + ":credits");
+        }
+        for (Long lectureId : lectureIds) {
+            for (String prefix : LECTURE_KEY_PREFIXES) {
+                keys.add(prefix + lectureId);
+            }
+        }
+
+        long deleted = 0;
+        for (int from = 0; from < keys.size(); from += INSERT_CHUNK_SIZE) {
+            Long count = stringRedisTemplate.delete(keys.subList(from, Math.min(from + INSERT_CHUNK_SIZE, keys.size())));
+            deleted += count == null ? 0L : count;
+        }
+        if (!lectureIds.isEmpty()) {
+            stringRedisTemplate.opsForSet().remove(WAITLIST_LECTURES_KEY,
+                    lectureIds.stream().map(String::valueOf).toArray());
+        }
+        log.info("벤치마크 Redis 상태 정리 - students={}, lectures={}, deletedKeys={}",
+                studentIds.size(), lectureIds.size(), deleted);
+    }
+
+    /**
+     * 스레드별 결과 집계
+     * - deadlock(1213)/lock wait timeout(1205) 은 CustomException 으로 감싸져 있어도 원인 체인에서 먼저 찾는다
+     */
+    private static final class Outcome {
+
+        private static final int MYSQL_DEADLOCK = 1213;
+        private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+
+        private final long[] latencyNanos;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder deadlocks = new LongAdder();
+        private final LongAdder lockWaitTimeouts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+
+        private Outcome(int requests) {
+            this.latencyNanos = new long[requests];
+        }
+
+        // ErrorCode 이름 순 정렬
+        private Map<String, Long> rejectionCounts() {
+            Map<String, Long> counts = new TreeMap<>();
+            rejections.forEach((code, counter) -> counts.put(code, counter.sum()));
+            return counts;
+        }
+
+        private void classify(RuntimeException e) {
+            Integer sqlErrorCode = findSqlErrorCode(e);
+            if (sqlErrorCode != null && sqlErrorCode == MYSQL_DEADLOCK) {
+                deadlocks.increment();
+            } else if (sqlErrorCode != null && sqlErrorCode == MYSQL_LOCK_WAIT_TIMEOUT) {
+                lockWaitTimeouts.increment();
+            } else if (e instanceof CustomException ce) {
+                rejections.computeIfAbsent(ce.getErrorCode().name(), k -> new LongAdder()).increment();
+            } else {
+                errors.increment();
+            }
+        }
+
+        private Integer findSqlErrorCode(Throwable e) {
+            for (Throwable t = e; t != null; t = t.getCause()) {
+                if (t instanceof SQLException sql && sql.getErrorCode() != 0) {
+                    return sql.getErrorCode();
+                }
+                if (t.getCause() == t) {
+                    break;
+                }
+            }
+            return null;
+        }
+    }
+}
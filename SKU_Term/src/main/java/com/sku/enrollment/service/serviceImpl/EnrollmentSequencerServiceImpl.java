@@ -0,0 +1,601 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.event.LectureChangedEvent;
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.service.EnrollmentSequencerService;
+import com.sku.enrollment.service.StudentEnrollmentSummaryService;
+import com.sku.enrollment.support.CreditLimitPolicy;
+import com.sku.enrollment.support.DirtyLectureTracker;
+import com.sku.enrollment.support.EnrollmentRuleChecker;
+import com.sku.enrollment.vo.Enrollment;
+import com.sku.enrollment.vo.StudentEnrollmentSummary;
+import com.sku.lecture.mapper.LectureMapper;
+import com.sku.lecture.vo.Lecture;
+import com.sku.member.mapper.StudentMapper;
+import com.sku.member.vo.Student;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 강의 파티션 단일 작성자 실행기
+ * - lectureId 로 고정된 파티션(단일 스레드 + 링버퍼 큐)에 라우팅
+ * - 파티션이 담당 강의의 좌석 상태를 소유하고 도착 순서대로 판정 (Lecture row 락 없음)
+ * - 판정된 요청은 그룹 커밋: batch-window-ms 동안 모인 요청(최대 batch-size)을
+ *   multi-row INSERT 1회 + UPDATE ... CASE 1회로 한 트랜잭션에 반영 (fsync/왕복 횟수 절감)
+ * - 학생 단위 룰(중복/학점/시간표)은 커밋 시 학생 row 락 아래에서 재검증
+ *   (배치 안에서 학번 순으로 락을 잡아 파티션 간 데드락을 피한다)
+ * - 좌석 상태는 강의 변경(LectureChangedEvent)/정원 재계산 시 버리고 DB 에서 다시 적재하며,
+ *   UPDATE 도 정원을 넘는 강의는 반영하지 않으므로 상태가 뒤처져도 초과 배정되지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentSequencerServiceImpl implements EnrollmentSequencerService {
+
+    private final EnrollmentMapper enrollmentMapper;
+    private final LectureMapper lectureMapper;
+    private final StudentMapper studentMapper;
+    private final EnrollmentRuleChecker ruleChecker;
+    private final CreditLimitPolicy creditPolicy;
+    private final StudentEnrollmentSummaryService summaryService;
+    private final DirtyLectureTracker dirtyLectureTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${peakguard.enrollment.lock-mode:NONE}")
+    private EnrollmentLockMode lockMode;
+
+    @Value("${peakguard.enrollment.sequencer.partitions:4}")
+    private int partitionCount;
+
+    @Value("${peakguard.enrollment.sequencer.queue-capacity:1024}")
+    private int queueCapacity;
+
+    @Value("${peakguard.enrollment.sequencer.batch-size:32}")
+    private int batchSize;
+
+    // 첫 요청 이후 배치를 더 모으기 위해 기다리는 최대 시간 (0 이면 큐에 쌓인 만큼만)
+    @Value("${peakguard.enrollment.sequencer.batch-window-ms:2}")
+    private long batchWindowMs;
+
+    @Value("${peakguard.enrollment.sequencer.timeout-ms:3000}")
+    private long timeoutMs;
+
+    // 판정이 시작된 요청의 커밋 결과를 추가로 기다리는 최대 시간
+    @Value("${peakguard.enrollment.sequencer.commit-timeout-ms:10000}")
+    private long commitTimeoutMs;
+
+    private Partition[] partitions = new Partition[0];
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    private final LongAdder commitTimeouts = new LongAdder();
+
+    private interface Command {
+    }
+
+    /**
+     * claimed: 파티션이 꺼내 판정을 시작했거나(이후 취소 불가) 호출자가 타임아웃으로 포기한 경우 true
+     * - 먼저 선점한 쪽만 유효하므로, 판정이 시작된 요청은 커밋될 수 있어 실패로 응답하지 않는다
+     */
+    private record EnrollCommand(String studentNumber, Long lectureId, CompletableFuture<Void> result,
+                                 AtomicBoolean claimed) implements Command {
+
+        private EnrollCommand(String studentNumber, Long lectureId) {
+            this(studentNumber, lectureId, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        private boolean tryClaim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    private record ReleaseCommand(Long lectureId) implements Command {
+    }
+
+    private static final class SeatState {
+        private final Lecture lecture;
+        private final int max;
+        private int current;
+
+        private SeatState(Lecture lecture) {
+            this.lecture = lecture;
+            this.max = lecture.getMaxCapacity() == null ? 0 : lecture.getMaxCapacity();
+            this.current = lecture.getCurrentCount() == null ? 0 : lecture.getCurrentCount();
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (lockMode != EnrollmentLockMode.SEQUENCER) {
+            return;
+        }
+
+        running = true;
+        partitions = new Partition[partitionCount];
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(partitionCount,
+                r -> new Thread(r, "enroll-sequencer-" + threadIndex.getAndIncrement()));
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(i);
+            executor.submit(partitions[i]);
+        }
+
+        log.info("수강신청 시퀀서 시작 - partitions={}, queueCapacity={}, batchSize={}, batchWindowMs={}",
+                partitionCount, queueCapacity, batchSize, batchWindowMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void submit(String studentNumber, Long lectureId) {
+        if (!running) {
+            throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+        }
+
+        EnrollCommand command = new EnrollCommand(studentNumber, lectureId);
+        if (!partitionOf(lectureId).queue.offer(command)) {
+            throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+        }
+
+        try {
+            awaitResult(command);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException ce) {
+                throw ce;
+            }
+            throw new CustomException(ErrorCode.ENROLLMENT_FAILED, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.ENROLLMENT_FAILED, e);
+        }
+    }
+
+    private void awaitResult(EnrollCommand command) throws ExecutionException, InterruptedException {
+        try {
+            command.result().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 큐에 있으면 포기 표시 → 파티션이 건너뛰므로 실패로 응답해도 안전하다
+            if (command.tryClaim()) {
+                log.warn("시퀀서 응답 대기 시간 초과 - lectureId={}, timeoutMs={}", command.lectureId(), timeoutMs);
+                throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+            }
+            // 이미 판정/커밋 중이면 성공할 수도 있으므로 commit-timeout-ms 까지 배치 결과를 더 기다린다
+            log.warn("시퀀서 커밋 지연, 결과 대기 - lectureId={}, timeoutMs={}", command.lectureId(), timeoutMs);
+            try {
+                command.result().get(commitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException stuck) {
+                // 커밋이 끝나지 않음 (DB 지연 등) → 요청 스레드는 돌려준다. 이후 커밋될 수 있으므로 결과는 신청 목록으로 확인
+                commitTimeouts.increment();
+                log.error("시퀀서 커밋 결과 대기 시간 초과 - studentNumber={}, lectureId={}, commitTimeoutMs={}",
+                        command.studentNumber(), command.lectureId(), commitTimeoutMs);
+                throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+            }
+        }
+    }
+
+    @Override
+    public void releaseAfterCommit(Long lectureId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Partition partition = partitionOf(lectureId);
+                if (!partition.queue.offer(new ReleaseCommand(lectureId))) {
+                    // 큐가 가득 차면 다음 배치에서 DB 기준으로 다시 적재하도록 표시
+                    partition.staleLectures.add(lectureId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void evictSeats(Collection<Long> lectureIds) {
+        if (!running) {
+            return;
+        }
+        for (Long lectureId : lectureIds) {
+            partitionOf(lectureId).staleLectures.add(lectureId);
+        }
+    }
+
+    @Override
+    public void evictAllSeats() {
+        if (!running) {
+            return;
+        }
+        for (Partition partition : partitions) {
+            partition.evictAll = true;
+        }
+    }
+
+    @EventListener
+    public void onLectureChanged(LectureChangedEvent event) {
+        evictSeats(List.of(event.lectureId()));
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        List<Map<String, Object>> partitionStats = new ArrayList<>();
+        for (Partition partition : partitions) {
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("partition", partition.index);
+            stat.put("queueDepth", partition.queue.size());
+            stat.put("processed", partition.processed.sum());
+            stat.put("committed", partition.committed.sum());
+            stat.put("rejected", partition.rejected.sum());
+            stat.put("batches", partition.batches.sum());
+            stat.put("avgBatchSize", average(partition.batchedCommands.sum(), partition.batches.sum()));
+            stat.put("maxBatchSize", partition.maxBatchSize.get());
+            stat.put("lastBatchSize", partition.lastBatchSize);
+            stat.put("avgCommitMillis", average(partition.commitNanos.sum(), partition.batches.sum()) / 1_000_000.0);
+            stat.put("maxCommitMillis", partition.maxCommitNanos.get() / 1_000_000.0);
+            stat.put("batchSplits", partition.batchSplits.sum());
+            stat.put("capacityOverflows", partition.capacityOverflows.sum());
+            partitionStats.add(stat);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("running", running);
+        result.put("batchSize", batchSize);
+        result.put("batchWindowMs", batchWindowMs);
+        result.put("commitTimeouts", commitTimeouts.sum());
+        result.put("partitions", partitionStats);
+        return result;
+    }
+
+    private static double average(long total, long count) {
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+
+    private Partition partitionOf(Long lectureId) {
+        return partitions[Math.floorMod(Long.hashCode(lectureId), partitions.length)];
+    }
+
+    private final class Partition implements Runnable {
+
+        private final int index;
+        private final ArrayBlockingQueue<Command> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Set<Long> staleLectures = ConcurrentHashMap.newKeySet();
+        private volatile boolean evictAll;
+
+        // 파티션 스레드만 접근
+        private final Map<Long, SeatState> seats = new HashMap<>();
+
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder committed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+
+        // 그룹 커밋 배치 지표
+        private final LongAdder batchedCommands = new LongAdder();
+        private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+        private final LongAdder commitNanos = new LongAdder();
+        private final LongAccumulator maxCommitNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder batchSplits = new LongAdder();
+        private final LongAdder capacityOverflows = new LongAdder();
+        private volatile int lastBatchSize;
+
+        private Partition(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            List<Command> batch = new ArrayList<>(batchSize);
+            while (running) {
+                Command first;
+                try {
+                    first = queue.poll(200, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (first == null) {
+                    continue;
+                }
+
+                batch.clear();
+                batch.add(first);
+                try {
+                    collect(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failPending(batch, new CustomException(ErrorCode.ENROLLMENT_BUSY));
+                    break;
+                }
+
+                try {
+                    process(batch);
+                } catch (Exception e) {
+                    log.error("시퀀서 배치 처리 오류 - partition={}", index, e);
+                    seats.clear();
+                    failPending(batch, new CustomException(ErrorCode.ENROLLMENT_FAILED, e));
+                }
+            }
+
+            List<Command> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            failPending(remaining, new CustomException(ErrorCode.ENROLLMENT_BUSY));
+        }
+
+        /**
+         * 그룹 커밋 창(batch-window-ms) 동안 배치를 채운다
+         */
+        private void collect(List<Command> batch) throws InterruptedException {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batchWindowMs <= 0) {
+                return;
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMs);
+            while (batch.size() < batchSize) {
+                long left = deadline - System.nanoTime();
+                if (left <= 0) {
+                    return;
+                }
+                Command next = queue.poll(left, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+        }
+
+        private void process(List<Command> batch) {
+            evictStaleLectures();
+
+            List<EnrollCommand> accepted = new ArrayList<>();
+            for (Command command : batch) {
+                if (command instanceof ReleaseCommand release) {
+                    SeatState seat = seats.get(release.lectureId());
+                    if (seat != null && seat.current > 0) {
+                        seat.current--;
+                    }
+                    continue;
+                }
+
+                EnrollCommand enroll = (EnrollCommand) command;
+                if (!enroll.tryClaim()) {
+                    // 호출자가 이미 타임아웃으로 포기한 요청
+                    continue;
+                }
+                processed.increment();
+
+                SeatState seat = seatOf(enroll.lectureId());
+                if (seat == null) {
+                    reject(enroll, new CustomException(ErrorCode.LECTURE_NOT_FOUND));
+                    continue;
+                }
+                if (seat.current >= seat.max) {
+                    reject(enroll, new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL));
+                    continue;
+                }
+                seat.current++;
+                accepted.add(enroll);
+            }
+
+            if (!accepted.isEmpty()) {
+                commit(accepted);
+            }
+        }
+
+        private void commit(List<EnrollCommand> accepted) {
+            Map<EnrollCommand, CustomException> failures = new IdentityHashMap<>();
+
+            long startedAt = System.nanoTime();
+            try {
+                commitBatch(accepted, failures);
+            } catch (Exception e) {
+                failures.clear();
+                if (accepted.size() == 1) {
+                    failures.put(accepted.get(0), toCustomException(e));
+                } else {
+                    // 배치 전체가 실패하면 요청별로 다시 커밋해 실패 범위를 좁힌다
+                    batchSplits.increment();
+                    log.warn("시퀀서 배치 커밋 실패, 개별 커밋으로 재시도 - partition={}, size={}", index, accepted.size(), e);
+                    for (EnrollCommand command : accepted) {
+                        try {
+                            commitBatch(List.of(command), failures);
+                        } catch (Exception single) {
+                            failures.put(command, toCustomException(single));
+                        }
+                    }
+                }
+            }
+
+            long elapsed = System.nanoTime() - startedAt;
+            batches.increment();
+            batchedCommands.add(accepted.size());
+            maxBatchSize.accumulate(accepted.size());
+            lastBatchSize = accepted.size();
+            commitNanos.add(elapsed);
+            maxCommitNanos.accumulate(elapsed);
+
+            for (EnrollCommand command : accepted) {
+                CustomException failure = failures.get(command);
+                if (failure == null) {
+                    committed.increment();
+                    command.result().complete(null);
+                    continue;
+                }
+                SeatState seat = seats.get(command.lectureId());
+                if (seat != null && seat.current > 0) {
+                    seat.current--;
+                }
+                reject(command, failure);
+            }
+        }
+
+        private void commitBatch(List<EnrollCommand> commands, Map<EnrollCommand, CustomException> failures) {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<EnrollCommand> ordered = new ArrayList<>(commands);
+                ordered.sort(Comparator.comparing(EnrollCommand::studentNumber));
+
+                List<Enrollment> pending = new ArrayList<>();
+                Set<Long> pendingStudents = new HashSet<>();
+                Map<Long, Integer> increments = new TreeMap<>();
+
+                for (EnrollCommand command : ordered) {
+                    try {
+                        Student student = studentMapper.findByStudentNumberForUpdate(command.studentNumber());
+                        if (student == null) {
+                            throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
+                        }
+                        Long studentId = student.getId();
+
+                        // 같은 학생의 앞선 신청이 아직 INSERT 전이면 먼저 반영해야 중복 신청 검사가 정확하다
+                        if (pendingStudents.contains(studentId)) {
+                            insertPending(pending);
+                            pendingStudents.clear();
+                        }
+
+                        StudentEnrollmentSummary summary = summaryService.getForUpdate(studentId);
+                        Lecture lecture = seats.get(command.lectureId()).lecture;
+                        ruleChecker.checkNotEnrolled(studentId, command.lectureId());
+                        ruleChecker.checkCreditLimit(summary, lecture, creditPolicy.maxCredits(student));
+                        ruleChecker.checkTimeConflict(summary, command.lectureId());
+
+                        // 요약 행은 바로 갱신 (같은 학생의 다음 요청이 갱신된 학점/시간표로 검사됨)
+                        summaryService.applyEnroll(summary, command.lectureId(), lecture.getCredit());
+
+                        Enrollment enrollment = new Enrollment();
+                        enrollment.setStudentId(studentId);
+                        enrollment.setLectureId(command.lectureId());
+                        pending.add(enrollment);
+                        pendingStudents.add(studentId);
+                        increments.merge(command.lectureId(), 1, Integer::sum);
+                    } catch (CustomException e) {
+                        failures.put(command, e);
+                    }
+                }
+
+                insertPending(pending);
+                if (!increments.isEmpty()) {
+                    int updated = enrollmentMapper.increaseCurrentCounts(increments);
+                    if (updated != increments.size()) {
+                        // 파티션 좌석 수가 DB 보다 뒤처진 강의가 있음 → 롤백 후 개별 커밋으로 해당 요청만 정원 초과 처리
+                        capacityOverflows.increment();
+                        staleLectures.addAll(increments.keySet());
+                        throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
+                    }
+                    dirtyLectureTracker.markDirty(increments.keySet());
+                }
+            });
+        }
+
+        private void insertPending(List<Enrollment> pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            // 실패 시 트랜잭션 전체를 롤백시킨다 (CustomException 이 아니므로 요청별 실패로 흡수되지 않음)
+            int inserted = enrollmentMapper.insertEnrollments(pending);
+            if (inserted != pending.size()) {
+                throw new IllegalStateException("multi-row INSERT 반영 건수 불일치: " + inserted + "/" + pending.size());
+            }
+            pending.clear();
+        }
+
+        private SeatState seatOf(Long lectureId) {
+            SeatState seat = seats.get(lectureId);
+            if (seat != null) {
+                return seat;
+            }
+            Lecture lecture = lectureMapper.findById(lectureId);
+            if (lecture == null) {
+                return null;
+            }
+            seat = new SeatState(lecture);
+            seats.put(lectureId, seat);
+            return seat;
+        }
+
+        private void evictStaleLectures() {
+            if (evictAll) {
+                evictAll = false;
+                seats.clear();
+            }
+            Iterator<Long> iterator = staleLectures.iterator();
+            while (iterator.hasNext()) {
+                seats.remove(iterator.next());
+                iterator.remove();
+            }
+        }
+
+        private void reject(EnrollCommand command, CustomException e) {
+            rejected.increment();
+            command.result().completeExceptionally(e);
+        }
+
+        private void failPending(List<Command> commands, CustomException e) {
+            for (Command command : commands) {
+                if (command instanceof EnrollCommand enroll && !enroll.result().isDone()) {
+                    reject(enroll, e);
+                }
+            }
+        }
+    }
+
+    private CustomException toCustomException(Exception e) {
+        if (e instanceof CustomException ce) {
+            return ce;
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            // 유니크 인덱스 충돌 → 이미 신청한 강의
+            return new CustomException(ErrorCode.ALREADY_ENROLLED);
+        }
+        log.error("시퀀서 커밋 실패", e);
+        return new CustomException(ErrorCode.ENROLLMENT_FAILED, e);
+    }
+}
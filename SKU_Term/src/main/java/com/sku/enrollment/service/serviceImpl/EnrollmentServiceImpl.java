@@ -3,23 +3,53 @@ package com.sku.enrollment.service.serviceImpl;
 import com.sku.common.exception.CustomException;
 import com.sku.common.util.ErrorCode;
 import com.sku.enrollment.dto.EnrollmentListResponseDto;
+import com.sku.enrollment.event.SeatReleasedEvent;
 import com.sku.enrollment.mapper.EnrollmentMapper;
 import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.enums.StudentLockMode;
+import com.sku.enrollment.support.CreditLimitPolicy;
+import com.sku.enrollment.support.DirtyLectureTracker;
 import com.sku.lecture.mapper.LectureMapper;
 import com.sku.lecture.vo.Lecture;
-import com.sku.lecture.vo.LectureTime;
 import com.sku.member.mapper.StudentMapper;
 import com.sku.member.vo.Student;
+import com.sku.enrollment.service.EnrollmentIdempotencyService;
+import com.sku.enrollment.service.EnrollmentSequencerService;
 import com.sku.enrollment.service.EnrollmentService;
+import com.sku.enrollment.service.LectureSeatShardService;
+import com.sku.enrollment.service.SeatCounterService;
+import com.sku.enrollment.service.SeatReservationService;
+import com.sku.enrollment.service.SoldOutCacheService;
+import com.sku.enrollment.service.StudentCreditLedgerService;
+import com.sku.enrollment.service.StudentEnrollmentSummaryService;
+import com.sku.enrollment.service.StudentLockService;
+import com.sku.enrollment.support.EnrollmentMetrics;
+import com.sku.enrollment.support.EnrollmentRuleChecker;
+import com.sku.enrollment.support.LectureContentionTracker;
+import com.sku.enrollment.support.LectureWaitlistGate;
+import com.sku.enrollment.util.StripedSeatCounter;
+import com.sku.enrollment.vo.StudentEnrollmentSummary;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -29,11 +59,38 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     private final EnrollmentMapper enrollmentMapper;
     private final LectureMapper lectureMapper;
     private final StudentMapper studentMapper;
+    private final SeatReservationService seatReservationService;
+    private final SeatCounterService seatCounterService;
+    private final LectureSeatShardService seatShardService;
+    private final EnrollmentSequencerService sequencerService;
+    private final StudentEnrollmentSummaryService summaryService;
+    private final StudentLockService studentLockService;
+    private final EnrollmentMetrics metrics;
+    private final LectureContentionTracker contentionTracker;
+    private final DirtyLectureTracker dirtyLectureTracker;
+    private final SoldOutCacheService soldOutCacheService;
+    private final LectureWaitlistGate waitlistGate;
+    private final EnrollmentIdempotencyService idempotencyService;
+    private final StudentCreditLedgerService creditLedgerService;
+    private final CreditLimitPolicy creditPolicy;
+    private final EnrollmentRuleChecker ruleChecker;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${peakguard.enrollment.lock-mode:NONE}")
     private EnrollmentLockMode lockMode;
 
-    private static final int MAX_CREDIT = 20;
+    @Value("${peakguard.enrollment.student-lock.mode:ROW_LOCK}")
+    private StudentLockMode studentLockMode;
+
+    @Value("${peakguard.enrollment.optimistic.max-retries:5}")
+    private int optimisticMaxRetries;
+
+    @Value("${peakguard.enrollment.optimistic.backoff-base-ms:5}")
+    private long optimisticBackoffBaseMs;
+
+    @Value("${peakguard.enrollment.optimistic.backoff-max-ms:100}")
+    private long optimisticBackoffMaxMs;
 
     @Value("${peakguard.enrollment.cancel-start-date:2025-03-01}")
     private String cancelStartDateStr;
@@ -59,9 +116,148 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
-    @Transactional(rollbackFor = Exception.class)
+    public void enroll(String studentNumber, Long lectureId, String idempotencyKey) {
+        idempotencyService.execute(studentNumber, lectureId, idempotencyKey, () -> enroll(studentNumber, lectureId));
+    }
+
+    @Override
     public void enroll(String studentNumber, Long lectureId) {
+        contentionTracker.begin();
+
+        // 마감된 강의, 대기 학생에게 보류 중인 강의는 트랜잭션/학생 락 없이 즉시 거절
+        if (soldOutCacheService.isSoldOut(lectureId) || waitlistGate.isHeld(lectureId)) {
+            metrics.recordRejected(lockMode, ErrorCode.ENROLLMENT_CAPACITY_FULL);
+            contentionTracker.recordRejected(lectureId, ErrorCode.ENROLLMENT_CAPACITY_FULL);
+            throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
+        }
+        executeEnroll(studentNumber, lectureId);
+    }
+
+    @Override
+    public void enrollReleasedSeat(String studentNumber, Long lectureId) {
+        contentionTracker.begin();
+
+        // 다른 노드의 마감 해제 전파가 늦어도 승급이 캐시에 막히지 않도록 바로 판정 (정원 초과면 다시 마감 표시)
+        executeEnroll(studentNumber, lectureId);
+    }
+
+    private void executeEnroll(String studentNumber, Long lectureId) {
+        long startedAt = System.nanoTime();
+        boolean creditReserved = false;
+        try {
+            // 학점 초과는 MySQL 작업 전에 Redis 원장에서 거절
+            // (REDIS_RESERVATION 은 원장이 비활성화되고 예약 스크립트가 학점까지 판정)
+            creditReserved = creditLedgerService.reserve(studentNumber, lectureId);
+            dispatchEnroll(studentNumber, lectureId);
+            metrics.recordSuccess(lockMode);
+            contentionTracker.recordSuccess(lectureId);
+        } catch (CustomException e) {
+            if (creditReserved) {
+                creditLedgerService.release(studentNumber, lectureId);
+            }
+            if (e.getErrorCode() == ErrorCode.ENROLLMENT_CAPACITY_FULL) {
+                soldOutCacheService.markSoldOut(lectureId);
+            }
+            metrics.recordRejected(lockMode, e.getErrorCode());
+            contentionTracker.recordRejected(lectureId, e.getErrorCode());
+            throw e;
+        } catch (RuntimeException e) {
+            if (creditReserved) {
+                creditLedgerService.release(studentNumber, lectureId);
+            }
+            metrics.recordError(lockMode);
+            contentionTracker.recordError(lectureId);
+            throw e;
+        } finally {
+            metrics.recordLatency(System.nanoTime() - startedAt);
+        }
+    }
+
+    private void dispatchEnroll(String studentNumber, Long lectureId) {
+        if (lockMode == EnrollmentLockMode.REDIS_RESERVATION) {
+            enrollWithRedisReservation(studentNumber, lectureId);
+            return;
+        }
+        if (lockMode == EnrollmentLockMode.IN_MEMORY_COUNTER) {
+            enrollWithInMemoryCounter(studentNumber, lectureId);
+            return;
+        }
+        if (lockMode == EnrollmentLockMode.SEQUENCER) {
+            // 강의 파티션 스레드가 좌석 판정 + 배치 커밋 (호출자 트랜잭션과 분리됨)
+            sequencerService.submit(studentNumber, lectureId);
+            return;
+        }
+        if (lockMode == EnrollmentLockMode.OPTIMISTIC) {
+            enrollWithOptimisticRetry(studentNumber, lectureId);
+            return;
+        }
+
+        // DB 락 기반 모드
+        enrollWithDatabaseLock(studentNumber, lectureId, () -> { });
+    }
+
+    /**
+     * OPTIMISTIC
+     * - Lecture row 락 없이 조회한 버전으로 조건부 증가, 버전이 바뀌었으면 롤백 후 재시도
+     * - 재시도 간격은 full jitter 지수 백오프 (동시에 충돌한 요청들이 다시 같은 순간에 몰리지 않도록)
+     * - 호출자 트랜잭션 안에서는 같은 스냅샷을 다시 읽게 되므로 재시도하지 않는다
+     */
+    private void enrollWithOptimisticRetry(String studentNumber, Long lectureId) {
+        int maxRetries = TransactionSynchronizationManager.isActualTransactionActive() ? 0 : optimisticMaxRetries;
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                enrollWithDatabaseLock(studentNumber, lectureId, () -> { });
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                metrics.recordConflict(lockMode);
+                if (attempt >= maxRetries) {
+                    log.warn("낙관적 갱신 재시도 초과 - lectureId={}, attempts={}", lectureId, attempt + 1);
+                    throw new CustomException(ErrorCode.ENROLLMENT_BUSY, e);
+                }
+            }
+
+            metrics.recordRetry(lockMode);
+            long ceiling = Math.min(optimisticBackoffMaxMs, optimisticBackoffBaseMs << attempt);
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ErrorCode.ENROLLMENT_BUSY, e);
+            }
+        }
+    }
+
+    /**
+     * DB 락 기반 모드 공통 진입점
+     * - ROW_LOCK: Student row 락을 잡은 트랜잭션 안에서 검사 + 쓰기
+     * - LOCAL_STRIPED / REDIS: 학생 락 안에서 검사는 트랜잭션 밖, 쓰기만 짧은 트랜잭션
+     * - 호출자(장바구니 등)의 트랜잭션이 이미 있으면 학생 락을 커밋까지 유지할 수 없으므로 ROW_LOCK 으로 참여
+     *
+     * @param onTransactionStart 쓰기 트랜잭션 시작 직후 실행 (IN_MEMORY_COUNTER 선점 바인딩)
+     */
+    private void enrollWithDatabaseLock(String studentNumber, Long lectureId, Runnable onTransactionStart) {
+        if (!usesStudentLock()) {
+            executeTimed(status -> {
+                onTransactionStart.run();
+                enrollInTransaction(studentNumber, lectureId);
+            });
+            return;
+        }
+
+        Student student = studentMapper.findByStudentNumber(studentNumber);
+        if (student == null) {
+            throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
+        }
+        Long studentId = student.getId();
+
+        int maxCredits = creditPolicy.maxCredits(student);
+
+        studentLockService.runWithLock(studentId,
+                () -> enrollWithShortTransaction(studentId, maxCredits, lectureId, onTransactionStart));
+    }
 
+    private void enrollInTransaction(String studentNumber, Long lectureId) {
 
         Student student = studentMapper.findByStudentNumberForUpdate(studentNumber);
         if (student == null) {
@@ -71,7 +267,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 
         Lecture lecture;
         if (lockMode == EnrollmentLockMode.PESSIMISTIC) {
-            lecture = enrollmentMapper.findLectureWithLock(lectureId);
+            lecture = timedLock(() -> enrollmentMapper.findLectureWithLock(lectureId));
         } else {
             lecture = lectureMapper.findById(lectureId);
         }
@@ -79,39 +275,122 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             throw new CustomException(ErrorCode.LECTURE_NOT_FOUND);
         }
 
-        int exists = enrollmentMapper.existsEnrollment(studentId, lectureId);
-        if (exists > 0) {
-            throw new CustomException(ErrorCode.ALREADY_ENROLLED);
+        // 학점/시간표는 요약 행 PK 조회 1회로 판정
+        StudentEnrollmentSummary summary = summaryService.getForUpdate(studentId);
+
+        ruleChecker.checkNotEnrolled(studentId, lectureId);
+        ruleChecker.checkCreditLimit(summary, lecture, creditPolicy.maxCredits(student));
+
+        if (!isAtomicIncrease()) {
+            checkCapacity(lecture);
+        }
+
+        ruleChecker.checkTimeConflict(summary, lectureId);
+
+        writeEnrollment(studentId, lecture, summary);
+
+        log.info("수강신청 완료(lockMode={}) - studentId={}, lectureId={}", lockMode, studentId, lectureId);
+    }
+
+    /**
+     * 학생 락(LOCAL_STRIPED / REDIS) 안에서 실행
+     * - 학생 단위 검사(중복/학점/시간표)는 트랜잭션 밖에서 수행 → InnoDB 락 보유 시간 최소화
+     * - 학생 요약 행은 같은 학생 락 안에서만 갱신되므로 락 없이 읽어도 된다
+     */
+    private void enrollWithShortTransaction(Long studentId, int maxCredits, Long lectureId, Runnable onTransactionStart) {
+
+        Lecture lecture = lectureMapper.findById(lectureId);
+        if (lecture == null) {
+            throw new CustomException(ErrorCode.LECTURE_NOT_FOUND);
         }
 
-        int currentCredits = enrollmentMapper.sumCreditsByStudent(studentId);
-        int totalAfterEnroll = currentCredits + (lecture.getCredit() != null ? lecture.getCredit() : 0);
-        if (totalAfterEnroll > MAX_CREDIT) {
-            throw new CustomException(ErrorCode.CREDIT_EXCEEDED);
+        StudentEnrollmentSummary summary = summaryService.get(studentId);
+
+        ruleChecker.checkNotEnrolled(studentId, lectureId);
+        ruleChecker.checkCreditLimit(summary, lecture, maxCredits);
+        ruleChecker.checkTimeConflict(summary, lectureId);
+
+        if (lockMode == EnrollmentLockMode.NONE || lockMode == EnrollmentLockMode.OPTIMISTIC) {
+            checkCapacity(lecture);
         }
 
-        if (lockMode != EnrollmentLockMode.ATOMIC_UPDATE) {
-            if (lecture.getCurrentCount() >= lecture.getMaxCapacity()) {
-                throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
+        executeTimed(status -> {
+            onTransactionStart.run();
+            if (lockMode == EnrollmentLockMode.PESSIMISTIC) {
+                // Lecture row 락만 쓰기 트랜잭션 안에서 잡는다
+                Lecture locked = timedLock(() -> enrollmentMapper.findLectureWithLock(lectureId));
+                checkCapacity(locked);
             }
+            writeEnrollment(studentId, lecture, summary);
+        });
+
+        log.info("수강신청 완료(lockMode={}, studentLock={}) - studentId={}, lectureId={}",
+                lockMode, studentLockMode, studentId, lectureId);
+    }
+
+    // 쓰기 트랜잭션(커밋 포함) 소요 시간을 강의 경합 지표에 누적
+    private void executeTimed(Consumer<TransactionStatus> action) {
+        long startedAt = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(action);
+        } finally {
+            contentionTracker.addTransaction(System.nanoTime() - startedAt);
         }
+    }
 
-        List<LectureTime> enrolledTimes = enrollmentMapper.findEnrolledLectureTimes(studentId);
-        List<LectureTime> newLectureTimes = lectureMapper.findTimesByLectureId(lectureId);
-        if (hasTimeConflict(enrolledTimes, newLectureTimes)) {
-            throw new CustomException(ErrorCode.TIME_CONFLICT);
+    // Lecture row 락을 잡는 구문의 대기(+실행) 시간을 강의 경합 지표에 누적
+    private <T> T timedLock(Supplier<T> statement) {
+        long startedAt = System.nanoTime();
+        try {
+            return statement.get();
+        } finally {
+            contentionTracker.addLockWait(System.nanoTime() - startedAt);
         }
+    }
+
+    private boolean isAtomicIncrease() {
+        return lockMode == EnrollmentLockMode.ATOMIC_UPDATE
+                || lockMode == EnrollmentLockMode.IN_MEMORY_COUNTER
+                || lockMode == EnrollmentLockMode.SHARDED_COUNTER;
+    }
+
+    private boolean usesSeatShards(Lecture lecture) {
+        return lockMode == EnrollmentLockMode.SHARDED_COUNTER
+                && lecture.getSeatShards() != null
+                && lecture.getSeatShards() > 1;
+    }
 
-        int inc;
-        if (lockMode == EnrollmentLockMode.ATOMIC_UPDATE) {
-            inc = enrollmentMapper.increaseCurrentCountIfAvailable(lectureId);
+    private void checkCapacity(Lecture lecture) {
+        if (lecture.getCurrentCount() >= lecture.getMaxCapacity()) {
+            throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
+        }
+    }
+
+    // 정원 증가 + 신청 INSERT + 요약 행 갱신
+    private void writeEnrollment(Long studentId, Lecture lecture, StudentEnrollmentSummary summary) {
+        Long lectureId = lecture.getId();
+
+        if (lockMode == EnrollmentLockMode.OPTIMISTIC) {
+            int inc = timedLock(() -> enrollmentMapper.increaseCurrentCountIfVersionMatches(lectureId, lecture.getVersion()));
+            if (inc == 0) {
+                // 조회 이후 다른 요청이 정원을 바꿨음 → 트랜잭션 롤백 후 재시도
+                throw new OptimisticLockingFailureException("Lecture version conflict - lectureId=" + lectureId);
+            }
+        } else if (usesSeatShards(lecture)) {
+            // Lecture 행 대신 샤드 행에서 차감 (LECTURE_CURRENT_COUNT 는 샤드 합계로 주기 동기화)
+            boolean claimed = timedLock(() -> seatShardService.claim(lectureId, lecture.getSeatShards()));
+            if (!claimed) {
+                throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
+            }
+        } else if (isAtomicIncrease()) {
+            int inc = timedLock(() -> enrollmentMapper.increaseCurrentCountIfAvailable(lectureId));
             if (inc == 0) {
                 throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
             }
         } else {
-            inc = enrollmentMapper.increaseCurrentCount(lectureId);
+            timedLock(() -> enrollmentMapper.increaseCurrentCount(lectureId));
         }
-
+        dirtyLectureTracker.markDirty(lectureId);
 
         try {
             int inserted = enrollmentMapper.insertEnrollment(studentId, lectureId);
@@ -122,6 +401,81 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             // 유니크 인덱스 충돌 → 이미 신청한 강의
             throw new CustomException(ErrorCode.ALREADY_ENROLLED);
         }
+        summaryService.applyEnroll(summary, lectureId, lecture.getCredit());
+    }
+
+    /**
+     * IN_MEMORY_COUNTER
+     * - JVM 카운터에서 CAS 로 좌석을 먼저 선점하고, 선점에 성공한 요청만 트랜잭션을 연다
+     * - 정원 초과 요청은 DB 접근 없이 즉시 거절
+     * - DB 는 increaseCurrentCountIfAvailable 로 한 번 더 방어 (카운터 불일치 대비)
+     */
+    private void enrollWithInMemoryCounter(String studentNumber, Long lectureId) {
+
+        int claim = seatCounterService.tryClaim(lectureId);
+        if (claim == StripedSeatCounter.FULL) {
+            throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
+        }
+        if (claim == StripedSeatCounter.UNKNOWN) {
+            // 적재 이후 추가된 강의는 DB 조건부 증가로만 처리 (관리자 재동기화 시 카운터에 편입)
+            enrollWithDatabaseLock(studentNumber, lectureId, () -> { });
+            return;
+        }
+
+        AtomicBoolean bound = new AtomicBoolean(false);
+        try {
+            enrollWithDatabaseLock(studentNumber, lectureId, () -> {
+                // 이후 롤백/커밋 결과에 따라 afterCompletion 에서 반환/확정
+                seatCounterService.bindClaimToTransaction(lectureId);
+                bound.set(true);
+            });
+        } finally {
+            if (!bound.get()) {
+                // 트랜잭션 진입 전(검사 실패/학생 락 대기 초과 등)에 끝난 경우
+                seatCounterService.abortClaim(lectureId);
+            }
+        }
+    }
+
+    /**
+     * REDIS_RESERVATION
+     * - 정원/중복/학점 판정은 Redis Lua 스크립트 1회로 처리 (Lecture row 락 없음)
+     * - 시간표 충돌은 예약 전/후 두 번 확인 (동시 요청 간 충돌 누락 방지)
+     * - MySQL 반영은 write-behind 워커가 비동기로 처리
+     */
+    private void enrollWithRedisReservation(String studentNumber, Long lectureId) {
+
+        Student student = studentMapper.findByStudentNumber(studentNumber);
+        if (student == null) {
+            throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
+        }
+        Long studentId = student.getId();
+
+        Set<Long> reserved = seatReservationService.getReservedLectureIds(studentId);
+        if (reserved.contains(lectureId)) {
+            throw new CustomException(ErrorCode.ALREADY_ENROLLED);
+        }
+        ruleChecker.checkTimeConflict(reserved, lectureId);
+
+        seatReservationService.reserve(studentId, lectureId, creditPolicy.maxCredits(student));
+
+        boolean confirmed = false;
+        try {
+            // 예약 사이에 다른 요청이 시간이 겹치는 강의를 예약했는지 재확인
+            Set<Long> afterReserve = seatReservationService.getReservedLectureIds(studentId);
+            afterReserve.remove(lectureId);
+            if (!afterReserve.equals(reserved) && ruleChecker.hasTimeConflict(afterReserve, lectureId)) {
+                throw new CustomException(ErrorCode.TIME_CONFLICT);
+            }
+
+            seatReservationService.confirmReservation(studentId, lectureId);
+            confirmed = true;
+        } finally {
+            // 확정 기록 전에 끝나면 (시간표 충돌/Redis 예외 모두) 예약 보상
+            if (!confirmed) {
+                seatReservationService.abortReservation(studentId, lectureId);
+            }
+        }
 
         log.info("수강신청 완료(lockMode={}) - studentId={}, lectureId={}", lockMode, studentId, lectureId);
     }
@@ -132,20 +486,40 @@ public class EnrollmentServiceImpl implements EnrollmentService {
      * - 삭제 + 정원 감소
      */
     @Override
-    @Transactional(rollbackFor = Exception.class)
     public void cancel(String studentNumber, Long lectureId) {
 
         if (lectureId == null || lectureId <= 0) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        //  학생 조회
-        Student student = studentMapper.findByStudentNumberForUpdate(studentNumber);
+        if (!usesStudentLock()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                //  학생 조회
+                Student student = studentMapper.findByStudentNumberForUpdate(studentNumber);
+                if (student == null) {
+                    throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
+                }
+                cancelInTransaction(student.getId(), lectureId);
+            });
+            idempotencyService.invalidate(studentNumber, lectureId);
+            creditLedgerService.releaseAfterCommit(studentNumber, lectureId);
+            return;
+        }
+
+        Student student = studentMapper.findByStudentNumber(studentNumber);
         if (student == null) {
             throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
         }
         Long studentId = student.getId();
 
+        studentLockService.runWithLock(studentId, () ->
+                transactionTemplate.executeWithoutResult(status -> cancelInTransaction(studentId, lectureId)));
+        idempotencyService.invalidate(studentNumber, lectureId);
+        creditLedgerService.releaseAfterCommit(studentNumber, lectureId);
+    }
+
+    private void cancelInTransaction(Long studentId, Long lectureId) {
+
         //  취소 가능 기간 체크
         validateCancelPeriod();
 
@@ -154,20 +528,63 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         if (exists == 0) {
             throw new CustomException(ErrorCode.ENROLLMENT_NOT_FOUND);
         }
+        // 요약 행은 DELETE 전에 잡는다 (행이 없어 새로 만들 때 취소할 강의까지 포함해야 차감이 맞다)
+        StudentEnrollmentSummary summary = summaryService.getForUpdate(studentId);
         int deleted = enrollmentMapper.deleteEnrollment(studentId, lectureId);
         if (deleted == 0) {
             throw new CustomException(ErrorCode.ENROLLMENT_FAILED);
         }
 
-        // 정원 감소
-        int dec = enrollmentMapper.decreaseCurrentCount(lectureId);
-        if (dec == 0) {
-            log.warn("강의 정원 감소에 실패했습니다. lectureId={}", lectureId);
+        Lecture lecture = lectureMapper.findById(lectureId);
+        summaryService.applyCancel(summary, lectureId, lecture != null ? lecture.getCredit() : null);
+
+        // 정원 감소 (샤드 강의는 샤드에 좌석 반환)
+        boolean releasedToShard = lockMode == EnrollmentLockMode.SHARDED_COUNTER && seatShardService.release(lectureId);
+        if (!releasedToShard) {
+            int dec = enrollmentMapper.decreaseCurrentCount(lectureId);
+            if (dec == 0) {
+                log.warn("강의 정원 감소에 실패했습니다. lectureId={}", lectureId);
+            }
+        }
+        dirtyLectureTracker.markDirty(lectureId);
+        // 대기 학생이 있으면 마감 표시를 유지해 반환 좌석을 승급기에 보류 (대기열이 비면 승급기가 해제)
+        if (!waitlistGate.hasWaiting(lectureId)) {
+            soldOutCacheService.markAvailable(lectureId);
+        }
+        // 커밋 후 대기열 승급 (EnrollmentWaitlistService)
+        eventPublisher.publishEvent(new SeatReleasedEvent(lectureId));
+
+        if (lockMode == EnrollmentLockMode.REDIS_RESERVATION) {
+            releaseSeatAfterCommit(studentId, lectureId);
+        } else if (lockMode == EnrollmentLockMode.IN_MEMORY_COUNTER) {
+            seatCounterService.releaseAfterCommit(lectureId);
+        } else if (lockMode == EnrollmentLockMode.SEQUENCER) {
+            sequencerService.releaseAfterCommit(lectureId);
         }
 
         log.info("수강취소 완료 - studentId={}, lectureId={}", studentId, lectureId);
     }
 
+    // 학생 락 모드는 DB 락 기반 lock mode 에서만, 호출자 트랜잭션이 없을 때만 사용
+    private boolean usesStudentLock() {
+        if (studentLockMode == StudentLockMode.ROW_LOCK
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        return lockMode != EnrollmentLockMode.REDIS_RESERVATION
+                && lockMode != EnrollmentLockMode.SEQUENCER;
+    }
+
+    // DB 커밋이 확정된 뒤에만 Redis 좌석을 반환한다.
+    private void releaseSeatAfterCommit(Long studentId, Long lectureId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatReservationService.release(studentId, lectureId);
+            }
+        });
+    }
+
     /**
      * 수강신청 목록 조회
      */
@@ -184,44 +601,4 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         List<EnrollmentListResponseDto> list = enrollmentMapper.findMyEnrollments(studentId);
         return list;
     }
-
-
-
-    /**
-     *  시간표 중복 체크
-     */
-    private boolean hasTimeConflict(List<LectureTime> existing, List<LectureTime> target) {
-        if (existing == null || existing.isEmpty() || target == null || target.isEmpty()) {
-            return false;
-        }
-
-        for (LectureTime newTime : target) {
-            for (LectureTime ex : existing) {
-                if (!safeEqualsIgnoreCase(newTime.getDayOfWeek(), ex.getDayOfWeek())) {
-                    continue;
-                }
-
-                // 시간 겹치는지
-                if (newTime.getStartTime() != null && newTime.getEndTime() != null
-                        && ex.getStartTime() != null && ex.getEndTime() != null) {
-
-                    boolean overlap =
-                            newTime.getStartTime().isBefore(ex.getEndTime()) &&
-                                    ex.getStartTime().isBefore(newTime.getEndTime());
-
-                    if (overlap) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
-    private boolean safeEqualsIgnoreCase(String a, String b) {
-        if (a == null || b == null) return false;
-        return a.equalsIgnoreCase(b);
-    }
-
-
 }
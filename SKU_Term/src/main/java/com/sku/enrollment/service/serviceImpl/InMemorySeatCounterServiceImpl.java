@@ -0,0 +1,127 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.service.SeatCounterService;
+import com.sku.enrollment.util.StripedSeatCounter;
+import com.sku.lecture.mapper.LectureMapper;
+import com.sku.lecture.vo.Lecture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InMemorySeatCounterServiceImpl implements SeatCounterService {
+
+    private final LectureMapper lectureMapper;
+
+    @Value("${peakguard.enrollment.lock-mode:NONE}")
+    private EnrollmentLockMode lockMode;
+
+    private volatile StripedSeatCounter counter = StripedSeatCounter.empty();
+
+    // 선점했지만 아직 트랜잭션이 끝나지 않은 좌석 수 (재동기화 시 DB 값에 더해 반영)
+    private final ConcurrentHashMap<Long, AtomicInteger> pendingClaims = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (lockMode != EnrollmentLockMode.IN_MEMORY_COUNTER) {
+            return;
+        }
+        int loaded = load();
+        log.info("JVM 좌석 카운터 적재 완료 - lectures={}", loaded);
+    }
+
+    @Override
+    public synchronized int load() {
+        List<Lecture> lectures = lectureMapper.findAllSeatCounts();
+
+        int n = lectures.size();
+        long[] ids = new long[n];
+        long[] max = new long[n];
+        long[] occupied = new long[n];
+        for (int i = 0; i < n; i++) {
+            Lecture lecture = lectures.get(i);
+            ids[i] = lecture.getId();
+            max[i] = lecture.getMaxCapacity() == null ? 0 : lecture.getMaxCapacity();
+            occupied[i] = (lecture.getCurrentCount() == null ? 0 : lecture.getCurrentCount())
+                    + pendingOf(lecture.getId());
+        }
+
+        this.counter = new StripedSeatCounter(ids, max, occupied);
+        return n;
+    }
+
+    @Override
+    public int tryClaim(Long lectureId) {
+        int result = counter.tryClaim(lectureId);
+        if (result == StripedSeatCounter.CLAIMED) {
+            pendingClaims.computeIfAbsent(lectureId, id -> new AtomicInteger()).incrementAndGet();
+        }
+        return result;
+    }
+
+    @Override
+    public void bindClaimToTransaction(Long lectureId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    completeClaim(lectureId);
+                } else {
+                    abortClaim(lectureId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void abortClaim(Long lectureId) {
+        completeClaim(lectureId);
+        counter.release(lectureId);
+    }
+
+    @Override
+    public void releaseAfterCommit(Long lectureId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.release(lectureId);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> resync() {
+        int loaded = load();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("loadedLectures", loaded);
+        result.put("pendingClaims", pendingClaims.values().stream().mapToInt(AtomicInteger::get).sum());
+        return result;
+    }
+
+    private void completeClaim(Long lectureId) {
+        AtomicInteger pending = pendingClaims.get(lectureId);
+        if (pending != null) {
+            pending.decrementAndGet();
+        }
+    }
+
+    private int pendingOf(Long lectureId) {
+        AtomicInteger pending = pendingClaims.get(lectureId);
+        return pending == null ? 0 : Math.max(0, pending.get());
+    }
+}
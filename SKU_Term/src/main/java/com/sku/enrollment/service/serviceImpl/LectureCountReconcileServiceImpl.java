@@ -0,0 +1,192 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.enrollment.dto.LectureCountDriftDto;
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.service.EnrollmentSequencerService;
+import com.sku.enrollment.service.LectureCountReconcileService;
+import com.sku.enrollment.service.SoldOutCacheService;
+import com.sku.enrollment.support.DirtyLectureTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 증분 재계산
+ * - 배치(batch-size)마다 짧은 트랜잭션: 드리프트 조회 → 차이가 있는 row 만 조건부 UPDATE
+ *   (UPDATE 조건에서 신청 수를 다시 세므로 조회 이후 커밋된 신청/취소가 있어도 덮어쓰지 않는다)
+ * - 한 번에 max-lectures-per-run 개까지만 처리, 남은 강의는 다음 주기로
+ * - 보정 실패 배치(일시 오류)는 다시 변경 목록에 넣고, 제약조건 위반(정원 초과 상태 등)은 보고만 한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LectureCountReconcileServiceImpl implements LectureCountReconcileService {
+
+    private final EnrollmentMapper enrollmentMapper;
+    private final DirtyLectureTracker dirtyLectureTracker;
+    private final SoldOutCacheService soldOutCacheService;
+    private final EnrollmentSequencerService sequencerService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int RECENT_DRIFT_LIMIT = 50;
+
+    @Value("${peakguard.enrollment.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${peakguard.enrollment.reconcile.batch-size:100}")
+    private int batchSize;
+
+    @Value("${peakguard.enrollment.reconcile.max-lectures-per-run:2000}")
+    private int maxLecturesPerRun;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder checkedLectures = new LongAdder();
+    private final LongAdder driftedLectures = new LongAdder();
+    private final LongAdder fixedLectures = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+
+    // guarded by recentDrifts
+    private final Deque<LectureCountDriftDto> recentDrifts = new ArrayDeque<>();
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.reconcile.interval-ms:60000}")
+    public void scheduledReconcile() {
+        if (enabled && dirtyLectureTracker.size() > 0) {
+            reconcileDirty(false);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> reconcileDirty(boolean dryRun) {
+        long startedAt = System.currentTimeMillis();
+        List<Long> lectureIds = dryRun
+                ? dirtyLectureTracker.peek(maxLecturesPerRun)
+                : dirtyLectureTracker.drain(maxLecturesPerRun);
+
+        List<LectureCountDriftDto> drifts = new ArrayList<>();
+        int fixed = 0;
+        int failed = 0;
+
+        for (int from = 0; from < lectureIds.size(); from += batchSize) {
+            List<Long> batch = lectureIds.subList(from, Math.min(from + batchSize, lectureIds.size()));
+
+            if (dryRun) {
+                drifts.addAll(enrollmentMapper.findCountDriftByLectureIds(batch));
+                continue;
+            }
+
+            try {
+                BatchResult result = transactionTemplate.execute(status -> reconcileBatch(batch));
+                drifts.addAll(result.drifts());
+                fixed += result.fixed();
+                if (result.fixed() > 0) {
+                    // 시퀀서 파티션이 보정 전 정원 수를 들고 있지 않도록 다시 적재
+                    sequencerService.evictSeats(result.drifts().stream().map(LectureCountDriftDto::getLectureId).toList());
+                }
+            } catch (DataIntegrityViolationException e) {
+                failed++;
+                log.error("정원 재계산 제약조건 위반 - lectureIds={}", batch, e);
+            } catch (RuntimeException e) {
+                failed++;
+                dirtyLectureTracker.markDirty(batch);
+                log.warn("정원 재계산 실패, 다음 주기에 재시도 - batchSize={}", batch.size(), e);
+            }
+        }
+
+        if (fixed > 0) {
+            // 보정된 정원 기준으로 모든 노드의 마감 캐시 재적재
+            soldOutCacheService.refreshAll();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", "INCREMENTAL");
+        result.put("dryRun", dryRun);
+        result.put("checkedLectures", lectureIds.size());
+        result.put("driftedLectures", drifts.size());
+        result.put("fixedLectures", fixed);
+        result.put("failedBatches", failed);
+        result.put("remainingDirtyLectures", dirtyLectureTracker.size());
+        result.put("elapsedMs", System.currentTimeMillis() - startedAt);
+        result.put("drifts", drifts);
+
+        if (!dryRun) {
+            record(lectureIds.size(), drifts, fixed, failed);
+            lastRun = result;
+            if (!drifts.isEmpty()) {
+                log.warn("정원 드리프트 보정 - checked={}, drifted={}, fixed={}", lectureIds.size(), drifts.size(), fixed);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> reportAllDrift() {
+        long startedAt = System.currentTimeMillis();
+        List<LectureCountDriftDto> drifts = enrollmentMapper.findAllCountDrift();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", "FULL");
+        result.put("dryRun", true);
+        result.put("driftedLectures", drifts.size());
+        result.put("elapsedMs", System.currentTimeMillis() - startedAt);
+        result.put("drifts", drifts);
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("dirtyLectures", dirtyLectureTracker.size());
+        result.put("runs", runs.sum());
+        result.put("checkedLectures", checkedLectures.sum());
+        result.put("driftedLectures", driftedLectures.sum());
+        result.put("fixedLectures", fixedLectures.sum());
+        result.put("failedBatches", failedBatches.sum());
+        synchronized (recentDrifts) {
+            result.put("recentDrifts", new ArrayList<>(recentDrifts));
+        }
+        result.put("lastRun", lastRun);
+        return result;
+    }
+
+    private record BatchResult(List<LectureCountDriftDto> drifts, int fixed) {
+    }
+
+    private BatchResult reconcileBatch(List<Long> batch) {
+        List<LectureCountDriftDto> drifts = enrollmentMapper.findCountDriftByLectureIds(batch);
+        if (drifts.isEmpty()) {
+            return new BatchResult(drifts, 0);
+        }
+        List<Long> driftedIds = drifts.stream().map(LectureCountDriftDto::getLectureId).toList();
+        return new BatchResult(drifts, enrollmentMapper.recalculateCurrentCountsByLectureIds(driftedIds));
+    }
+
+    private void record(int checked, List<LectureCountDriftDto> drifts, int fixed, int failed) {
+        runs.increment();
+        checkedLectures.add(checked);
+        driftedLectures.add(drifts.size());
+        fixedLectures.add(fixed);
+        failedBatches.add(failed);
+        synchronized (recentDrifts) {
+            for (LectureCountDriftDto drift : drifts) {
+                recentDrifts.addLast(drift);
+                if (recentDrifts.size() > RECENT_DRIFT_LIMIT) {
+                    recentDrifts.removeFirst();
+                }
+            }
+        }
+    }
+}
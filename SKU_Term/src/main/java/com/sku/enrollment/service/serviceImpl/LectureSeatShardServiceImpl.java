@@ -0,0 +1,249 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.mapper.LectureSeatShardMapper;
+import com.sku.enrollment.service.LectureSeatShardService;
+import com.sku.enrollment.vo.LectureSeatShard;
+import com.sku.lecture.vo.Lecture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 좌석 차감
+ * - 락 없이 읽은 샤드 중 잔여 좌석이 있는 샤드를 임의 위치부터 순서대로 조건부 -1
+ * - 읽은 뒤 비어버린 샤드는 UPDATE 0건 → 다음 샤드로 넘어간다
+ * - 모든 샤드가 비었을 때만 정원 초과 (남은 좌석이 한 샤드에만 있어도 찾아간다)
+ *
+ * 반환
+ * - 잔여 좌석이 가장 적은 샤드에 +1 (평균 ceil(잔여/샤드 수) 아래인 샤드로 채워 샤드 간 편차를 줄인다)
+ *
+ * 재생성
+ * - 샤드 행을 FOR UPDATE 로 잡아 진행 중인 차감이 커밋되기를 기다린 뒤 Enrollment 수로 잔여 좌석을 다시 나눈다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LectureSeatShardServiceImpl implements LectureSeatShardService {
+
+    private final LectureSeatShardMapper shardMapper;
+    private final EnrollmentMapper enrollmentMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${peakguard.enrollment.lock-mode:NONE}")
+    private EnrollmentLockMode lockMode;
+
+    @Value("${peakguard.enrollment.seat-shard.max-shards:64}")
+    private int maxShards;
+
+    @Value("${peakguard.enrollment.seat-shard.sync-batch-size:500}")
+    private int syncBatchSize;
+
+    // LECTURE_CURRENT_COUNT 동기화 대상 (노드별)
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (lockMode != EnrollmentLockMode.SHARDED_COUNTER) {
+            return;
+        }
+
+        // 다른 mode 로 운영하는 동안 샤드가 갱신되지 않았으므로 Enrollment 기준으로 맞춘다
+        List<Long> stale = shardMapper.findStaleLectureIds();
+        for (Long lectureId : stale) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(lectureId, null));
+        }
+        log.info("좌석 샤드 모드 시작 - rebuiltLectures={}", stale.size());
+    }
+
+    @Override
+    public boolean claim(Long lectureId, int shards) {
+        List<LectureSeatShard> available = new ArrayList<>(shards);
+        for (LectureSeatShard shard : shardMapper.findByLectureId(lectureId)) {
+            if (shard.getRemaining() > 0) {
+                available.add(shard);
+            }
+        }
+        if (available.isEmpty()) {
+            return false;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(available.size());
+        for (int i = 0; i < available.size(); i++) {
+            LectureSeatShard shard = available.get((start + i) % available.size());
+            if (shardMapper.claimSeat(lectureId, shard.getShardNo()) == 1) {
+                changed.add(lectureId);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean release(Long lectureId) {
+        List<LectureSeatShard> shards = shardMapper.findByLectureId(lectureId);
+        if (shards.isEmpty()) {
+            return false;
+        }
+
+        // 최소 잔여 좌석은 항상 평균 이하이므로 ceil(잔여/샤드 수)를 넘지 않는다 (같은 값이면 임의 선택)
+        int min = Integer.MAX_VALUE;
+        List<LectureSeatShard> emptiest = new ArrayList<>();
+        for (LectureSeatShard shard : shards) {
+            if (shard.getRemaining() < min) {
+                min = shard.getRemaining();
+                emptiest.clear();
+            }
+            if (shard.getRemaining() == min) {
+                emptiest.add(shard);
+            }
+        }
+        LectureSeatShard shard = emptiest.get(ThreadLocalRandom.current().nextInt(emptiest.size()));
+        shardMapper.releaseSeat(lectureId, shard.getShardNo());
+        changed.add(lectureId);
+        return true;
+    }
+
+    @Override
+    public Map<String, Object> reshard(Long lectureId, int shards) {
+        if (shards < 1 || shards > maxShards) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        return transactionTemplate.execute(status -> rebuild(lectureId, shards));
+    }
+
+    @Override
+    public Map<String, Object> getShards(Long lectureId) {
+        List<LectureSeatShard> shards = shardMapper.findByLectureId(lectureId);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("lectureId", lectureId);
+        result.put("lockMode", lockMode.name());
+        result.put("shards", shards.size());
+        result.put("remaining", shards.stream().mapToInt(LectureSeatShard::getRemaining).sum());
+        result.put("remainingByShard", shards.stream().map(LectureSeatShard::getRemaining).toList());
+        return result;
+    }
+
+    @Override
+    public Integer getRemainingSeats(Long lectureId) {
+        List<LectureSeatShard> shards = shardMapper.findByLectureId(lectureId);
+        if (shards.isEmpty()) {
+            return null;
+        }
+        return shards.stream().mapToInt(LectureSeatShard::getRemaining).sum();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출
+     * - 락 순서: 샤드 행 → Lecture 행 (좌석 차감 트랜잭션도 샤드 행 → Enrollment INSERT 의 FK 공유 락 순서)
+     *
+     * @param shards 변경할 샤드 수 (null 이면 현재 설정 유지)
+     */
+    private Map<String, Object> rebuild(Long lectureId, Integer shards) {
+        shardMapper.lockByLectureId(lectureId);
+
+        Lecture lecture = enrollmentMapper.findLectureWithLock(lectureId);
+        if (lecture == null) {
+            throw new CustomException(ErrorCode.LECTURE_NOT_FOUND);
+        }
+        if (shards != null) {
+            shardMapper.updateSeatShards(lectureId, shards);
+        } else {
+            shards = lecture.getSeatShards() != null ? lecture.getSeatShards() : 1;
+        }
+
+        int enrolled = shardMapper.countEnrollmentsForShare(lectureId);
+        int remaining = Math.max(lecture.getMaxCapacity() - enrolled, 0);
+
+        shardMapper.deleteByLectureId(lectureId);
+        if (shards > 1) {
+            List<LectureSeatShard> rows = new ArrayList<>(shards);
+            for (int shardNo = 0; shardNo < shards; shardNo++) {
+                // 나머지는 앞 샤드부터 1석씩
+                int seats = remaining / shards + (shardNo < remaining % shards ? 1 : 0);
+                rows.add(new LectureSeatShard(lectureId, shardNo, seats));
+            }
+            shardMapper.insertShards(rows);
+        }
+        // 샤드와 LECTURE_CURRENT_COUNT 를 같은 기준(실제 신청 수)으로 맞춘다
+        enrollmentMapper.recalculateCurrentCountsByLectureIds(List.of(lectureId));
+
+        log.info("좌석 샤드 재생성 - lectureId={}, shards={}, enrolled={}, remaining={}",
+                lectureId, shards, enrolled, remaining);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("lectureId", lectureId);
+        result.put("shards", shards);
+        result.put("enrolled", enrolled);
+        result.put("remaining", remaining);
+        return result;
+    }
+
+    /**
+     * 샤드 합계 → LECTURE_CURRENT_COUNT
+     * - 신청마다 Lecture 행을 갱신하지 않는 대신 강의당 sync-ms 에 한 번만 갱신한다
+     */
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.seat-shard.sync-ms:1000}")
+    public void syncCurrentCounts() {
+        if (lockMode != EnrollmentLockMode.SHARDED_COUNTER || changed.isEmpty()) {
+            return;
+        }
+
+        List<Long> batch = new ArrayList<>();
+        Iterator<Long> iterator = changed.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == syncBatchSize || !iterator.hasNext()) {
+                try {
+                    shardMapper.syncCurrentCounts(batch);
+                } catch (RuntimeException e) {
+                    log.warn("좌석 샤드 합계 동기화 실패 - lectures={}", batch.size(), e);
+                    changed.addAll(batch);
+                    return;
+                }
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * 전체 샤드 강의 합계 → LECTURE_CURRENT_COUNT
+     * - changed 는 노드별이라 동기화 전에 종료된 노드의 변경은 남지 않으므로 full-sync-ms 주기로 모든 샤드 강의를 맞춘다
+     * - 차이가 있는 row 만 갱신
+     */
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.seat-shard.full-sync-ms:30000}")
+    public void syncAllCurrentCounts() {
+        if (lockMode != EnrollmentLockMode.SHARDED_COUNTER) {
+            return;
+        }
+
+        try {
+            int updated = shardMapper.syncAllCurrentCounts();
+            if (updated > 0) {
+                log.info("좌석 샤드 전체 합계 동기화 - updatedLectures={}", updated);
+            }
+        } catch (RuntimeException e) {
+            log.warn("좌석 샤드 전체 합계 동기화 실패", e);
+        }
+    }
+}
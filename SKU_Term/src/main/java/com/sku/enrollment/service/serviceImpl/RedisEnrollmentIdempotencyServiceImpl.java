@@ -0,0 +1,184 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.service.EnrollmentIdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * key: enroll:idem:{studentNumber}:{lectureId}:{k:Idempotency-Key | auto}
+ * value: P(처리 중) / S(성공) / E:{ErrorCode}(비즈니스 거절)
+ * - 헤더가 없으면 (학번, 강의) 당 key 1개를 SET NX PX 로 잡는다
+ *   → 처리 중이거나 결과 기록 후 derived-window-ms 이내인 요청은 시간창 경계와 무관하게 중복으로 본다 (sliding window)
+ * - 시스템 오류(5xx)는 결과를 남기지 않고 key 를 지워 재시도를 허용한다
+ * - Redis 장애 시에는 중복 제거 없이 그대로 처리 (fail-open)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisEnrollmentIdempotencyServiceImpl implements EnrollmentIdempotencyService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String KEY_PREFIX = "enroll:idem:";
+    private static final String PENDING = "P";
+    private static final String SUCCEEDED = "S";
+    private static final String FAILED_PREFIX = "E:";
+    private static final String EXPLICIT_KEY_PREFIX = "k:";
+    private static final String DERIVED_KEY = "auto";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final long MAX_POLL_INTERVAL_MS = 100L;
+
+    @Value("${peakguard.enrollment.idempotency.enabled:true}")
+    private boolean enabled;
+
+    // Idempotency-Key 헤더가 없을 때 같은 (학번, 강의) 요청을 묶는 시간 (결과 기록 후 기준, 0 이면 헤더가 있을 때만 적용)
+    @Value("${peakguard.enrollment.idempotency.derived-window-ms:3000}")
+    private long derivedWindowMs;
+
+    // 원 요청이 응답 없이 죽었을 때 key 가 남아있는 최대 시간
+    @Value("${peakguard.enrollment.idempotency.in-flight-ttl-ms:10000}")
+    private long inFlightTtlMs;
+
+    // Idempotency-Key 헤더 요청의 결과 보관 시간
+    @Value("${peakguard.enrollment.idempotency.result-ttl-ms:60000}")
+    private long resultTtlMs;
+
+    // 처리 중인 원 요청의 결과를 기다리는 최대 시간
+    @Value("${peakguard.enrollment.idempotency.wait-ms:3000}")
+    private long waitMs;
+
+    // resultTtlMs: 결과(S/E) 보관 시간 (헤더 key 는 result-ttl-ms, 유도 key 는 derived-window-ms)
+    private record IdempotencyKey(String key, long resultTtlMs) {
+    }
+
+    @Override
+    public void execute(String studentNumber, Long lectureId, String idempotencyKey, Runnable action) {
+        IdempotencyKey resolved = resolveKey(studentNumber, lectureId, idempotencyKey);
+        if (resolved == null) {
+            action.run();
+            return;
+        }
+        String key = resolved.key();
+
+        long deadline = System.currentTimeMillis() + waitMs;
+        long pollMs = 10L;
+
+        while (true) {
+            Boolean acquired;
+            String existing;
+            try {
+                acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, PENDING, Duration.ofMillis(inFlightTtlMs));
+                existing = Boolean.TRUE.equals(acquired) ? null : stringRedisTemplate.opsForValue().get(key);
+            } catch (RuntimeException e) {
+                log.warn("중복 요청 확인 실패, 중복 제거 없이 처리 - key={}", key, e);
+                action.run();
+                return;
+            }
+
+            if (Boolean.TRUE.equals(acquired)) {
+                runAndRecord(resolved, action);
+                return;
+            }
+
+            if (SUCCEEDED.equals(existing)) {
+                log.info("중복 수강신청 요청 - 저장된 성공 결과 재사용 key={}", key);
+                return;
+            }
+            if (existing != null && existing.startsWith(FAILED_PREFIX)) {
+                throw new CustomException(ErrorCode.valueOf(existing.substring(FAILED_PREFIX.length())));
+            }
+
+            // 처리 중(P) 이거나 원 요청이 시스템 오류로 key 를 지운 직후(null → 다음 루프에서 선점 시도)
+            if (System.currentTimeMillis() >= deadline) {
+                throw new CustomException(ErrorCode.DUPLICATE_REQUEST_IN_PROGRESS);
+            }
+            sleep(pollMs);
+            pollMs = Math.min(pollMs * 2, MAX_POLL_INTERVAL_MS);
+        }
+    }
+
+    @Override
+    public void invalidate(String studentNumber, Long lectureId) {
+        if (!enabled || derivedWindowMs <= 0) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(derivedKey(studentNumber, lectureId));
+        } catch (RuntimeException e) {
+            log.warn("중복 요청 key 삭제 실패 - studentNumber={}, lectureId={}", studentNumber, lectureId, e);
+        }
+    }
+
+    private void runAndRecord(IdempotencyKey key, Runnable action) {
+        try {
+            action.run();
+        } catch (CustomException e) {
+            if (e.getErrorCode().getStatus() < 500) {
+                record(key, FAILED_PREFIX + e.getErrorCode().name());
+            } else {
+                forget(key.key());
+            }
+            throw e;
+        } catch (RuntimeException | Error e) {
+            forget(key.key());
+            throw e;
+        }
+        record(key, SUCCEEDED);
+    }
+
+    private void record(IdempotencyKey key, String result) {
+        try {
+            stringRedisTemplate.opsForValue().set(key.key(), result, Duration.ofMillis(key.resultTtlMs()));
+        } catch (RuntimeException e) {
+            log.warn("중복 요청 결과 저장 실패 - key={}", key, e);
+        }
+    }
+
+    private void forget(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("중복 요청 key 삭제 실패 - key={}", key, e);
+        }
+    }
+
+    private IdempotencyKey resolveKey(String studentNumber, Long lectureId, String idempotencyKey) {
+        if (!enabled) {
+            return null;
+        }
+        if (StringUtils.hasText(idempotencyKey)) {
+            String trimmed = idempotencyKey.trim();
+            if (trimmed.length() > MAX_KEY_LENGTH) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return new IdempotencyKey(
+                    KEY_PREFIX + studentNumber + ":" + lectureId + ":" + EXPLICIT_KEY_PREFIX + trimmed, resultTtlMs);
+        }
+        if (derivedWindowMs <= 0) {
+            return null;
+        }
+        return new IdempotencyKey(derivedKey(studentNumber, lectureId), derivedWindowMs);
+    }
+
+    private String derivedKey(String studentNumber, Long lectureId) {
+        return KEY_PREFIX + studentNumber + ":" + lectureId + ":" + DERIVED_KEY;
+    }
+
+    private void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.DUPLICATE_REQUEST_IN_PROGRESS, e);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.event.SeatReleasedEvent;
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.service.EnrollmentService;
+import com.sku.enrollment.service.EnrollmentWaitlistService;
+import com.sku.enrollment.service.LectureSeatShardService;
+import com.sku.enrollment.service.SeatReservationService;
+import com.sku.enrollment.service.SoldOutCacheService;
+import com.sku.enrollment.support.LectureWaitlistGate;
+import com.sku.lecture.mapper.LectureMapper;
+import com.sku.lecture.vo.Lecture;
+import com.sku.member.mapper.StudentMapper;
+import com.sku.member.vo.Student;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis ZSET 기반 강의별 대기열 + 비동기 승급기
+ * - enroll:waitlist:{lectureId} (member=학번, score=등록 시각) / enroll:waitlist:lectures (대기열이 있는 강의)
+ * - 수강 취소 커밋 후 SeatReleasedEvent 로 해당 강의 승급을 예약 (같은 강의 이벤트는 노드 안에서 1회로 합친다)
+ * - 대기 학생이 있는 동안 반환 좌석은 일반 신청에 열지 않는다 (LectureWaitlistGate) → 빈자리 새로고침 경쟁 없이 대기 순서대로 배정
+ * - 승급은 EnrollmentService.enrollReleasedSeat 로 정원/학점/시간표 검사를 다시 수행한다 (마감 캐시/보류는 거치지 않음)
+ *   - 정원 마감/일시 오류: 같은 순번으로 되돌리고 중단
+ *   - 학점 초과/시간 충돌 등 학생 사유: 대기열에서 제외하고 다음 학생 시도
+ *   - 대기열이 비면 남은 좌석을 일반 신청에 연다 (마감 표시 해제)
+ * - 이벤트를 놓친 경우(노드 종료 등)는 sweep-ms 주기로 대기열 강의의 잔여 좌석을 확인해 복구
+ * - 잔여 좌석은 lock mode 의 기준 카운터로 판정 (REDIS_RESERVATION: Redis 좌석 카운터, SHARDED_COUNTER: 샤드 합계)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisEnrollmentWaitlistServiceImpl implements EnrollmentWaitlistService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentMapper enrollmentMapper;
+    private final LectureMapper lectureMapper;
+    private final StudentMapper studentMapper;
+    private final SeatReservationService seatReservationService;
+    private final LectureSeatShardService seatShardService;
+    private final SoldOutCacheService soldOutCacheService;
+    private final LectureWaitlistGate waitlistGate;
+
+    private static final String KEY_PREFIX = "enroll:waitlist:";
+    private static final String LECTURES_KEY = LectureWaitlistGate.LECTURES_KEY;
+
+    private static final RedisScript<Long> JOIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/waitlist_join.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/waitlist_pop.lua"), List.class);
+
+    private static final long WAITLIST_FULL = -1L;
+
+    @Value("${peakguard.enrollment.lock-mode:NONE}")
+    private EnrollmentLockMode lockMode;
+
+    @Value("${peakguard.enrollment.waitlist.enabled:true}")
+    private boolean enabled;
+
+    @Value("${peakguard.enrollment.waitlist.max-size:500}")
+    private int maxSize;
+
+    @Value("${peakguard.enrollment.waitlist.promoter-threads:2}")
+    private int promoterThreads;
+
+    private ExecutorService promoter;
+    private long startedAtNanos;
+
+    // 승급 예약된 강의 (같은 강의의 연속 이벤트를 한 번의 승급 실행으로 합친다)
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    // 좌석 반환 시각 (승급 지연 측정)
+    private final Map<Long, Long> releasedAtNanos = new ConcurrentHashMap<>();
+
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder left = new LongAdder();
+    private final LongAdder releaseEvents = new LongAdder();
+    private final LongAdder promotionRuns = new LongAdder();
+    private final LongAdder promoted = new LongAdder();
+    private final LongAdder requeued = new LongAdder();
+    private final Map<String, LongAdder> skippedByCode = new ConcurrentHashMap<>();
+    private final LongAdder promotionLatencyNanos = new LongAdder();
+    private final LongAccumulator maxPromotionLatencyNanos = new LongAccumulator(Math::max, 0L);
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        promoter = Executors.newFixedThreadPool(promoterThreads,
+                r -> new Thread(r, "enroll-waitlist-" + threadIndex.getAndIncrement()));
+        startedAtNanos = System.nanoTime();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (promoter == null) {
+            return;
+        }
+        promoter.shutdown();
+        try {
+            if (!promoter.awaitTermination(10, TimeUnit.SECONDS)) {
+                promoter.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            promoter.shutdownNow();
+        }
+    }
+
+    @Override
+    public long join(String studentNumber, Long lectureId) {
+        checkEnabled();
+        if (lectureId == null || lectureId <= 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Lecture lecture = lectureMapper.findById(lectureId);
+        if (lecture == null) {
+            throw new CustomException(ErrorCode.LECTURE_NOT_FOUND);
+        }
+        if (hasAvailableSeat(lecture)) {
+            throw new CustomException(ErrorCode.WAITLIST_SEAT_AVAILABLE);
+        }
+
+        Student student = studentMapper.findByStudentNumber(studentNumber);
+        if (student == null) {
+            throw new CustomException(ErrorCode.STUDENT_NOT_FOUND);
+        }
+        if (enrollmentMapper.existsEnrollment(student.getId(), lectureId) > 0) {
+            throw new CustomException(ErrorCode.ALREADY_ENROLLED);
+        }
+
+        Long position = stringRedisTemplate.execute(JOIN_SCRIPT,
+                List.of(waitlistKey(lectureId), LECTURES_KEY),
+                studentNumber, String.valueOf(System.currentTimeMillis()), String.valueOf(maxSize), String.valueOf(lectureId));
+        if (position == null || position == WAITLIST_FULL) {
+            throw new CustomException(ErrorCode.WAITLIST_FULL);
+        }
+
+        waitlistGate.hold(lectureId);
+        joined.increment();
+        log.info("강의 대기열 등록 - lectureId={}, position={}", lectureId, position);
+        return position;
+    }
+
+    @Override
+    public void leave(String studentNumber, Long lectureId) {
+        checkEnabled();
+        Long removed = stringRedisTemplate.opsForZSet().remove(waitlistKey(lectureId), studentNumber);
+        if (removed == null || removed == 0) {
+            throw new CustomException(ErrorCode.WAITLIST_NOT_FOUND);
+        }
+        left.increment();
+    }
+
+    @Override
+    public long getPosition(String studentNumber, Long lectureId) {
+        checkEnabled();
+        Long rank = stringRedisTemplate.opsForZSet().rank(waitlistKey(lectureId), studentNumber);
+        if (rank == null) {
+            throw new CustomException(ErrorCode.WAITLIST_NOT_FOUND);
+        }
+        return rank + 1;
+    }
+
+    @TransactionalEventListener
+    public void onSeatReleased(SeatReleasedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        releaseEvents.increment();
+        releasedAtNanos.putIfAbsent(event.lectureId(), System.nanoTime());
+        schedule(event.lectureId());
+    }
+
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.waitlist.sweep-ms:10000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        Set<String> lectureIds;
+        try {
+            lectureIds = stringRedisTemplate.opsForSet().members(LECTURES_KEY);
+        } catch (RuntimeException e) {
+            log.warn("대기열 강의 목록 조회 실패", e);
+            return;
+        }
+        if (lectureIds == null) {
+            return;
+        }
+
+        for (String value : lectureIds) {
+            Long lectureId = Long.valueOf(value);
+            Lecture lecture = lectureMapper.findById(lectureId);
+            try {
+                if (lecture != null && hasAvailableSeat(lecture)) {
+                    schedule(lectureId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("대기열 잔여 좌석 확인 실패 - lectureId={}", lectureId, e);
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long promotedCount = promoted.sum();
+        double uptimeSeconds = Math.max(1L, System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+
+        Map<String, Long> skipped = new TreeMap<>();
+        skippedByCode.forEach((code, count) -> skipped.put(code, count.sum()));
+
+        Map<String, Long> waiting = new TreeMap<>();
+        if (enabled) {
+            Set<String> lectureIds = stringRedisTemplate.opsForSet().members(LECTURES_KEY);
+            if (lectureIds != null) {
+                for (String lectureId : lectureIds) {
+                    Long size = stringRedisTemplate.opsForZSet().zCard(KEY_PREFIX + lectureId);
+                    waiting.put(lectureId, size == null ? 0L : size);
+                }
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("joined", joined.sum());
+        result.put("left", left.sum());
+        result.put("releaseEvents", releaseEvents.sum());
+        result.put("promotionRuns", promotionRuns.sum());
+        result.put("promoted", promotedCount);
+        result.put("promotedPerSecond", promotedCount / uptimeSeconds);
+        result.put("requeued", requeued.sum());
+        result.put("skippedByCode", skipped);
+        // 좌석 반환(커밋) → 대기 학생 수강신청 완료까지
+        result.put("avgPromotionLatencyMs", promotedCount == 0 ? 0.0 : promotionLatencyNanos.sum() / 1_000_000.0 / promotedCount);
+        result.put("maxPromotionLatencyMs", maxPromotionLatencyNanos.get() / 1_000_000.0);
+        result.put("pendingPromotions", scheduled.size());
+        result.put("waitingByLecture", waiting);
+        return result;
+    }
+
+    private void schedule(Long lectureId) {
+        if (scheduled.add(lectureId)) {
+            promoter.execute(() -> promote(lectureId));
+        }
+    }
+
+    private void promote(Long lectureId) {
+        // 실행 중 들어온 이벤트는 다음 실행으로 이어지도록 먼저 예약 표시를 해제
+        scheduled.remove(lectureId);
+        promotionRuns.increment();
+
+        while (true) {
+            List<?> popped;
+            try {
+                popped = stringRedisTemplate.execute(POP_SCRIPT,
+                        List.of(waitlistKey(lectureId), LECTURES_KEY), String.valueOf(lectureId));
+            } catch (RuntimeException e) {
+                log.warn("대기열 꺼내기 실패 - lectureId={}", lectureId, e);
+                return;
+            }
+            if (popped == null || popped.isEmpty()) {
+                releasedAtNanos.remove(lectureId);
+                openRemainingSeats(lectureId);
+                return;
+            }
+
+            String studentNumber = String.valueOf(popped.get(0));
+            String score = String.valueOf(popped.get(1));
+
+            try {
+                enrollmentService.enrollReleasedSeat(studentNumber, lectureId);
+            } catch (CustomException e) {
+                ErrorCode errorCode = e.getErrorCode();
+                if (errorCode == ErrorCode.ENROLLMENT_CAPACITY_FULL || errorCode.getStatus() >= 500
+                        || errorCode == ErrorCode.DUPLICATE_REQUEST_IN_PROGRESS) {
+                    // 좌석을 다른 요청이 먼저 가져갔거나 일시 오류 → 순번 유지 후 다음 좌석 반환을 기다린다
+                    requeue(lectureId, studentNumber, score);
+                    return;
+                }
+                skippedByCode.computeIfAbsent(errorCode.getCode(), k -> new LongAdder()).increment();
+                log.info("대기열 승급 제외 - lectureId={}, reason={}", lectureId, errorCode.getCode());
+                continue;
+            } catch (RuntimeException e) {
+                log.error("대기열 승급 실패 - lectureId={}", lectureId, e);
+                requeue(lectureId, studentNumber, score);
+                return;
+            }
+
+            promoted.increment();
+            Long releasedAt = releasedAtNanos.remove(lectureId);
+            if (releasedAt != null) {
+                long latency = System.nanoTime() - releasedAt;
+                promotionLatencyNanos.add(latency);
+                maxPromotionLatencyNanos.accumulate(latency);
+            }
+            log.info("대기열 승급 완료 - lectureId={}", lectureId);
+        }
+    }
+
+    // 대기열이 비었으므로 남은 좌석은 일반 신청에 연다 (다른 노드는 마감 캐시 pub/sub + 보류 목록 재적재로 반영)
+    private void openRemainingSeats(Long lectureId) {
+        try {
+            Lecture lecture = lectureMapper.findById(lectureId);
+            if (lecture != null && hasAvailableSeat(lecture)) {
+                soldOutCacheService.markAvailable(lectureId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("대기열 종료 후 마감 해제 실패 - lectureId={}", lectureId, e);
+        }
+    }
+
+    /**
+     * 잔여 좌석 판정
+     * - LECTURE_CURRENT_COUNT 는 REDIS_RESERVATION(write-behind), SHARDED_COUNTER(sync-ms 주기 동기화)에서 늦으므로 해당 카운터를 직접 읽는다
+     * - 카운터가 아직 없으면 DB 값으로 판정
+     */
+    private boolean hasAvailableSeat(Lecture lecture) {
+        if (lockMode == EnrollmentLockMode.REDIS_RESERVATION) {
+            Integer reserved = seatReservationService.getReservedCount(lecture.getId());
+            if (reserved != null) {
+                return reserved < lecture.getMaxCapacity();
+            }
+        } else if (lockMode == EnrollmentLockMode.SHARDED_COUNTER) {
+            Integer remaining = seatShardService.getRemainingSeats(lecture.getId());
+            if (remaining != null) {
+                return remaining > 0;
+            }
+        }
+        return lecture.getCurrentCount() < lecture.getMaxCapacity();
+    }
+
+    private void requeue(Long lectureId, String studentNumber, String score) {
+        try {
+            stringRedisTemplate.opsForZSet().add(waitlistKey(lectureId), studentNumber, Double.parseDouble(score));
+            stringRedisTemplate.opsForSet().add(LECTURES_KEY, String.valueOf(lectureId));
+            requeued.increment();
+        } catch (RuntimeException e) {
+            log.error("대기열 복구 실패 - lectureId={}", lectureId, e);
+        }
+    }
+
+    private void checkEnabled() {
+        if (!enabled) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private static String waitlistKey(Long lectureId) {
+        return KEY_PREFIX + lectureId;
+    }
+}
@@ -0,0 +1,570 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.service.SeatReservationService;
+import com.sku.enrollment.service.SoldOutCacheService;
+import com.sku.enrollment.service.StudentEnrollmentSummaryService;
+import com.sku.enrollment.support.DirtyLectureTracker;
+import com.sku.enrollment.vo.StudentEnrollmentSummary;
+import com.sku.lecture.mapper.LectureMapper;
+import com.sku.lecture.vo.Lecture;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * - 확정된 예약은 Redis HASH(enroll:write-behind:pending)에 먼저 기록한 뒤 응답한다
+ * - DB 반영(또는 보상)이 끝나면 기록을 지우고, 오래 남은 기록은 어느 노드든 다시 반영한다 (노드 장애 복구)
+ * - 재반영은 (학생, 강의) UNIQUE 제약으로 중복 INSERT 가 막히므로 여러 번 실행되어도 안전하다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisSeatReservationServiceImpl implements SeatReservationService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EnrollmentMapper enrollmentMapper;
+    private final LectureMapper lectureMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final StudentEnrollmentSummaryService summaryService;
+    private final SoldOutCacheService soldOutCacheService;
+    private final DirtyLectureTracker dirtyLectureTracker;
+
+    private static final String SEAT_KEY_PREFIX = "enroll:seat:";
+    private static final String STUDENT_KEY_PREFIX = "enroll:student:";
+    private static final String PENDING_WRITES_KEY = "enroll:write-behind:pending";
+
+    private static final String FIELD_MAX = "max";
+    private static final String FIELD_CURRENT = "current";
+    private static final String FIELD_CREDIT = "credit";
+
+    private static final RedisScript<Long> RESERVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/seat_reserve.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/seat_release.lua"), Long.class);
+    private static final RedisScript<Long> STUDENT_LOAD_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/student_load.lua"), Long.class);
+    private static final RedisScript<Long> RESYNC_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/seat_resync.lua"), Long.class);
+
+    private static final long RESERVED = 1L;
+    private static final long CAPACITY_FULL = 0L;
+    private static final long ALREADY_RESERVED = -1L;
+    private static final long CREDIT_EXCEEDED = -2L;
+    private static final long SEAT_NOT_LOADED = -3L;
+    private static final long STUDENT_NOT_LOADED = -4L;
+
+    private static final long MAX_RETRY_BACKOFF_MS = 10_000L;
+
+    @Value("${peakguard.enrollment.lock-mode:NONE}")
+    private EnrollmentLockMode lockMode;
+
+    // 재기동 시 current 를 DB 값으로 덮어쓸지 여부 (다중 노드에서는 false 권장)
+    @Value("${peakguard.enrollment.redis.seed-overwrite:false}")
+    private boolean seedOverwrite;
+
+    @Value("${peakguard.enrollment.redis.write-behind.workers:2}")
+    private int writeWorkers;
+
+    @Value("${peakguard.enrollment.redis.write-behind.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${peakguard.enrollment.redis.write-behind.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    // 이 시간보다 오래 남은 미반영 기록은 소유 노드가 죽은 것으로 보고 다시 반영한다 (재시도 총 시간보다 길어야 함)
+    @Value("${peakguard.enrollment.redis.write-behind.recover-after-ms:60000}")
+    private long recoverAfterMs;
+
+    private final BlockingQueue<PendingWrite> writeQueue = new LinkedBlockingQueue<>();
+
+    // 이 노드의 큐/재시도 대기 중인 기록 (복구 스캔에서 중복 적재 방지)
+    private final Set<String> ownedWrites = ConcurrentHashMap.newKeySet();
+
+    // 예약 시도 ~ DB 반영 완료 사이에 있는 건수 (정합성 점검 가능 여부 판단용)
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private ExecutorService writeWorkerPool;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    private record PendingWrite(Long studentId, Long lectureId, int attempt) {
+        PendingWrite nextAttempt() {
+            return new PendingWrite(studentId, lectureId, attempt + 1);
+        }
+
+        String field() {
+            return studentId + ":" + lectureId;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (lockMode != EnrollmentLockMode.REDIS_RESERVATION) {
+            return;
+        }
+
+        int seeded = seedSeatCounters();
+
+        running = true;
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "seat-write-retry"));
+        writeWorkerPool = Executors.newFixedThreadPool(writeWorkers, r -> new Thread(r, "seat-write-behind"));
+        for (int i = 0; i < writeWorkers; i++) {
+            writeWorkerPool.submit(this::runWriteWorker);
+        }
+
+        int recovered = recoverPendingWrites(0L);
+
+        log.info("Redis 좌석 예약 모드 시작 - seededLectures={}, writeWorkers={}, recoveredWrites={}",
+                seeded, writeWorkers, recovered);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        retryScheduler.shutdownNow();
+        writeWorkerPool.shutdown();
+        try {
+            if (!writeWorkerPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                writeWorkerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeWorkerPool.shutdownNow();
+        }
+
+        if (inFlight.get() > 0) {
+            log.warn("DB 미반영 좌석 예약이 남은 채로 종료합니다. inFlight={} (미반영 기록은 재기동/다른 노드에서 다시 반영)", inFlight.get());
+        }
+    }
+
+    @Override
+    public int seedSeatCounters() {
+        List<Lecture> lectures = lectureMapper.findAllSeatCounts();
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Lecture lecture : lectures) {
+                String key = seatKey(lecture.getId());
+                conn.hSet(key, FIELD_MAX, String.valueOf(nullToZero(lecture.getMaxCapacity())));
+                conn.hSet(key, FIELD_CREDIT, String.valueOf(nullToZero(lecture.getCredit())));
+                String current = String.valueOf(nullToZero(lecture.getCurrentCount()));
+                if (seedOverwrite) {
+                    conn.hSet(key, FIELD_CURRENT, current);
+                } else {
+                    conn.hSetNX(key, FIELD_CURRENT, current);
+                }
+            }
+            return null;
+        });
+
+        return lectures.size();
+    }
+
+    @Override
+    public Set<Long> getReservedLectureIds(Long studentId) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(studentCreditsKey(studentId)))) {
+            loadStudentLedger(studentId);
+        }
+
+        Set<String> members = stringRedisTemplate.opsForSet().members(studentLecturesKey(studentId));
+        Set<Long> lectureIds = new HashSet<>();
+        if (members != null) {
+            for (String member : members) {
+                lectureIds.add(Long.valueOf(member));
+            }
+        }
+        return lectureIds;
+    }
+
+    @Override
+    public void reserve(Long studentId, Long lectureId, int maxCredit) {
+        // 예약 스크립트 실행 전부터 집계해야 정합성 점검이 실행 중인 예약을 놓치지 않는다
+        inFlight.incrementAndGet();
+
+        long result = Long.MIN_VALUE;
+        try {
+            result = runReserveScript(studentId, lectureId, maxCredit);
+
+            // 카운터/원장이 아직 없으면 적재 후 재시도 (최대 1회씩)
+            if (result == STUDENT_NOT_LOADED) {
+                loadStudentLedger(studentId);
+                result = runReserveScript(studentId, lectureId, maxCredit);
+            }
+            if (result == SEAT_NOT_LOADED) {
+                seedLecture(lectureId);
+                result = runReserveScript(studentId, lectureId, maxCredit);
+            }
+        } finally {
+            // 예약되지 않은 채 끝나면 (거절/Redis·DB 예외 모두) 즉시 차감
+            if (result != RESERVED) {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        if (result == RESERVED) {
+            return;
+        }
+
+        if (result == CAPACITY_FULL) {
+            throw new CustomException(ErrorCode.ENROLLMENT_CAPACITY_FULL);
+        }
+        if (result == ALREADY_RESERVED) {
+            throw new CustomException(ErrorCode.ALREADY_ENROLLED);
+        }
+        if (result == CREDIT_EXCEEDED) {
+            throw new CustomException(ErrorCode.CREDIT_EXCEEDED);
+        }
+        if (result == SEAT_NOT_LOADED) {
+            throw new CustomException(ErrorCode.LECTURE_NOT_FOUND);
+        }
+        throw new CustomException(ErrorCode.ENROLLMENT_FAILED);
+    }
+
+    @Override
+    public void confirmReservation(Long studentId, Long lectureId) {
+        PendingWrite write = new PendingWrite(studentId, lectureId, 0);
+        // 응답 전에 Redis 에 남겨야 노드가 죽어도 다른 노드/재기동 시 DB 에 반영된다 (실패 시 호출자가 예약 보상)
+        stringRedisTemplate.opsForHash().put(PENDING_WRITES_KEY, write.field(), String.valueOf(System.currentTimeMillis()));
+        ownedWrites.add(write.field());
+        writeQueue.offer(write);
+    }
+
+    @Override
+    public void abortReservation(Long studentId, Long lectureId) {
+        try {
+            if (release(studentId, lectureId)) {
+                soldOutCacheService.markAvailable(lectureId);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 소유 노드가 반영하지 못하고 남긴 기록을 다시 큐에 넣는다
+     * - 이 노드가 처리 중인 기록은 제외, 다른 노드 기록은 recover-after-ms 이상 지난 것만 가져온다
+     */
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.redis.write-behind.recover-interval-ms:30000}")
+    public void recoverStalePendingWrites() {
+        if (!running) {
+            return;
+        }
+        try {
+            int recovered = recoverPendingWrites(recoverAfterMs);
+            if (recovered > 0) {
+                log.warn("미반영 write-behind 기록 복구 - recovered={}", recovered);
+            }
+        } catch (RuntimeException e) {
+            log.warn("미반영 write-behind 기록 복구 실패", e);
+        }
+    }
+
+    private int recoverPendingWrites(long minAgeMs) {
+        Map<Object, Object> pending = stringRedisTemplate.opsForHash().entries(PENDING_WRITES_KEY);
+        long threshold = System.currentTimeMillis() - minAgeMs;
+
+        int recovered = 0;
+        for (Map.Entry<Object, Object> entry : pending.entrySet()) {
+            String field = entry.getKey().toString();
+            if (Long.parseLong(entry.getValue().toString()) > threshold || !ownedWrites.add(field)) {
+                continue;
+            }
+            int separator = field.indexOf(':');
+            inFlight.incrementAndGet();
+            writeQueue.offer(new PendingWrite(
+                    Long.valueOf(field.substring(0, separator)), Long.valueOf(field.substring(separator + 1)), 0));
+            recovered++;
+        }
+        return recovered;
+    }
+
+    @Override
+    public boolean release(Long studentId, Long lectureId) {
+        Long released = stringRedisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(seatKey(lectureId), studentLecturesKey(studentId), studentCreditsKey(studentId)),
+                String.valueOf(lectureId)
+        );
+        return released != null && released == 1L;
+    }
+
+    @Override
+    public Integer getReservedCount(Long lectureId) {
+        Object current = stringRedisTemplate.opsForHash().get(seatKey(lectureId), FIELD_CURRENT);
+        return current == null ? null : Integer.valueOf(current.toString());
+    }
+
+    /**
+     * Redis 카운터 ↔ DB 정합성 점검
+     * - DB 는 recalculateLectureCurrentCounts 로 먼저 실제 신청 건수에 맞춘다.
+     * - 이 노드에 DB 미반영 예약이 있으면 DB 가 뒤처진 상태이므로 보정하지 않는다.
+     * - 보정은 CAS 로 처리하여, 점검 중 들어온 예약은 덮어쓰지 않는다.
+     * (다중 노드 환경에서는 트래픽이 없는 시간대에 실행하는 것을 전제로 한다)
+     */
+    @Override
+    public Map<String, Object> reconcile() {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        // 다른 노드의 미반영 예약도 Redis 기록으로 확인한다
+        Long pendingWrites = stringRedisTemplate.opsForHash().size(PENDING_WRITES_KEY);
+        if (inFlight.get() > 0 || (pendingWrites != null && pendingWrites > 0)) {
+            result.put("reconciled", false);
+            result.put("inFlight", inFlight.get());
+            result.put("pendingWrites", pendingWrites == null ? 0L : pendingWrites);
+            return result;
+        }
+
+        Integer recalculated = transactionTemplate.execute(status -> enrollmentMapper.recalculateLectureCurrentCounts());
+        List<Lecture> lectures = lectureMapper.findAllSeatCounts();
+
+        if (inFlight.get() > 0) {
+            result.put("reconciled", false);
+            result.put("inFlight", inFlight.get());
+            return result;
+        }
+
+        List<Map<String, Object>> drifts = new ArrayList<>();
+        int corrected = 0;
+        int skipped = 0;
+
+        for (Lecture lecture : lectures) {
+            String key = seatKey(lecture.getId());
+            Object redisValue = stringRedisTemplate.opsForHash().get(key, FIELD_CURRENT);
+            int dbCount = nullToZero(lecture.getCurrentCount());
+
+            if (redisValue == null) {
+                seedLecture(lecture);
+                continue;
+            }
+            if (Integer.parseInt(redisValue.toString()) == dbCount) {
+                continue;
+            }
+
+            Map<String, Object> drift = new HashMap<>();
+            drift.put("lectureId", lecture.getId());
+            drift.put("redisCount", Integer.parseInt(redisValue.toString()));
+            drift.put("dbCount", dbCount);
+            drifts.add(drift);
+
+            Long updated = stringRedisTemplate.execute(
+                    RESYNC_SCRIPT, List.of(key), redisValue.toString(), String.valueOf(dbCount));
+            if (updated != null && updated == 1L) {
+                corrected++;
+            } else {
+                skipped++;
+            }
+        }
+
+        // 학생 원장은 다음 요청 시 DB 기준으로 다시 적재된다.
+        long clearedLedgers = clearStudentLedgers();
+
+        log.info("좌석 카운터 정합성 점검 완료 - lectures={}, drift={}, corrected={}, skipped={}, clearedLedgers={}",
+                lectures.size(), drifts.size(), corrected, skipped, clearedLedgers);
+
+        result.put("reconciled", true);
+        result.put("recalculatedLectures", recalculated == null ? 0 : recalculated);
+        result.put("checkedLectures", lectures.size());
+        result.put("driftCount", drifts.size());
+        result.put("corrected", corrected);
+        result.put("skipped", skipped);
+        result.put("clearedStudentLedgers", clearedLedgers);
+        result.put("drifts", drifts);
+        return result;
+    }
+
+    private long runReserveScript(Long studentId, Long lectureId, int maxCredit) {
+        Long result = stringRedisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(seatKey(lectureId), studentLecturesKey(studentId), studentCreditsKey(studentId)),
+                String.valueOf(lectureId),
+                String.valueOf(maxCredit)
+        );
+        return result == null ? Long.MIN_VALUE : result;
+    }
+
+    private void loadStudentLedger(Long studentId) {
+        List<Long> lectureIds = enrollmentMapper.findEnrolledLectureIds(studentId);
+        int credits = enrollmentMapper.sumCreditsByStudent(studentId);
+
+        List<String> args = new ArrayList<>(lectureIds.size() + 1);
+        args.add(String.valueOf(credits));
+        for (Long id : lectureIds) {
+            args.add(String.valueOf(id));
+        }
+
+        stringRedisTemplate.execute(
+                STUDENT_LOAD_SCRIPT,
+                List.of(studentLecturesKey(studentId), studentCreditsKey(studentId)),
+                args.toArray()
+        );
+    }
+
+    // 기동 이후 추가된 강의 대비: 단건 적재
+    private void seedLecture(Long lectureId) {
+        Lecture lecture = lectureMapper.findById(lectureId);
+        if (lecture == null) {
+            return;
+        }
+        seedLecture(lecture);
+    }
+
+    private void seedLecture(Lecture lecture) {
+        String key = seatKey(lecture.getId());
+        stringRedisTemplate.opsForHash().put(key, FIELD_MAX, String.valueOf(nullToZero(lecture.getMaxCapacity())));
+        stringRedisTemplate.opsForHash().put(key, FIELD_CREDIT, String.valueOf(nullToZero(lecture.getCredit())));
+        stringRedisTemplate.opsForHash().putIfAbsent(key, FIELD_CURRENT, String.valueOf(nullToZero(lecture.getCurrentCount())));
+    }
+
+    private long clearStudentLedgers() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(STUDENT_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        Long deleted = stringRedisTemplate.delete(keys);
+        return deleted == null ? 0L : deleted;
+    }
+
+    private void runWriteWorker() {
+        while (running || !writeQueue.isEmpty()) {
+            PendingWrite write;
+            try {
+                write = writeQueue.poll(500, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (write != null) {
+                flush(write);
+            }
+        }
+    }
+
+    private void flush(PendingWrite write) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 신청 판정은 Redis 에서 끝났으므로 요약 행은 증가분만 반영한다
+                // (INSERT 전에 잡아야 행이 없어 새로 만들 때 이번 신청이 두 번 더해지지 않는다)
+                StudentEnrollmentSummary summary = summaryService.getForUpdate(write.studentId());
+                enrollmentMapper.insertEnrollment(write.studentId(), write.lectureId());
+                enrollmentMapper.increaseCurrentCount(write.lectureId());
+                dirtyLectureTracker.markDirty(write.lectureId());
+                Lecture lecture = lectureMapper.findById(write.lectureId());
+                summaryService.applyEnroll(summary, write.lectureId(), lecture != null ? lecture.getCredit() : null);
+            });
+            completeWrite(write);
+
+        } catch (DuplicateKeyException e) {
+            // 이미 DB에 존재하는 신청(다른 노드가 먼저 복구 반영한 경우 포함) → 재시도 불필요
+            completeWrite(write);
+            log.warn("write-behind 중복 신청 무시 - studentId={}, lectureId={}", write.studentId(), write.lectureId());
+
+        } catch (DataIntegrityViolationException e) {
+            // 제약조건 위반(정원 CHECK 등)은 재시도해도 실패 → 예약 보상
+            abortWrite(write);
+            log.error("write-behind 제약조건 위반으로 예약 취소 - studentId={}, lectureId={}",
+                    write.studentId(), write.lectureId(), e);
+
+        } catch (Exception e) {
+            if (!running) {
+                // 종료 중에는 보상하지 않고 Redis 기록을 남겨 재기동/다른 노드에서 다시 반영한다
+                ownedWrites.remove(write.field());
+                log.warn("종료 중 write-behind 실패, 미반영 기록 유지 - studentId={}, lectureId={}",
+                        write.studentId(), write.lectureId(), e);
+                return;
+            }
+            if (write.attempt() < maxRetries) {
+                long delay = Math.min(retryBackoffMs << write.attempt(), MAX_RETRY_BACKOFF_MS);
+                log.warn("write-behind 실패, {}ms 후 재시도({}/{}) - studentId={}, lectureId={}",
+                        delay, write.attempt() + 1, maxRetries, write.studentId(), write.lectureId());
+                retryScheduler.schedule(() -> writeQueue.offer(write.nextAttempt()), delay, TimeUnit.MILLISECONDS);
+                return;
+            }
+
+            abortWrite(write);
+            log.error("write-behind 재시도 초과로 예약 취소 - studentId={}, lectureId={}",
+                    write.studentId(), write.lectureId(), e);
+        }
+    }
+
+    private void completeWrite(PendingWrite write) {
+        inFlight.decrementAndGet();
+        forgetPendingWrite(write);
+    }
+
+    private void abortWrite(PendingWrite write) {
+        try {
+            abortReservation(write.studentId(), write.lectureId());
+        } finally {
+            forgetPendingWrite(write);
+        }
+    }
+
+    private void forgetPendingWrite(PendingWrite write) {
+        ownedWrites.remove(write.field());
+        try {
+            stringRedisTemplate.opsForHash().delete(PENDING_WRITES_KEY, write.field());
+        } catch (RuntimeException e) {
+            // 기록이 남으면 복구 스캔이 다시 반영을 시도하고 UNIQUE 제약으로 무시된다
+            log.warn("write-behind 기록 삭제 실패 - studentId={}, lectureId={}", write.studentId(), write.lectureId(), e);
+        }
+    }
+
+    private String seatKey(Long lectureId) {
+        return SEAT_KEY_PREFIX + lectureId;
+    }
+
+    private String studentLecturesKey(Long studentId) {
+        return STUDENT_KEY_PREFIX + studentId + ":lectures";
+    }
+
+    private String studentCreditsKey(Long studentId) {
+        return STUDENT_KEY_PREFIX + studentId + ":credits";
+    }
+
+    private int nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
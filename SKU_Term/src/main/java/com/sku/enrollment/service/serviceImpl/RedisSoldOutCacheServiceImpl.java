@@ -0,0 +1,273 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.enrollment.service.SoldOutCacheService;
+import com.sku.lecture.mapper.LectureMapper;
+import com.sku.lecture.vo.Lecture;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마감 강의 BitSet (lectureId = bit index)
+ * - 조회는 volatile 참조 1회 + BitSet.get 으로 끝난다 (트랜잭션/락 없음)
+ * - 변경은 드물기 때문에 copy-on-write 로 교체
+ * - 메시지: "F:{lectureId}" 마감 / "A:{lectureId}" 좌석 반환 / "R" 전체 재적재
+ * - 롤백된 선점 등으로 잘못 남은 마감 표시는 주기적 검증(refresh-ms)으로 복구된다
+ *   (한 노드만 마감 표시된 강의를 PK IN 조회로 확인하고 해제 메시지를 전파, 전체 Lecture 조회는 기동/refreshAll 때만)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisSoldOutCacheServiceImpl implements SoldOutCacheService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LectureMapper lectureMapper;
+
+    private static final String CHANNEL = "enroll:sold-out";
+    private static final String SOLD_OUT_PREFIX = "F:";
+    private static final String AVAILABLE_PREFIX = "A:";
+    private static final String REFRESH = "R";
+    private static final String VERIFY_LOCK_KEY = "enroll:sold-out:verify-lock";
+
+    private static final int VERIFY_CHUNK_SIZE = 500;
+    private static final long RELEASED_RETENTION_MS = 60_000L;
+
+    @Value("${peakguard.enrollment.sold-out-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${peakguard.enrollment.sold-out-cache.refresh-ms:5000}")
+    private long refreshMs;
+
+    private volatile BitSet soldOut = new BitSet();
+
+    // 재적재 중 좌석이 반환된 강의는 DB 스냅샷으로 다시 마감 처리하지 않는다
+    private final Map<Long, Long> releasedAt = new ConcurrentHashMap<>();
+
+    private final LongAdder fastRejects = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder staleCleared = new LongAdder();
+
+    @PostConstruct
+    void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(message), new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            refreshLocal();
+        }
+    }
+
+    @Override
+    public boolean isSoldOut(Long lectureId) {
+        if (!enabled || !indexable(lectureId)) {
+            return false;
+        }
+        boolean full = soldOut.get(lectureId.intValue());
+        if (full) {
+            fastRejects.increment();
+        }
+        return full;
+    }
+
+    @Override
+    public void markSoldOut(Long lectureId) {
+        if (!enabled || !indexable(lectureId) || soldOut.get(lectureId.intValue())) {
+            return;
+        }
+        update(lectureId, true);
+        publish(SOLD_OUT_PREFIX + lectureId);
+    }
+
+    @Override
+    public void markAvailable(Long lectureId) {
+        if (!enabled || !indexable(lectureId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAvailable(lectureId);
+                }
+            });
+            return;
+        }
+        applyAvailable(lectureId);
+    }
+
+    @Override
+    public int refreshAll() {
+        if (!enabled) {
+            return 0;
+        }
+        int count = refreshLocal();
+        publish(REFRESH);
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.sold-out-cache.refresh-ms:5000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        releasedAt.values().removeIf(at -> at < System.currentTimeMillis() - RELEASED_RETENTION_MS);
+        if (acquireVerifyTurn()) {
+            verifySoldOut();
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("soldOutLectures", soldOut.cardinality());
+        result.put("fastRejects", fastRejects.sum());
+        result.put("refreshes", refreshes.sum());
+        result.put("verifications", verifications.sum());
+        result.put("staleCleared", staleCleared.sum());
+        return result;
+    }
+
+    // 주기마다 한 노드만 검증한다 (Redis 장애 시에는 각 노드가 직접 검증)
+    private boolean acquireVerifyTurn() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(VERIFY_LOCK_KEY, "1", Duration.ofMillis(Math.max(refreshMs, 1L))));
+        } catch (RuntimeException e) {
+            log.warn("마감 캐시 검증 순번 확인 실패, 이 노드에서 검증", e);
+            return true;
+        }
+    }
+
+    /**
+     * 마감 표시된 강의만 DB 로 확인해 잘못 남은 표시를 해제한다
+     * - 빠진 마감 표시는 정원 초과 판정 시 다시 채워지므로 확인하지 않는다
+     * - 확인 직후 실제로 마감된 강의를 해제해도 다음 신청이 일반 경로로 다시 마감 처리한다
+     */
+    private void verifySoldOut() {
+        List<Long> marked = new ArrayList<>();
+        soldOut.stream().forEach(index -> marked.add((long) index));
+
+        for (int from = 0; from < marked.size(); from += VERIFY_CHUNK_SIZE) {
+            List<Long> chunk = marked.subList(from, Math.min(from + VERIFY_CHUNK_SIZE, marked.size()));
+            Set<Long> stillFull = new HashSet<>();
+            for (Lecture lecture : lectureMapper.findSeatCountsByIds(chunk)) {
+                if (lecture.getMaxCapacity() != null && lecture.getCurrentCount() != null
+                        && lecture.getCurrentCount() >= lecture.getMaxCapacity()) {
+                    stillFull.add(lecture.getId());
+                }
+            }
+            for (Long lectureId : chunk) {
+                if (!stillFull.contains(lectureId)) {
+                    update(lectureId, false);
+                    publish(AVAILABLE_PREFIX + lectureId);
+                    staleCleared.increment();
+                }
+            }
+        }
+        verifications.increment();
+    }
+
+    private void applyAvailable(Long lectureId) {
+        releasedAt.put(lectureId, System.currentTimeMillis());
+        update(lectureId, false);
+        publish(AVAILABLE_PREFIX + lectureId);
+    }
+
+    private int refreshLocal() {
+        long startedAt = System.currentTimeMillis();
+        List<Lecture> lectures = lectureMapper.findAllSeatCounts();
+
+        BitSet next = new BitSet();
+        for (Lecture lecture : lectures) {
+            if (!indexable(lecture.getId()) || lecture.getMaxCapacity() == null || lecture.getCurrentCount() == null) {
+                continue;
+            }
+            Long released = releasedAt.get(lecture.getId());
+            if (released != null && released >= startedAt) {
+                continue;
+            }
+            if (lecture.getCurrentCount() >= lecture.getMaxCapacity()) {
+                next.set(lecture.getId().intValue());
+            }
+        }
+
+        synchronized (this) {
+            soldOut = next;
+        }
+        releasedAt.values().removeIf(at -> at < startedAt);
+        refreshes.increment();
+        return next.cardinality();
+    }
+
+    private void onMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (REFRESH.equals(body)) {
+                refreshLocal();
+            } else if (body.startsWith(SOLD_OUT_PREFIX)) {
+                update(Long.parseLong(body.substring(SOLD_OUT_PREFIX.length())), true);
+            } else if (body.startsWith(AVAILABLE_PREFIX)) {
+                Long lectureId = Long.parseLong(body.substring(AVAILABLE_PREFIX.length()));
+                releasedAt.put(lectureId, System.currentTimeMillis());
+                update(lectureId, false);
+            }
+        } catch (RuntimeException e) {
+            log.warn("마감 캐시 메시지 처리 실패 - message={}", body, e);
+        }
+    }
+
+    private synchronized void update(Long lectureId, boolean full) {
+        int index = lectureId.intValue();
+        if (soldOut.get(index) == full) {
+            return;
+        }
+        BitSet next = (BitSet) soldOut.clone();
+        next.set(index, full);
+        soldOut = next;
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 노드는 주기적 재적재로 따라온다
+            log.warn("마감 캐시 이벤트 발행 실패 - message={}", message, e);
+        }
+    }
+
+    private static boolean indexable(Long lectureId) {
+        return lectureId != null && lectureId >= 0 && lectureId <= Integer.MAX_VALUE;
+    }
+}
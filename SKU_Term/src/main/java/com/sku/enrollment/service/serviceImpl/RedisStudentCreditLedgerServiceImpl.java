@@ -0,0 +1,386 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.event.LectureChangedEvent;
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.service.StudentCreditLedgerService;
+import com.sku.enrollment.support.CreditLimitPolicy;
+import com.sku.lecture.mapper.LectureMapper;
+import com.sku.lecture.vo.Lecture;
+import com.sku.member.mapper.StudentMapper;
+import com.sku.member.vo.Student;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * key: enroll:credit:{studentNumber} (HASH)
+ * - _max: 최대 신청 학점 (CreditLimitPolicy, 적재 시점 기준)
+ * - _total: 원장 학점 합계
+ * - {lectureId}: "{학점}:{예약 시각 ms}" (DB 에서 적재한 신청은 예약 시각 0)
+ *
+ * 정합성 점검
+ * - 예약 후 grace-ms 가 지난 항목은 Enrollment 와 같아야 한다 (그 전에는 DB 반영 중일 수 있음)
+ * - 어긋난 원장은 고치지 않고 삭제 → 다음 신청에서 DB 기준으로 재적재
+ *
+ * REDIS_RESERVATION 에서는 사용하지 않는다
+ * - 좌석 예약 스크립트가 enroll:student:{studentId}:credits 로 학점까지 판정하므로 그 값만 학점 원장으로 둔다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisStudentCreditLedgerServiceImpl implements StudentCreditLedgerService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EnrollmentMapper enrollmentMapper;
+    private final LectureMapper lectureMapper;
+    private final StudentMapper studentMapper;
+    private final CreditLimitPolicy creditPolicy;
+
+    private static final String KEY_PREFIX = "enroll:credit:";
+    private static final String FIELD_MAX = "_max";
+    private static final String FIELD_TOTAL = "_total";
+
+    private static final RedisScript<Long> RESERVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/credit_reserve.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/credit_release.lua"), Long.class);
+    private static final RedisScript<Long> LOAD_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/credit_load.lua"), Long.class);
+
+    private static final long RESERVED = 1L;
+    private static final long ALREADY_RESERVED = -1L;
+    private static final long CREDIT_EXCEEDED = -2L;
+    private static final long NOT_LOADED = -4L;
+
+    @Value("${peakguard.enrollment.lock-mode:NONE}")
+    private EnrollmentLockMode lockMode;
+
+    @Value("${peakguard.enrollment.credit-ledger.enabled:true}")
+    private boolean enabled;
+
+    @Value("${peakguard.enrollment.credit-ledger.ttl-ms:21600000}")
+    private long ttlMs;
+
+    // 예약 후 DB 반영까지 허용하는 시간 (이보다 오래된 예약만 정합성 비교)
+    @Value("${peakguard.enrollment.credit-ledger.grace-ms:60000}")
+    private long graceMs;
+
+    @Value("${peakguard.enrollment.credit-ledger.reconcile.enabled:true}")
+    private boolean reconcileEnabled;
+
+    @Value("${peakguard.enrollment.credit-ledger.reconcile.max-students-per-run:5000}")
+    private int maxStudentsPerRun;
+
+    // 강의 학점 노드별 캐시 (강의 변경/삭제 시 LectureChangedEvent 로 무효화)
+    private final Map<Long, Integer> lectureCredits = new ConcurrentHashMap<>();
+
+    private final LongAdder reserved = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder reconcileRuns = new LongAdder();
+    private final LongAdder reconcileDrifts = new LongAdder();
+    private final AtomicLong lastReconciledAt = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        if (enabled && lockMode == EnrollmentLockMode.REDIS_RESERVATION) {
+            // 원장이 두 개면 취소/보정 시점에 서로 어긋난다 → 좌석 예약 스크립트의 학점 합계만 사용
+            enabled = false;
+            log.info("REDIS_RESERVATION 모드 - 학점 원장 비활성화 (좌석 예약 학점 합계 사용)");
+        }
+    }
+
+    @Override
+    public boolean reserve(String studentNumber, Long lectureId) {
+        if (!enabled) {
+            return false;
+        }
+        Integer credit = creditOf(lectureId);
+        if (credit == null) {
+            // 없는 강의 → DB 경로에서 LECTURE_NOT_FOUND
+            bypassed.increment();
+            return false;
+        }
+
+        long result;
+        try {
+            result = runReserveScript(studentNumber, lectureId, credit);
+            if (result == NOT_LOADED) {
+                if (!load(studentNumber)) {
+                    bypassed.increment();
+                    return false;
+                }
+                result = runReserveScript(studentNumber, lectureId, credit);
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("학점 원장 예약 실패, DB 판정으로 처리 - studentNumber={}, lectureId={}", studentNumber, lectureId, e);
+            return false;
+        }
+
+        if (result == CREDIT_EXCEEDED) {
+            rejected.increment();
+            throw new CustomException(ErrorCode.CREDIT_EXCEEDED);
+        }
+        if (result != RESERVED) {
+            // ALREADY_RESERVED: 처리 중인 같은 요청이거나 이미 신청한 강의 → DB 에서 판정
+            bypassed.increment();
+            return false;
+        }
+
+        reserved.increment();
+        releaseOnRollback(studentNumber, lectureId);
+        return true;
+    }
+
+    @Override
+    public void release(String studentNumber, Long lectureId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key(studentNumber)), String.valueOf(lectureId));
+        } catch (RuntimeException e) {
+            // 남은 항목은 정합성 점검에서 원장 삭제로 정리된다
+            failures.increment();
+            log.warn("학점 원장 반환 실패 - studentNumber={}, lectureId={}", studentNumber, lectureId, e);
+        }
+    }
+
+    @Override
+    public void releaseAfterCommit(String studentNumber, Long lectureId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(studentNumber, lectureId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(studentNumber, lectureId);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(String studentNumber) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(key(studentNumber));
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("학점 원장 삭제 실패 - studentNumber={}", studentNumber, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.credit-ledger.reconcile.interval-ms:300000}")
+    public void scheduledReconcile() {
+        if (!enabled || !reconcileEnabled) {
+            return;
+        }
+        try {
+            Map<String, Object> result = reconcile();
+            if (((Number) result.get("drifted")).longValue() > 0) {
+                log.warn("학점 원장 정합성 점검 - {}", result);
+            }
+        } catch (RuntimeException e) {
+            log.warn("학점 원장 정합성 점검 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> reconcile() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext() && keys.size() < maxStudentsPerRun) {
+                keys.add(cursor.next());
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        List<String> drifted = new ArrayList<>();
+        for (String key : keys) {
+            String studentNumber = key.substring(KEY_PREFIX.length());
+            Map<Object, Object> ledger = stringRedisTemplate.opsForHash().entries(key);
+            if (ledger.isEmpty()) {
+                continue;
+            }
+            if (!matchesDatabase(studentNumber, ledger, now)) {
+                drifted.add(studentNumber);
+            }
+        }
+        if (!drifted.isEmpty()) {
+            stringRedisTemplate.delete(drifted.stream().map(this::key).toList());
+        }
+
+        reconcileRuns.increment();
+        reconcileDrifts.add(drifted.size());
+        lastReconciledAt.set(now);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scanned", keys.size());
+        result.put("drifted", drifted.size());
+        result.put("driftedStudents", drifted.size() > 20 ? drifted.subList(0, 20) : drifted);
+        return result;
+    }
+
+    private boolean matchesDatabase(String studentNumber, Map<Object, Object> ledger, long now) {
+        Student student = studentMapper.findByStudentNumber(studentNumber);
+        if (student == null) {
+            return false;
+        }
+        if (!String.valueOf(creditPolicy.maxCredits(student)).equals(ledger.get(FIELD_MAX))) {
+            return false;
+        }
+
+        Map<String, Integer> enrolled = new HashMap<>();
+        for (Lecture lecture : enrollmentMapper.findEnrolledCreditsByStudentNumber(studentNumber)) {
+            enrolled.put(String.valueOf(lecture.getId()), nullToZero(lecture.getCredit()));
+        }
+
+        int total = 0;
+        for (Map.Entry<Object, Object> entry : ledger.entrySet()) {
+            String field = (String) entry.getKey();
+            if (field.startsWith("_")) {
+                continue;
+            }
+            String[] value = ((String) entry.getValue()).split(":");
+            int credit = Integer.parseInt(value[0]);
+            long reservedAt = value.length > 1 ? Long.parseLong(value[1]) : 0L;
+            total += credit;
+
+            boolean settled = now - reservedAt > graceMs;
+            Integer actual = enrolled.remove(field);
+            if (settled && !Objects.equals(actual, credit)) {
+                return false;
+            }
+        }
+        // 원장에 없는 DB 신청
+        if (!enrolled.isEmpty()) {
+            return false;
+        }
+        return String.valueOf(total).equals(ledger.get(FIELD_TOTAL));
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("policy", creditPolicy.describe());
+        result.put("reserved", reserved.sum());
+        result.put("rejected", rejected.sum());
+        result.put("bypassed", bypassed.sum());
+        result.put("loads", loads.sum());
+        result.put("failures", failures.sum());
+        result.put("reconcileRuns", reconcileRuns.sum());
+        result.put("reconcileDrifts", reconcileDrifts.sum());
+        result.put("lastReconciledAt", lastReconciledAt.get());
+        return result;
+    }
+
+    // 호출자 트랜잭션 안에서 신청이 끝났다가 나중에 롤백되는 경우 대비
+    private void releaseOnRollback(String studentNumber, Long lectureId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(studentNumber, lectureId);
+                }
+            }
+        });
+    }
+
+    private long runReserveScript(String studentNumber, Long lectureId, int credit) {
+        Long result = stringRedisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(key(studentNumber)),
+                String.valueOf(lectureId),
+                String.valueOf(credit),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ttlMs)
+        );
+        return result == null ? Long.MIN_VALUE : result;
+    }
+
+    // 없는 학생이면 false
+    private boolean load(String studentNumber) {
+        Student student = studentMapper.findByStudentNumber(studentNumber);
+        if (student == null) {
+            return false;
+        }
+        List<Lecture> enrolled = enrollmentMapper.findEnrolledCreditsByStudentNumber(studentNumber);
+
+        List<String> args = new ArrayList<>(enrolled.size() * 2 + 2);
+        args.add(String.valueOf(creditPolicy.maxCredits(student)));
+        args.add(String.valueOf(ttlMs));
+        for (Lecture lecture : enrolled) {
+            args.add(String.valueOf(lecture.getId()));
+            args.add(String.valueOf(nullToZero(lecture.getCredit())));
+        }
+
+        stringRedisTemplate.execute(LOAD_SCRIPT, List.of(key(studentNumber)), args.toArray());
+        loads.increment();
+        return true;
+    }
+
+    @EventListener
+    public void onLectureChanged(LectureChangedEvent event) {
+        lectureCredits.remove(event.lectureId());
+    }
+
+    private Integer creditOf(Long lectureId) {
+        Integer credit = lectureCredits.get(lectureId);
+        if (credit != null) {
+            return credit;
+        }
+        Lecture lecture = lectureMapper.findById(lectureId);
+        if (lecture == null) {
+            return null;
+        }
+        credit = nullToZero(lecture.getCredit());
+        lectureCredits.put(lectureId, credit);
+        return credit;
+    }
+
+    private int nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private String key(String studentNumber) {
+        return KEY_PREFIX + studentNumber;
+    }
+}
@@ -0,0 +1,166 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.mapper.StudentEnrollmentSummaryMapper;
+import com.sku.enrollment.service.StudentEnrollmentSummaryService;
+import com.sku.enrollment.support.LectureTimeMaskCache;
+import com.sku.enrollment.util.WeeklyTimeMask;
+import com.sku.enrollment.vo.StudentEnrollmentSummary;
+import com.sku.lecture.vo.Lecture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentEnrollmentSummaryServiceImpl implements StudentEnrollmentSummaryService {
+
+    private final StudentEnrollmentSummaryMapper summaryMapper;
+    private final EnrollmentMapper enrollmentMapper;
+    private final LectureTimeMaskCache timeMaskCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${peakguard.enrollment.summary.backfill-chunk-size:500}")
+    private int backfillChunkSize;
+
+    @Override
+    public StudentEnrollmentSummary get(Long studentId) {
+        StudentEnrollmentSummary summary = summaryMapper.findByStudentId(studentId);
+        if (summary != null) {
+            return summary;
+        }
+        // 트랜잭션 밖에서는 FOR UPDATE 가 바로 풀려 동시 applyEnroll 을 이전 값으로 덮어쓸 수 있다 (backfill 과 동일하게 처리)
+        return transactionTemplate.execute(status -> rebuild(studentId));
+    }
+
+    @Override
+    public StudentEnrollmentSummary getForUpdate(Long studentId) {
+        StudentEnrollmentSummary summary = summaryMapper.findByStudentIdForUpdate(studentId);
+        if (summary != null) {
+            return summary;
+        }
+        // backfill 전이거나 신규 학생 → 생성 (INSERT 로 행 락도 함께 잡힌다)
+        return recompute(studentId);
+    }
+
+    @Override
+    public void applyEnroll(StudentEnrollmentSummary summary, Long lectureId, Integer credit) {
+        WeeklyTimeMask enrolled = WeeklyTimeMask.fromBytes(summary.getTimeMask(), Boolean.TRUE.equals(summary.getTimeMaskExact()));
+        WeeklyTimeMask merged = enrolled.or(timeMaskCache.maskOf(lectureId));
+
+        summary.setTotalCredits(summary.getTotalCredits() + (credit != null ? credit : 0));
+        summary.setLectureCount(summary.getLectureCount() + 1);
+        summary.setTimeMask(merged.toBytes());
+        summary.setTimeMaskExact(merged.isExact());
+        summaryMapper.updateSummary(summary);
+    }
+
+    @Override
+    public void applyEnrollAll(StudentEnrollmentSummary summary, List<Lecture> lectures) {
+        if (lectures.isEmpty()) {
+            return;
+        }
+        WeeklyTimeMask merged = WeeklyTimeMask.fromBytes(summary.getTimeMask(), Boolean.TRUE.equals(summary.getTimeMaskExact()));
+        int credits = 0;
+        for (Lecture lecture : lectures) {
+            merged = merged.or(timeMaskCache.maskOf(lecture.getId()));
+            credits += lecture.getCredit() != null ? lecture.getCredit() : 0;
+        }
+
+        summary.setTotalCredits(summary.getTotalCredits() + credits);
+        summary.setLectureCount(summary.getLectureCount() + lectures.size());
+        summary.setTimeMask(merged.toBytes());
+        summary.setTimeMaskExact(merged.isExact());
+        summaryMapper.updateSummary(summary);
+    }
+
+    @Override
+    public void applyCancel(StudentEnrollmentSummary summary, Long lectureId, Integer credit) {
+        if (!Boolean.TRUE.equals(summary.getTimeMaskExact())) {
+            // 5분 단위가 아닌 시간이 섞이면 강의끼리 경계 슬롯을 공유할 수 있어 비트를 지울 수 없다 → 재계산
+            recompute(summary.getStudentId());
+            return;
+        }
+        WeeklyTimeMask enrolled = WeeklyTimeMask.fromBytes(summary.getTimeMask(), true);
+        WeeklyTimeMask remaining = enrolled.andNot(timeMaskCache.maskOf(lectureId));
+
+        summary.setTotalCredits(Math.max(0, summary.getTotalCredits() - (credit != null ? credit : 0)));
+        summary.setLectureCount(Math.max(0, summary.getLectureCount() - 1));
+        summary.setTimeMask(remaining.toBytes());
+        summary.setTimeMaskExact(remaining.isExact());
+        summaryMapper.updateSummary(summary);
+    }
+
+    @Override
+    public StudentEnrollmentSummary rebuild(Long studentId) {
+        // 요약 행을 먼저 잠가 동시 신청의 갱신과 순서를 맞춘다
+        summaryMapper.findByStudentIdForUpdate(studentId);
+        return recompute(studentId);
+    }
+
+    private StudentEnrollmentSummary recompute(Long studentId) {
+        List<Long> lectureIds = enrollmentMapper.findEnrolledLectureIds(studentId);
+        WeeklyTimeMask mask = timeMaskCache.unionOf(lectureIds);
+
+        StudentEnrollmentSummary summary = new StudentEnrollmentSummary();
+        summary.setStudentId(studentId);
+        summary.setTotalCredits(lectureIds.isEmpty() ? 0 : enrollmentMapper.sumCreditsByStudent(studentId));
+        summary.setLectureCount(lectureIds.size());
+        summary.setTimeMask(mask.toBytes());
+        summary.setTimeMaskExact(mask.isExact());
+        summaryMapper.upsertSummary(summary);
+        return summary;
+    }
+
+    /**
+     * 학생 ID 순으로 청크 단위 조회, 학생마다 별도 트랜잭션으로 재계산
+     * (한 트랜잭션에서 여러 학생을 읽으면 첫 조회 시점 스냅샷으로 뒤 학생이 계산될 수 있다)
+     */
+    @Override
+    public Map<String, Object> backfill() {
+        long startedAt = System.currentTimeMillis();
+        long lastStudentId = 0L;
+        int processed = 0;
+        int chunks = 0;
+
+        while (true) {
+            List<Long> studentIds = summaryMapper.findStudentIdsAfter(lastStudentId, backfillChunkSize);
+            if (studentIds.isEmpty()) {
+                break;
+            }
+
+            for (Long studentId : studentIds) {
+                transactionTemplate.executeWithoutResult(status -> rebuild(studentId));
+            }
+
+            processed += studentIds.size();
+            chunks++;
+            lastStudentId = studentIds.get(studentIds.size() - 1);
+        }
+
+        long elapsedMs = System.currentTimeMillis() - startedAt;
+        log.info("수강신청 요약 backfill 완료 - students={}, chunks={}, elapsedMs={}", processed, chunks, elapsedMs);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("students", processed);
+        result.put("chunks", chunks);
+        result.put("elapsedMs", elapsedMs);
+        return result;
+    }
+
+    @Override
+    public int rebuildByLecture(Long lectureId) {
+        List<Long> studentIds = enrollmentMapper.findStudentIdsByLectureId(lectureId);
+        for (Long studentId : studentIds) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(studentId));
+        }
+        return studentIds.size();
+    }
+}
@@ -0,0 +1,127 @@
+package com.sku.enrollment.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.enums.StudentLockMode;
+import com.sku.enrollment.service.StudentLockService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentLockServiceImpl implements StudentLockService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String LOCK_KEY_PREFIX = "enroll:student-lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/enrollment/student_lock_release.lua"), Long.class);
+
+    private static final long MAX_SPIN_SLEEP_MS = 50L;
+
+    @Value("${peakguard.enrollment.student-lock.mode:ROW_LOCK}")
+    private StudentLockMode mode;
+
+    @Value("${peakguard.enrollment.student-lock.stripes:1024}")
+    private int stripeCount;
+
+    @Value("${peakguard.enrollment.student-lock.wait-ms:2000}")
+    private long waitMs;
+
+    // Redis 락 자동 만료 (프로세스가 죽어도 락이 남지 않도록, 쓰기 트랜잭션보다 충분히 길게)
+    @Value("${peakguard.enrollment.student-lock.lease-ms:5000}")
+    private long leaseMs;
+
+    private ReentrantLock[] stripes;
+
+    @PostConstruct
+    void initStripes() {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public <T> T executeWithLock(Long studentId, Supplier<T> action) {
+        if (mode == StudentLockMode.REDIS) {
+            return executeWithRedisLock(studentId, action);
+        }
+        return executeWithStripedLock(studentId, action);
+    }
+
+    private <T> T executeWithStripedLock(Long studentId, Supplier<T> action) {
+        ReentrantLock lock = stripes[Math.floorMod(Long.hashCode(studentId), stripes.length)];
+        try {
+            if (!lock.tryLock(waitMs, TimeUnit.MILLISECONDS)) {
+                log.warn("학생 락 대기 시간 초과(LOCAL_STRIPED) - studentId={}, waitMs={}", studentId, waitMs);
+                throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.ENROLLMENT_BUSY, e);
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T executeWithRedisLock(Long studentId, Supplier<T> action) {
+        String key = LOCK_KEY_PREFIX + studentId;
+        String token = UUID.randomUUID().toString();
+
+        acquireRedisLock(key, token, studentId);
+        try {
+            return action.get();
+        } finally {
+            Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            if (released == null || released == 0L) {
+                // lease 만료 후 다른 요청이 락을 가져간 경우 → lease-ms 를 늘려야 한다
+                log.warn("학생 락이 해제 전에 만료됨(REDIS) - studentId={}, leaseMs={}", studentId, leaseMs);
+            }
+        }
+    }
+
+    private void acquireRedisLock(String key, String token, Long studentId) {
+        long deadline = System.currentTimeMillis() + waitMs;
+        long sleepMs = 2L;
+
+        while (true) {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, Duration.ofMillis(leaseMs));
+            if (Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("학생 락 대기 시간 초과(REDIS) - studentId={}, waitMs={}", studentId, waitMs);
+                throw new CustomException(ErrorCode.ENROLLMENT_BUSY);
+            }
+
+            try {
+                Thread.sleep(sleepMs + ThreadLocalRandom.current().nextLong(sleepMs));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ErrorCode.ENROLLMENT_BUSY, e);
+            }
+            sleepMs = Math.min(sleepMs * 2, MAX_SPIN_SLEEP_MS);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.sku.enrollment.support;
+
+import com.sku.member.vo.Student;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 학생별 최대 신청 학점
+ * - 우선순위: 학번별 설정 > 학년별 설정 > 기본값
+ * - 설정 형식: "키:학점" 을 쉼표로 나열 (예: max-by-grade=1:18,4:21 / max-by-student=20231234:24)
+ */
+@Component
+public class CreditLimitPolicy {
+
+    @Value("${peakguard.enrollment.credit.default-max:20}")
+    private int defaultMax;
+
+    @Value("${peakguard.enrollment.credit.max-by-grade:}")
+    private String maxByGradeConfig;
+
+    @Value("${peakguard.enrollment.credit.max-by-student:}")
+    private String maxByStudentConfig;
+
+    private Map<Integer, Integer> maxByGrade = Collections.emptyMap();
+    private Map<String, Integer> maxByStudent = Collections.emptyMap();
+
+    @PostConstruct
+    void init() {
+        Map<Integer, Integer> byGrade = new HashMap<>();
+        parse(maxByGradeConfig).forEach((grade, max) -> byGrade.put(Integer.parseInt(grade), max));
+        this.maxByGrade = byGrade;
+        this.maxByStudent = parse(maxByStudentConfig);
+    }
+
+    public int maxCredits(Student student) {
+        if (student == null) {
+            return defaultMax;
+        }
+        Integer byStudent = maxByStudent.get(student.getStudentNumber());
+        if (byStudent != null) {
+            return byStudent;
+        }
+        return maxByGrade.getOrDefault(student.getGrade(), defaultMax);
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("defaultMax", defaultMax);
+        result.put("maxByGrade", maxByGrade);
+        result.put("studentOverrides", maxByStudent.size());
+        return result;
+    }
+
+    private Map<String, Integer> parse(String config) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (!StringUtils.hasText(config)) {
+            return parsed;
+        }
+        for (String entry : config.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("학점 정책 설정 형식 오류 (키:학점) - " + entry);
+            }
+            parsed.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return parsed;
+    }
+}
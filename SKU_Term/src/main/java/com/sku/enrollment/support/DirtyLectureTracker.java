@@ -0,0 +1,54 @@
+package com.sku.enrollment.support;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 신청/취소로 LECTURE_CURRENT_COUNT 가 바뀐 강의 (노드별)
+ * - 증분 재계산 대상. 롤백된 변경이 섞여 있어도 재계산 결과가 같으므로 커밋 여부와 무관하게 표시한다
+ */
+@Component
+public class DirtyLectureTracker {
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public void markDirty(Long lectureId) {
+        dirty.add(lectureId);
+    }
+
+    public void markDirty(Collection<Long> lectureIds) {
+        dirty.addAll(lectureIds);
+    }
+
+    // 최대 max 개를 꺼낸다 (꺼낸 뒤 다시 변경되면 다음 실행 대상이 된다)
+    public List<Long> drain(int max) {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext() && drained.size() < max) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    public List<Long> peek(int max) {
+        List<Long> peeked = new ArrayList<>();
+        for (Long lectureId : dirty) {
+            if (peeked.size() >= max) {
+                break;
+            }
+            peeked.add(lectureId);
+        }
+        return peeked;
+    }
+
+    public int size() {
+        return dirty.size();
+    }
+}
@@ -0,0 +1,140 @@
+package com.sku.enrollment.support;
+
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * lock mode 별 수강신청 처리 지표 (배포별 lock mode 선택 근거)
+ * - conflicts: 재시도가 필요한 경합 (OPTIMISTIC 버전 충돌)
+ * - retries: 경합 후 실제로 다시 시도한 횟수
+ * - 락/큐 대기 초과는 rejectedByCode 의 ENROLLMENT_BUSY(EN008) 로 집계
+ * - 처리 시간은 마감 캐시 통과 후 요청만 고정 구간 히스토그램으로 누적 (대기열 입장 제어의 입력)
+ */
+@Component
+public class EnrollmentMetrics {
+
+    private final Map<EnrollmentLockMode, ModeStats> stats = new EnumMap<>(EnrollmentLockMode.class);
+
+    // 처리 시간 구간 상한(ms), 마지막 구간은 그 이상 전부
+    public static final long[] LATENCY_BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKET_BOUNDS_MS.length + 1];
+
+    public EnrollmentMetrics() {
+        for (EnrollmentLockMode mode : EnrollmentLockMode.values()) {
+            stats.put(mode, new ModeStats());
+        }
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    private static final class ModeStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final Map<String, LongAdder> rejectedByCode = new ConcurrentHashMap<>();
+    }
+
+    public void recordSuccess(EnrollmentLockMode mode) {
+        ModeStats s = stats.get(mode);
+        s.requests.increment();
+        s.succeeded.increment();
+    }
+
+    public void recordRejected(EnrollmentLockMode mode, ErrorCode errorCode) {
+        ModeStats s = stats.get(mode);
+        s.requests.increment();
+        s.rejected.increment();
+        s.rejectedByCode.computeIfAbsent(errorCode.getCode(), k -> new LongAdder()).increment();
+    }
+
+    public void recordError(EnrollmentLockMode mode) {
+        ModeStats s = stats.get(mode);
+        s.requests.increment();
+        s.errors.increment();
+    }
+
+    public void recordConflict(EnrollmentLockMode mode) {
+        stats.get(mode).conflicts.increment();
+    }
+
+    public void recordRetry(EnrollmentLockMode mode) {
+        stats.get(mode).retries.increment();
+    }
+
+    public void recordLatency(long nanos) {
+        long ms = nanos / 1_000_000L;
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_BOUNDS_MS.length && ms >= LATENCY_BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        latencyBuckets[bucket].increment();
+    }
+
+    // 구간별 누적 건수 (호출자가 이전 값과의 차이로 구간 지표 계산)
+    public long[] latencyCounts() {
+        long[] counts = new long[latencyBuckets.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = latencyBuckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * 전체 lock mode 합계 누적값 {requests, errors, busy}
+     * - busy: 락/큐 대기 초과로 거절된 요청 (ENROLLMENT_BUSY)
+     */
+    public long[] totals() {
+        long requests = 0;
+        long errors = 0;
+        long busy = 0;
+        for (ModeStats s : stats.values()) {
+            requests += s.requests.sum();
+            errors += s.errors.sum();
+            LongAdder busyCount = s.rejectedByCode.get(ErrorCode.ENROLLMENT_BUSY.getCode());
+            busy += busyCount == null ? 0 : busyCount.sum();
+        }
+        return new long[]{requests, errors, busy};
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        stats.forEach((mode, s) -> {
+            long requests = s.requests.sum();
+            if (requests == 0) {
+                return;
+            }
+            long retries = s.retries.sum();
+            long conflicts = s.conflicts.sum();
+
+            Map<String, Long> byCode = new TreeMap<>();
+            s.rejectedByCode.forEach((code, count) -> byCode.put(code, count.sum()));
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("requests", requests);
+            m.put("succeeded", s.succeeded.sum());
+            m.put("rejected", s.rejected.sum());
+            m.put("errors", s.errors.sum());
+            m.put("conflicts", conflicts);
+            m.put("retries", retries);
+            // 시도(최초 + 재시도) 대비 경합 비율
+            m.put("conflictRate", (double) conflicts / (requests + retries));
+            m.put("retriesPerRequest", (double) retries / requests);
+            m.put("rejectedByCode", byCode);
+            result.put(mode.name(), m);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+package com.sku.enrollment.support;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.mapper.EnrollmentMapper;
+import com.sku.enrollment.util.WeeklyTimeMask;
+import com.sku.enrollment.vo.StudentEnrollmentSummary;
+import com.sku.lecture.vo.Lecture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 수강신청 학생 단위 비즈니스 룰 검사 (중복 신청 / 학점 제한 / 시간표 충돌)
+ * - lock mode 와 무관하게 동일한 룰을 적용하기 위해 분리
+ * - 학생 단위 직렬화(락)는 호출하는 쪽의 책임
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrollmentRuleChecker {
+
+    private final EnrollmentMapper enrollmentMapper;
+    private final LectureTimeMaskCache timeMaskCache;
+
+    public void checkNotEnrolled(Long studentId, Long lectureId) {
+        int exists = enrollmentMapper.existsEnrollment(studentId, lectureId);
+        if (exists > 0) {
+            throw new CustomException(ErrorCode.ALREADY_ENROLLED);
+        }
+    }
+
+    /**
+     * 학생 요약 행 기준 학점 제한 검사 (Enrollment x Lecture JOIN 없음)
+     *
+     * @param maxCredits 학생별 최대 신청 학점 (CreditLimitPolicy)
+     */
+    public void checkCreditLimit(StudentEnrollmentSummary summary, Lecture lecture, int maxCredits) {
+        int currentCredits = summary.getTotalCredits();
+        int totalAfterEnroll = currentCredits + (lecture.getCredit() != null ? lecture.getCredit() : 0);
+        if (totalAfterEnroll > maxCredits) {
+            throw new CustomException(ErrorCode.CREDIT_EXCEEDED);
+        }
+    }
+
+    /**
+     * 학생 요약 행의 주간 비트맵 기준 시간표 충돌 검사
+     * - 슬롯이 겹치지 않으면 바로 통과, 둘 다 5분 단위면 바로 충돌
+     * - 그 외(5분 단위가 아닌 시간 포함)만 신청 강의 목록으로 정밀 비교
+     */
+    public void checkTimeConflict(StudentEnrollmentSummary summary, Long lectureId) {
+        WeeklyTimeMask target = timeMaskCache.maskOf(lectureId);
+        WeeklyTimeMask enrolled = WeeklyTimeMask.fromBytes(summary.getTimeMask(), Boolean.TRUE.equals(summary.getTimeMaskExact()));
+        if (!enrolled.intersects(target)) {
+            return;
+        }
+        if (enrolled.isExact() && target.isExact()) {
+            throw new CustomException(ErrorCode.TIME_CONFLICT);
+        }
+        checkTimeConflict(summary.getStudentId(), lectureId);
+    }
+
+    /**
+     * DB 에 반영된 신청 내역 기준 시간표 충돌 검사
+     */
+    public void checkTimeConflict(Long studentId, Long lectureId) {
+        List<Long> enrolledLectureIds = enrollmentMapper.findEnrolledLectureIds(studentId);
+        if (hasTimeConflict(enrolledLectureIds, lectureId)) {
+            throw new CustomException(ErrorCode.TIME_CONFLICT);
+        }
+    }
+
+    /**
+     * 주어진 신청 강의 목록 기준 시간표 충돌 검사 (DB 미반영 예약 포함 시 사용)
+     */
+    public void checkTimeConflict(Set<Long> enrolledLectureIds, Long lectureId) {
+        if (hasTimeConflict(enrolledLectureIds, lectureId)) {
+            throw new CustomException(ErrorCode.TIME_CONFLICT);
+        }
+    }
+
+    /**
+     *  시간표 중복 체크 (강의별 주간 비트맵 AND)
+     */
+    public boolean hasTimeConflict(Collection<Long> enrolledLectureIds, Long lectureId) {
+        if (enrolledLectureIds == null || enrolledLectureIds.isEmpty()) {
+            return false;
+        }
+
+        WeeklyTimeMask target = timeMaskCache.maskOf(lectureId);
+        if (target.isEmpty()) {
+            return false;
+        }
+        return timeMaskCache.unionOf(enrolledLectureIds).conflictsWith(target);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sku.enrollment.support;
+
+import com.sku.enrollment.event.LectureChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 강의 변경 전파
+ * - 이 노드는 LectureChangedEvent 를 바로 발행하고, 다른 노드에는 Redis pub/sub(lecture:changed)으로 전달한다
+ * - 각 노드의 강의 캐시(시간표 비트맵, 학점 등)는 LectureChangedEvent 를 받아 해당 강의만 무효화한다
+ * (자기 노드도 메시지를 다시 받지만 무효화는 여러 번 실행되어도 같다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureChangeNotifier {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String CHANNEL = "lecture:changed";
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(message), new ChannelTopic(CHANNEL));
+    }
+
+    public void notifyChanged(Long lectureId) {
+        eventPublisher.publishEvent(new LectureChangedEvent(lectureId));
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(lectureId));
+        } catch (RuntimeException e) {
+            log.warn("강의 변경 이벤트 발행 실패 - lectureId={}", lectureId, e);
+        }
+    }
+
+    private void onMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            eventPublisher.publishEvent(new LectureChangedEvent(Long.parseLong(body)));
+        } catch (RuntimeException e) {
+            log.warn("강의 변경 메시지 처리 실패 - message={}", body, e);
+        }
+    }
+}
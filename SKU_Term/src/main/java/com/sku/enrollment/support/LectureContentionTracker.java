@@ -0,0 +1,214 @@
+package com.sku.enrollment.support;
+
+import com.sku.common.util.ErrorCode;
+import com.sku.enrollment.util.SpaceSavingTopK;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 강의별 수강신청 경합 지표 (노드별, 오픈 직후 DB 를 달구는 강의 식별용)
+ * - 강의 수와 무관하게 Space-Saving 상위 top-k 강의만 추적 → 메모리 고정
+ * - window-ms 마다 구간을 교체하고 직전 구간 결과를 보관 (시도율 = 구간 시도 수 / 구간 길이)
+ * - lock wait: Lecture row 락을 잡는 구문(FOR UPDATE / 정원 UPDATE) 소요 시간
+ * - tx: 쓰기 트랜잭션(커밋 포함) 소요 시간. SEQUENCER/REDIS_RESERVATION 처럼 요청 스레드가 트랜잭션을 열지 않는 mode 는 0
+ */
+@Component
+public class LectureContentionTracker {
+
+    @Value("${peakguard.enrollment.contention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${peakguard.enrollment.contention.top-k:64}")
+    private int topK;
+
+    @Value("${peakguard.enrollment.contention.window-ms:60000}")
+    private long windowMs;
+
+    private volatile Window current;
+    private volatile Map<String, Object> previous;
+
+    // 요청 스레드 안에서 누적되는 lock wait / 트랜잭션 시간
+    private final ThreadLocal<long[]> probe = ThreadLocal.withInitial(() -> new long[3]);
+
+    private static final int LOCK_WAIT = 0;
+    private static final int TX = 1;
+    private static final int TX_COUNT = 2;
+
+    private static final class Window {
+        private final long startedAt = System.currentTimeMillis();
+        private final SpaceSavingTopK<Long, LectureStats> topK;
+
+        private Window(int capacity) {
+            this.topK = new SpaceSavingTopK<>(capacity, LectureStats::new);
+        }
+    }
+
+    private static final class LectureStats {
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Map<String, LongAdder> rejectedByCode = new ConcurrentHashMap<>();
+        private final LongAdder lockWaitNanos = new LongAdder();
+        private final LongAccumulator maxLockWaitNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder txNanos = new LongAdder();
+        private final LongAdder txCount = new LongAdder();
+        private final LongAccumulator maxTxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    // 요청 시작 시 호출 (이전 요청의 측정값 제거)
+    public void begin() {
+        long[] p = probe.get();
+        p[LOCK_WAIT] = 0;
+        p[TX] = 0;
+        p[TX_COUNT] = 0;
+    }
+
+    public void addLockWait(long nanos) {
+        probe.get()[LOCK_WAIT] += nanos;
+    }
+
+    // OPTIMISTIC 재시도처럼 한 요청에서 트랜잭션이 여러 번 열리면 합산
+    public void addTransaction(long nanos) {
+        long[] p = probe.get();
+        p[TX] += nanos;
+        p[TX_COUNT]++;
+    }
+
+    public void recordSuccess(Long lectureId) {
+        LectureStats stats = offer(lectureId);
+        if (stats != null) {
+            stats.succeeded.increment();
+        }
+    }
+
+    public void recordRejected(Long lectureId, ErrorCode errorCode) {
+        LectureStats stats = offer(lectureId);
+        if (stats != null) {
+            stats.rejectedByCode.computeIfAbsent(errorCode.getCode(), k -> new LongAdder()).increment();
+        }
+    }
+
+    public void recordError(Long lectureId) {
+        LectureStats stats = offer(lectureId);
+        if (stats != null) {
+            stats.errors.increment();
+        }
+    }
+
+    private LectureStats offer(Long lectureId) {
+        if (!enabled || lectureId == null) {
+            return null;
+        }
+        LectureStats stats = window().topK.offer(lectureId);
+
+        long[] p = probe.get();
+        if (p[LOCK_WAIT] > 0) {
+            stats.lockWaitNanos.add(p[LOCK_WAIT]);
+            stats.maxLockWaitNanos.accumulate(p[LOCK_WAIT]);
+        }
+        if (p[TX_COUNT] > 0) {
+            stats.txNanos.add(p[TX]);
+            stats.txCount.add(p[TX_COUNT]);
+            stats.maxTxNanos.accumulate(p[TX]);
+        }
+        return stats;
+    }
+
+    private Window window() {
+        Window w = current;
+        if (w == null) {
+            synchronized (this) {
+                if (current == null) {
+                    current = new Window(topK);
+                }
+                w = current;
+            }
+        }
+        return w;
+    }
+
+    // 구간 교체 (교체 직전 기록 일부가 이전 구간에 들어가는 것은 허용)
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.contention.window-ms:60000}")
+    public void rotate() {
+        if (!enabled) {
+            return;
+        }
+        Window finished;
+        synchronized (this) {
+            finished = current;
+            current = new Window(topK);
+        }
+        if (finished != null) {
+            previous = describe(finished, topK);
+        }
+    }
+
+    public Map<String, Object> snapshot(int limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("topK", topK);
+        result.put("windowMs", windowMs);
+        if (!enabled) {
+            return result;
+        }
+        result.put("current", describe(window(), limit));
+
+        Map<String, Object> last = previous;
+        if (last != null) {
+            Map<String, Object> trimmed = new LinkedHashMap<>(last);
+            List<?> lectures = (List<?>) last.get("lectures");
+            trimmed.put("lectures", lectures.size() > limit ? lectures.subList(0, limit) : lectures);
+            result.put("previous", trimmed);
+        }
+        return result;
+    }
+
+    private Map<String, Object> describe(Window window, int limit) {
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - window.startedAt);
+
+        List<Map<String, Object>> lectures = new ArrayList<>();
+        for (SpaceSavingTopK.Slot<Long, LectureStats> slot : window.topK.top(limit)) {
+            LectureStats s = slot.getStats();
+
+            Map<String, Long> byCode = new TreeMap<>();
+            s.rejectedByCode.forEach((code, count) -> byCode.put(code, count.sum()));
+            long rejected = byCode.values().stream().mapToLong(Long::longValue).sum();
+            long succeeded = s.succeeded.sum();
+            long errors = s.errors.sum();
+            // 현재 추적 구간(교체 이후)에 기록된 요청 수 - lock wait/tx 평균의 분모
+            long observed = succeeded + rejected + errors;
+            long txCount = s.txCount.sum();
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("lectureId", slot.getKey());
+            m.put("attempts", slot.getCount());
+            m.put("attemptsLowerBound", slot.getCount() - slot.getError());
+            m.put("attemptsPerSec", slot.getCount() * 1000.0 / elapsedMs);
+            m.put("succeeded", succeeded);
+            m.put("rejected", rejected);
+            m.put("rejectedByCode", byCode);
+            m.put("errors", errors);
+            m.put("lockWaitAvgMs", observed == 0 ? 0.0 : s.lockWaitNanos.sum() / 1_000_000.0 / observed);
+            m.put("lockWaitMaxMs", s.maxLockWaitNanos.get() / 1_000_000.0);
+            m.put("txAvgMs", txCount == 0 ? 0.0 : s.txNanos.sum() / 1_000_000.0 / txCount);
+            m.put("txMaxMs", s.maxTxNanos.get() / 1_000_000.0);
+            lectures.add(m);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startedAt", window.startedAt);
+        result.put("elapsedMs", elapsedMs);
+        result.put("trackedLectures", window.topK.size());
+        result.put("lectures", lectures);
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+package com.sku.enrollment.support;
+
+import com.sku.enrollment.event.LectureChangedEvent;
+import com.sku.enrollment.util.WeeklyTimeMask;
+import com.sku.lecture.mapper.LectureMapper;
+import com.sku.lecture.vo.LectureTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 강의별 주간 시간표 비트맵 캐시
+ * - 강의마다 최초 1회만 Lecturetime 을 조회하고, 강의 변경(LectureChangedEvent) 시 해당 강의만 다시 조회한다
+ * - 누락된 강의는 findTimesByLectureIds 한 번으로 모아서 적재
+ */
+@Component
+@RequiredArgsConstructor
+public class LectureTimeMaskCache {
+
+    private final LectureMapper lectureMapper;
+
+    private final Map<Long, WeeklyTimeMask> masks = new ConcurrentHashMap<>();
+
+    public WeeklyTimeMask maskOf(Long lectureId) {
+        WeeklyTimeMask mask = masks.get(lectureId);
+        if (mask != null) {
+            return mask;
+        }
+        return load(List.of(lectureId)).get(lectureId);
+    }
+
+    /**
+     * 여러 강의 시간표를 합친 비트맵
+     */
+    public WeeklyTimeMask unionOf(Collection<Long> lectureIds) {
+        WeeklyTimeMask union = WeeklyTimeMask.EMPTY;
+        List<Long> missing = new ArrayList<>();
+
+        for (Long lectureId : lectureIds) {
+            WeeklyTimeMask mask = masks.get(lectureId);
+            if (mask == null) {
+                missing.add(lectureId);
+            } else {
+                union = union.or(mask);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (WeeklyTimeMask mask : load(missing).values()) {
+                union = union.or(mask);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * 캐시에 없는 강의 시간표를 IN 조회 1회로 미리 적재 (일괄 신청 시 강의별 조회 방지)
+     */
+    public void preload(Collection<Long> lectureIds) {
+        List<Long> missing = new ArrayList<>();
+        for (Long lectureId : lectureIds) {
+            if (!masks.containsKey(lectureId)) {
+                missing.add(lectureId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            load(missing);
+        }
+    }
+
+    // 강의 시간이 변경된 경우 (관리자 수정 등)
+    public void evict(Long lectureId) {
+        masks.remove(lectureId);
+    }
+
+    @EventListener
+    public void onLectureChanged(LectureChangedEvent event) {
+        evict(event.lectureId());
+    }
+
+    public void clear() {
+        masks.clear();
+    }
+
+    private Map<Long, WeeklyTimeMask> load(List<Long> lectureIds) {
+        Map<Long, List<LectureTime>> grouped = new HashMap<>();
+        for (Long lectureId : lectureIds) {
+            grouped.put(lectureId, new ArrayList<>());
+        }
+        for (LectureTime time : lectureMapper.findTimesByLectureIds(lectureIds)) {
+            grouped.computeIfAbsent(time.getLectureId(), k -> new ArrayList<>()).add(time);
+        }
+
+        Map<Long, WeeklyTimeMask> loaded = new HashMap<>();
+        grouped.forEach((lectureId, times) -> {
+            WeeklyTimeMask mask = WeeklyTimeMask.of(times);
+            masks.put(lectureId, mask);
+            loaded.put(lectureId, mask);
+        });
+        return loaded;
+    }
+}
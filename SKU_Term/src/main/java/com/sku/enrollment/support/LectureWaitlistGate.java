@@ -0,0 +1,78 @@
+package com.sku.enrollment.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 대기열이 있는 강의의 반환 좌석 보류
+ * - 대기 학생이 있는 강의는 일반 신청을 정원 초과로 거절하고 마감 표시도 풀지 않는다 → 반환 좌석은 승급기만 가져간다
+ * - 일반 신청 경로는 노드별 사본(refresh-ms 주기로 enroll:waitlist:lectures 재적재)을 보고, 취소 경로는 Redis 를 직접 확인한다
+ * - 대기열이 비면 승급기가 목록에서 빼고 마감 표시를 해제한다 (사본 반영까지 최대 refresh-ms)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureWaitlistGate {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public static final String LECTURES_KEY = "enroll:waitlist:lectures";
+
+    @Value("${peakguard.enrollment.waitlist.enabled:true}")
+    private boolean enabled;
+
+    private volatile Set<Long> waitlisted = Set.of();
+
+    // 일반 신청 판정용 (노드별 사본)
+    public boolean isHeld(Long lectureId) {
+        return enabled && waitlisted.contains(lectureId);
+    }
+
+    // 좌석 반환 시 판정용 (Redis 직접 확인, 장애 시 보류하지 않음)
+    public boolean hasWaiting(Long lectureId) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(LECTURES_KEY, String.valueOf(lectureId)));
+        } catch (RuntimeException e) {
+            log.warn("대기열 보유 여부 조회 실패 - lectureId={}", lectureId, e);
+            return false;
+        }
+    }
+
+    // 대기열 등록 직후 이 노드에는 바로 반영
+    public void hold(Long lectureId) {
+        Set<Long> next = new HashSet<>(waitlisted);
+        next.add(lectureId);
+        waitlisted = Set.copyOf(next);
+    }
+
+    @Scheduled(fixedDelayString = "${peakguard.enrollment.waitlist.gate-refresh-ms:1000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Set<String> members;
+        try {
+            members = stringRedisTemplate.opsForSet().members(LECTURES_KEY);
+        } catch (RuntimeException e) {
+            log.warn("대기열 강의 목록 재적재 실패", e);
+            return;
+        }
+        Set<Long> next = new HashSet<>();
+        if (members != null) {
+            for (String member : members) {
+                next.add(Long.valueOf(member));
+            }
+        }
+        waitlisted = Set.copyOf(next);
+    }
+}
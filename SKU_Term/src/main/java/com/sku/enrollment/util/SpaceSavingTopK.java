@@ -0,0 +1,115 @@
+package com.sku.enrollment.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Space-Saving heavy hitters (Metwally et al.)
+ * - 최대 capacity 개의 key 만 추적하므로 key 종류가 수천 개여도 메모리가 고정된다
+ * - 꽉 찬 상태에서 새 key 가 오면 최소 count key 를 내보내고 그 count 를 물려받는다
+ *   → count 는 실제 빈도의 상한, count - error 는 하한
+ *   → 실제 빈도가 전체의 1/capacity 를 넘는 key 는 반드시 남아 있다
+ * - 이미 추적 중인 key 는 락 없이 갱신, 삽입/교체만 동기화 (교체 직전 갱신 일부는 유실될 수 있음 - 근사 지표)
+ *
+ * @param <S> key 별 부가 통계 (교체되면 새로 만든다 → 현재 추적 구간의 값만 담긴다)
+ */
+public final class SpaceSavingTopK<K, S> {
+
+    private final int capacity;
+    private final Supplier<S> statsFactory;
+    private final Map<K, Slot<K, S>> slots;
+
+    public SpaceSavingTopK(int capacity, Supplier<S> statsFactory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.statsFactory = statsFactory;
+        this.slots = new ConcurrentHashMap<>(capacity * 2);
+    }
+
+    public static final class Slot<K, S> {
+        private final K key;
+        private final long error;
+        private final LongAdder count = new LongAdder();
+        private final S stats;
+
+        private Slot(K key, long inherited, S stats) {
+            this.key = key;
+            this.error = inherited;
+            this.stats = stats;
+            this.count.add(inherited);
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        // 빈도 상한
+        public long getCount() {
+            return count.sum();
+        }
+
+        // 과대 추정 가능한 최대치 (count - error = 빈도 하한)
+        public long getError() {
+            return error;
+        }
+
+        public S getStats() {
+            return stats;
+        }
+    }
+
+    // key 의 빈도를 1 올리고 부가 통계 객체를 돌려준다
+    public S offer(K key) {
+        Slot<K, S> slot = slots.get(key);
+        if (slot == null) {
+            slot = admit(key);
+        }
+        slot.count.increment();
+        return slot.stats;
+    }
+
+    private synchronized Slot<K, S> admit(K key) {
+        Slot<K, S> slot = slots.get(key);
+        if (slot != null) {
+            return slot;
+        }
+
+        long inherited = 0;
+        if (slots.size() >= capacity) {
+            Slot<K, S> min = null;
+            for (Slot<K, S> candidate : slots.values()) {
+                if (min == null || candidate.getCount() < min.getCount()) {
+                    min = candidate;
+                }
+            }
+            slots.remove(min.key);
+            inherited = min.getCount();
+        }
+
+        slot = new Slot<>(key, inherited, statsFactory.get());
+        slots.put(key, slot);
+        return slot;
+    }
+
+    // count 내림차순 상위 limit 개
+    public List<Slot<K, S>> top(int limit) {
+        List<Slot<K, S>> sorted = new ArrayList<>(slots.values());
+        sorted.sort(Comparator.comparingLong(Slot<K, S>::getCount).reversed());
+        return sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
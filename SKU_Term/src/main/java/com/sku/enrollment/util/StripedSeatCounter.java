@@ -0,0 +1,116 @@
+package com.sku.enrollment.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 강의별 잔여 좌석 카운터 (단일 노드 전용)
+ * - lectureId 는 정렬된 long[] 에서 이진 탐색으로 슬롯 인덱스로 변환
+ * - 잔여 좌석은 AtomicLongArray 에 저장하고 CAS 로만 차감/반환
+ * - 강의마다 64byte(=long 8개) 간격으로 배치하여 인접 강의 간 false sharing 을 막는다
+ */
+public final class StripedSeatCounter {
+
+    public static final int CLAIMED = 1;
+    public static final int FULL = 0;
+    public static final int UNKNOWN = -1;
+
+    private static final int STRIDE = 8;
+
+    private final long[] lectureIds;
+    private final long[] maxCapacities;
+    private final AtomicLongArray remaining;
+
+    /**
+     * @param lectureIds     강의 ID (정렬 여부 무관)
+     * @param maxCapacities  lectureIds 와 같은 순서의 최대 정원
+     * @param occupied       lectureIds 와 같은 순서의 사용 중인 좌석 수
+     */
+    public StripedSeatCounter(long[] lectureIds, long[] maxCapacities, long[] occupied) {
+        int n = lectureIds.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(lectureIds[a], lectureIds[b]));
+
+        this.lectureIds = new long[n];
+        this.maxCapacities = new long[n];
+        this.remaining = new AtomicLongArray(n * STRIDE);
+
+        for (int i = 0; i < n; i++) {
+            int src = order[i];
+            this.lectureIds[i] = lectureIds[src];
+            this.maxCapacities[i] = maxCapacities[src];
+            this.remaining.set(i * STRIDE, Math.max(0L, maxCapacities[src] - occupied[src]));
+        }
+    }
+
+    public static StripedSeatCounter empty() {
+        return new StripedSeatCounter(new long[0], new long[0], new long[0]);
+    }
+
+    /**
+     * 좌석 1개 차감
+     *
+     * @return CLAIMED / FULL / UNKNOWN(적재되지 않은 강의)
+     */
+    public int tryClaim(long lectureId) {
+        int slot = slotOf(lectureId);
+        if (slot < 0) {
+            return UNKNOWN;
+        }
+
+        while (true) {
+            long left = remaining.get(slot);
+            if (left <= 0) {
+                return FULL;
+            }
+            if (remaining.compareAndSet(slot, left, left - 1)) {
+                return CLAIMED;
+            }
+        }
+    }
+
+    /**
+     * 좌석 1개 반환 (최대 정원을 넘지 않음)
+     */
+    public boolean release(long lectureId) {
+        int slot = slotOf(lectureId);
+        if (slot < 0) {
+            return false;
+        }
+
+        long max = maxCapacities[slot / STRIDE];
+        while (true) {
+            long left = remaining.get(slot);
+            if (left >= max) {
+                return false;
+            }
+            if (remaining.compareAndSet(slot, left, left + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean contains(long lectureId) {
+        return Arrays.binarySearch(lectureIds, lectureId) >= 0;
+    }
+
+    /**
+     * @return 잔여 좌석 수, 적재되지 않은 강의면 -1
+     */
+    public long remainingOf(long lectureId) {
+        int slot = slotOf(lectureId);
+        return slot < 0 ? -1L : remaining.get(slot);
+    }
+
+    public int size() {
+        return lectureIds.length;
+    }
+
+    private int slotOf(long lectureId) {
+        int index = Arrays.binarySearch(lectureIds, lectureId);
+        return index < 0 ? -1 : index * STRIDE;
+    }
+}
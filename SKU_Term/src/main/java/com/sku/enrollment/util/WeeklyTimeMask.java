@@ -0,0 +1,205 @@
+package com.sku.enrollment.util;
+
+import com.sku.lecture.vo.LectureTime;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * 주간 시간표 점유 비트맵 (7일 x 5분 슬롯 = 2016bit → long 32개)
+ * - 충돌 검사는 long 32개 AND 로 끝난다
+ * - 슬롯은 [시작 내림, 종료 올림) 으로 잡기 때문에 실제 점유 시간의 상위집합이다
+ *   → 5분 단위로 정렬되지 않은 시간이 섞인 경우에만 원래 구간으로 정밀 비교 (false positive 제거)
+ */
+public final class WeeklyTimeMask {
+
+    private static final int SLOT_SECONDS = 5 * 60;
+    private static final int SLOTS_PER_DAY = 24 * 60 * 60 / SLOT_SECONDS;
+    private static final int WORDS = (7 * SLOTS_PER_DAY + 63) / 64;
+
+    // DB 저장 크기 (StudentEnrollmentSummary.SUMMARY_TIME_MASK)
+    public static final int PACKED_BYTES = WORDS * Long.BYTES;
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    public static final WeeklyTimeMask EMPTY = new WeeklyTimeMask(new long[WORDS], new int[0], true);
+
+    private final long[] words;
+
+    // 정밀 비교용 원래 구간: {요일 index, 시작 초, 종료 초} 를 평탄화
+    private final int[] intervals;
+
+    // 모든 경계가 5분 단위면 비트맵만으로 정확
+    private final boolean exact;
+
+    private WeeklyTimeMask(long[] words, int[] intervals, boolean exact) {
+        this.words = words;
+        this.intervals = intervals;
+        this.exact = exact;
+    }
+
+    /**
+     * 요일/시작/종료가 비어 있거나 알 수 없는 요일인 시간은 무시 (기존 충돌 검사와 동일)
+     */
+    public static WeeklyTimeMask of(Collection<LectureTime> times) {
+        if (times == null || times.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] words = new long[WORDS];
+        int[] intervals = new int[times.size() * 3];
+        int count = 0;
+        boolean exact = true;
+
+        for (LectureTime time : times) {
+            int day = dayIndex(time.getDayOfWeek());
+            if (day < 0 || time.getStartTime() == null || time.getEndTime() == null) {
+                continue;
+            }
+
+            int start = time.getStartTime().toSecondOfDay();
+            int end = time.getEndTime().toSecondOfDay();
+            if (end <= start) {
+                continue;
+            }
+            if (start % SLOT_SECONDS != 0 || end % SLOT_SECONDS != 0) {
+                exact = false;
+            }
+
+            int base = day * SLOTS_PER_DAY;
+            int fromSlot = base + start / SLOT_SECONDS;
+            int toSlot = base + (end + SLOT_SECONDS - 1) / SLOT_SECONDS;
+            for (int slot = fromSlot; slot < toSlot; slot++) {
+                words[slot >>> 6] |= 1L << (slot & 63);
+            }
+
+            intervals[count++] = day;
+            intervals[count++] = start;
+            intervals[count++] = end;
+        }
+
+        if (count == 0) {
+            return EMPTY;
+        }
+        return new WeeklyTimeMask(words, Arrays.copyOf(intervals, count), exact);
+    }
+
+    /**
+     * DB 에 저장된 비트맵 복원
+     * - 원래 구간 정보가 없으므로 conflictsWith 의 정밀 비교는 불가 → intersects/isExact 로만 판단
+     */
+    public static WeeklyTimeMask fromBytes(byte[] packed, boolean exact) {
+        if (packed == null || packed.length != PACKED_BYTES) {
+            return EMPTY;
+        }
+        long[] words = new long[WORDS];
+        ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(words);
+        return new WeeklyTimeMask(words, new int[0], exact);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(PACKED_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+
+    /**
+     * 두 시간표를 합친 비트맵 (학생의 신청 강의 전체 시간표 구성용)
+     */
+    public WeeklyTimeMask or(WeeklyTimeMask other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+
+        long[] merged = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            merged[i] = words[i] | other.words[i];
+        }
+
+        int[] mergedIntervals = Arrays.copyOf(intervals, intervals.length + other.intervals.length);
+        System.arraycopy(other.intervals, 0, mergedIntervals, intervals.length, other.intervals.length);
+        return new WeeklyTimeMask(merged, mergedIntervals, exact && other.exact);
+    }
+
+    /**
+     * other 의 슬롯을 지운 비트맵 (수강 취소 시 요약 시간표 갱신용)
+     * - 강의끼리 슬롯을 공유하지 않을 때(모두 exact + 충돌 없음)만 남은 강의 시간표와 같다
+     * - 원래 구간 정보는 남기지 않는다 (DB 저장용)
+     */
+    public WeeklyTimeMask andNot(WeeklyTimeMask other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        long[] cleared = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            cleared[i] = words[i] & ~other.words[i];
+        }
+        return new WeeklyTimeMask(cleared, new int[0], exact);
+    }
+
+    public boolean conflictsWith(WeeklyTimeMask other) {
+        if (!intersects(other)) {
+            return false;
+        }
+        if (exact && other.exact) {
+            return true;
+        }
+        return intervalsOverlap(other);
+    }
+
+    /**
+     * 슬롯 단위 교집합 여부 (둘 다 exact 가 아니면 충돌 후보일 뿐)
+     */
+    public boolean intersects(WeeklyTimeMask other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean intervalsOverlap(WeeklyTimeMask other) {
+        for (int i = 0; i < intervals.length; i += 3) {
+            for (int j = 0; j < other.intervals.length; j += 3) {
+                if (intervals[i] == other.intervals[j]
+                        && intervals[i + 1] < other.intervals[j + 2]
+                        && other.intervals[j + 1] < intervals[i + 2]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int dayIndex(String dayOfWeek) {
+        if (dayOfWeek == null) {
+            return -1;
+        }
+        String day = dayOfWeek.trim().toUpperCase(Locale.ROOT);
+        for (int i = 0; i < DAYS.length; i++) {
+            if (DAYS[i].equals(day)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sku.enrollment.util;
+
+import java.util.Random;
+
+/**
+ * Zipf 분포 샘플러 (순위 k 의 확률 ∝ 1 / k^s)
+ * - 누적분포(CDF)를 미리 계산해두고 이진 탐색으로 샘플링 → O(log n)
+ * - s 가 클수록 소수의 상위 강의에 요청이 몰린다 (s = 0 이면 균등 분포)
+ */
+public final class ZipfDistribution {
+
+    private final double[] cdf;
+
+    public ZipfDistribution(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must not be negative: " + exponent);
+        }
+        this.cdf = new double[size];
+
+        double sum = 0;
+        for (int k = 1; k <= size; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= sum;
+        }
+        cdf[size - 1] = 1.0;
+    }
+
+    // 0 부터 시작하는 순위 (0 이 가장 인기)
+    public int sample(Random random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 순위 rank 의 확률
+    public double probability(int rank) {
+        return rank == 0 ? cdf[0] : cdf[rank] - cdf[rank - 1];
+    }
+
+    public int size() {
+        return cdf.length;
+    }
+}
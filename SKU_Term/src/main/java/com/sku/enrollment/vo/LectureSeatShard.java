@@ -0,0 +1,15 @@
+package com.sku.enrollment.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureSeatShard {
+
+    private Long lectureId;   // SHARD_LECTURE_ID
+    private Integer shardNo;  // SHARD_NO (0 ~ LECTURE_SEAT_SHARDS - 1)
+    private Integer remaining; // SHARD_REMAINING
+}
@@ -0,0 +1,16 @@
+package com.sku.enrollment.vo;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class StudentEnrollmentSummary {
+
+    private Long studentId;          // SUMMARY_STUDENT_ID
+    private Integer totalCredits;    // SUMMARY_TOTAL_CREDITS
+    private Integer lectureCount;    // SUMMARY_LECTURE_COUNT
+    private byte[] timeMask;         // SUMMARY_TIME_MASK (WeeklyTimeMask 256byte)
+    private Boolean timeMaskExact;   // SUMMARY_TIME_MASK_EXACT
+    private LocalDateTime updatedAt; // SUMMARY_UPDATED_AT
+}
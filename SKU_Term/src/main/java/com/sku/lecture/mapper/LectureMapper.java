@@ -19,4 +19,13 @@ public interface LectureMapper {
 
     // 강의 시간 목록 조회
     List<LectureTime> findTimesByLectureId(@Param("lectureId") Long lectureId);
+
+    // 여러 강의의 시간 목록 일괄 조회 (IN 조건)
+    List<LectureTime> findTimesByLectureIds(@Param("lectureIds") List<Long> lectureIds);
+
+    // 전체 강의의 정원/현재 인원/학점 조회 (좌석 카운터 적재용)
+    List<Lecture> findAllSeatCounts();
+
+    // 지정 강의의 정원/현재 인원/학점 조회 (IN 조건)
+    List<Lecture> findSeatCountsByIds(@Param("lectureIds") List<Long> lectureIds);
 }
@@ -13,4 +13,6 @@ public class Lecture {
     private Integer currentCount;    // LECTURE_CURRENT_COUNT
     private String division;         // LECTURE_DIVISION
     private String room;             // LECTURE_ROOM
+    private Long version;            // LECTURE_VERSION (OPTIMISTIC lock mode)
+    private Integer seatShards;      // LECTURE_SEAT_SHARDS (SHARDED_COUNTER lock mode)
 }
@@ -0,0 +1,81 @@
+package com.sku.queue.controller;
+
+import com.sku.common.dto.ResponseDto;
+import com.sku.queue.service.QueueAdmissionService;
+import com.sku.queue.service.QueueService;
+import com.sku.queue.service.QueueStreamService;
+import com.sku.queue.support.QueueLeaderElection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/queue")
+public class AdminQueueController {
+
+    private final QueueService queueService;
+    private final QueueStreamService queueStreamService;
+    private final QueueAdmissionService queueAdmissionService;
+    private final QueueLeaderElection leaderElection;
+
+    /**
+     * 대기열 입장 처리 지표 (노드별 누적 + 마지막 처리 결과의 대기/활성 인원)
+     * - stream: 이 노드의 SSE 구독 연결 수/전송 수
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getQueueStats() {
+
+        Map<String, Object> result = new LinkedHashMap<>(queueService.getStats());
+        result.put("stream", queueStreamService.getStats());
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "대기열 지표 조회 성공",
+                        result
+                )
+        );
+    }
+
+    /**
+     * 초당 입장 인원 자동 조정 현황
+     * - 현재 처리량, 조정 설정, 최근 결정 이력(입력 신호: p50/p95/p99, 오류율, 커넥션 풀 포화도/대기 스레드, 대기 인원)
+     */
+    @GetMapping("/admission")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getAdmissionState() {
+
+        Map<String, Object> result = queueAdmissionService.getState();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "대기열 입장 인원 조정 현황 조회 성공",
+                        result
+                )
+        );
+    }
+
+    /**
+     * 대기열 스케줄러 리더 (현재 임대 값 "{nodeId}:{fencingToken}" + 이 노드의 리더 여부)
+     */
+    @GetMapping("/leader")
+    public ResponseEntity<ResponseDto<Map<String, Object>>> getLeader() {
+
+        Map<String, Object> result = leaderElection.getStatus();
+
+        return ResponseEntity.ok(
+                new ResponseDto<>(
+                        HttpStatus.OK.value(),
+                        "대기열 리더 조회 성공",
+                        result
+                )
+        );
+    }
+}
@@ -4,13 +4,18 @@ import com.sku.common.dto.ResponseDto;
 import com.sku.queue.dto.QueueJoinResponseDto;
 import com.sku.queue.dto.QueueStatusResponseDto;
 import com.sku.queue.service.QueueService;
+import com.sku.queue.service.QueueStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/queue")
@@ -18,6 +23,7 @@ import java.util.Map;
 public class QueueController {
 
     private final QueueService queueService;
+    private final QueueStreamService queueStreamService;
 
     @Value("${peakguard.queue.admin-reset-enabled:true}")
     private boolean adminResetEnabled;
@@ -45,6 +51,7 @@ public class QueueController {
 
     /**
      * 대기열 상태 조회
+     * - 대기 중 응답은 스냅샷(1초 주기) 기준 추정값이므로 브라우저에 1초 캐시 허용
      */
     @GetMapping("/status")
     public ResponseEntity<ResponseDto<Map<String, Object>>> getStatus(
@@ -52,13 +59,26 @@ public class QueueController {
     ) {
         QueueStatusResponseDto status = queueService.getStatus(queueToken);
 
-        return ResponseEntity.ok(
-                new ResponseDto<>(
+        CacheControl cacheControl = status.isActive()
+                ? CacheControl.noStore()
+                : CacheControl.maxAge(1, TimeUnit.SECONDS).cachePrivate();
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(new ResponseDto<>(
                         HttpStatus.OK.value(),
                         "대기열 상태 조회 성공",
                         Map.of("queueStatus", status)
-                )
-        );
+                ));
+    }
+
+    /**
+     * 대기열 상태 구독 (순번이 바뀔 때마다 "status" 이벤트, 입장 시 active=true 후 종료)
+     * - 연결 실패/거절 시 클라이언트는 /status 폴링으로 전환
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatus(@RequestParam("token") String queueToken) {
+        return queueStreamService.subscribe(queueToken);
     }
 
     @PostMapping("/reset")
@@ -0,0 +1,20 @@
+package com.sku.queue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대기열 입장 처리(promote) 1회 결과
+ */
+@Getter
+@AllArgsConstructor
+public class QueuePromotionResultDto {
+
+    private long purged;       // 만료되어 정리된 활성 토큰 수
+    private long promoted;     // 이번에 입장시킨 인원
+    private long activeSize;   // 처리 후 활성 인원
+    private long waitingSize;  // 처리 후 대기 인원
+    private Long headNumber;   // 대기열 맨 앞 번호 (비었으면 null)
+    private Long tailNumber;   // 대기열 맨 뒤 번호 (비었으면 null)
+    private long throughput;   // 적용된 초당 입장 인원
+}
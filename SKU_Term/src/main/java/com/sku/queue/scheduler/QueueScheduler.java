@@ -1,6 +1,9 @@
 package com.sku.queue.scheduler;
 
+import com.sku.common.config.SchedulingConfig;
+import com.sku.queue.dto.QueuePromotionResultDto;
 import com.sku.queue.service.QueueService;
+import com.sku.queue.support.QueueLeaderElection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,12 +15,20 @@ import org.springframework.stereotype.Component;
 public class QueueScheduler {
 
     private final QueueService queueService;
+    private final QueueLeaderElection leaderElection;
 
-    // 1초 마다 실행
-    @Scheduled(fixedDelay = 1000)
+    // 1초 마다 실행 (리더 노드만 입장 처리, 임대 갱신과 같은 전용 스케줄러)
+    @Scheduled(fixedDelay = 1000, scheduler = SchedulingConfig.QUEUE_LEADER_SCHEDULER)
     public void queueProcess() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
         try {
-            queueService.promoteNextBatch();
+            QueuePromotionResultDto result = queueService.promoteNextBatch(leaderElection.lease());
+            if (result == null) {
+                // 다른 노드가 임대를 가져감 → 다음 갱신까지 대기
+                leaderElection.markLost();
+            }
         } catch (Exception e) {
             log.error("대기열 스케줄러 오류 발생", e);
         }
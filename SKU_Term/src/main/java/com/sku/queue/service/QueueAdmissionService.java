@@ -0,0 +1,14 @@
+package com.sku.queue.service;
+
+import java.util.Map;
+
+/**
+ * 대기열 초당 입장 인원(queue:config:throughput) 자동 조정
+ * - 수강신청 처리 시간/오류율/DB 커넥션 풀 포화도를 주기적으로 수집해 AIMD 로 조정
+ *   (과부하 신호가 하나라도 있으면 곱셈 감소, 대기 인원이 있고 여유가 있으면 덧셈 증가)
+ */
+public interface QueueAdmissionService {
+
+    // 현재 설정/처리량 + 최근 결정 이력(입력 신호 포함)
+    Map<String, Object> getState();
+}
@@ -1,6 +1,7 @@
 package com.sku.queue.service;
 
 import com.sku.queue.dto.QueueJoinResponseDto;
+import com.sku.queue.dto.QueuePromotionResultDto;
 import com.sku.queue.dto.QueueStatusResponseDto;
 
 import java.util.Map;
@@ -13,9 +14,13 @@ public interface QueueService {
     QueueStatusResponseDto getStatus(String queueToken);
 
     void validateActiveToken(String queueToken);
-    void promoteNextBatch();
+    // 만료 정리 + 대기열 상위 유저 입장 (Lua 1회), lease 가 현재 리더 임대가 아니면 아무것도 하지 않고 null
+    QueuePromotionResultDto promoteNextBatch(String leaderLease);
     void removeToken(String queueToken);
     Map<String, Object> resetQueueState();
 
+    // 입장 처리 누적 지표 + 현재 대기/활성 인원
+    Map<String, Object> getStats();
+
     String maskToken(String token);
 }
@@ -0,0 +1,18 @@
+package com.sku.queue.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * 대기열 순번 SSE 푸시
+ * - 노드별 브로드캐스터가 주기마다 대기열 맨 앞 번호를 1회 조회하고, 구독자별 순번/예상 대기 시간을 계산해 전송한다
+ * - 구독자 수와 무관하게 Redis 조회는 주기당 몇 번으로 고정 (폴링은 사용자당 초당 3회)
+ */
+public interface QueueStreamService {
+
+    // "status" 이벤트(QueueStatusResponseDto) 반복 전송, 입장하면 active=true 1회 후 종료 / 토큰 만료 시 "expired" 후 종료
+    SseEmitter subscribe(String queueToken);
+
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,375 @@
+package com.sku.queue.service.serviceImpl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sku.enrollment.support.EnrollmentMetrics;
+import com.sku.queue.service.QueueAdmissionService;
+import com.sku.queue.support.QueueLeaderElection;
+import com.sku.queue.support.QueueSnapshot;
+import com.sku.queue.support.QueueSnapshotHolder;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 노드별 신호 수집
+ * - 주기마다 직전 주기 대비 증가분(요청/오류/BUSY 거절/처리 시간 구간별 건수) + 커넥션 풀 상태를
+ *   queue:admission:signals (HASH, field = 노드 id) 에 기록
+ *
+ * 조정 (대기열 리더 노드만, QueueLeaderElection)
+ * - 최근 노드 신호를 합산해 p95/오류율/풀 포화도 계산
+ * - 과부하: throughput × decrease-factor (floor 이상)
+ * - 과부하가 아니고 직전 입장 처리가 throughput 을 모두 썼으면: throughput + increase-step (ceiling 이하)
+ *   (스냅샷이 없거나 대기 인원/활성 자리가 모자라 덜 입장시켰으면 늘려도 효과가 없으므로 유지)
+ * - 결정과 입력 신호는 queue:admission:decisions (LIST, 최근 history-size 개) 에 남긴다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AimdQueueAdmissionServiceImpl implements QueueAdmissionService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EnrollmentMetrics enrollmentMetrics;
+    private final QueueSnapshotHolder snapshotHolder;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final QueueLeaderElection leaderElection;
+
+    private static final String KEY_THROUGHPUT = "queue:config:throughput";
+    private static final String SIGNALS_KEY = "queue:admission:signals";
+    private static final String DECISIONS_KEY = "queue:admission:decisions";
+
+    private static final long[] BOUNDS_MS = EnrollmentMetrics.LATENCY_BUCKET_BOUNDS_MS;
+
+    @Value("${peakguard.queue.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${peakguard.queue.admission.interval-ms:5000}")
+    private long intervalMs;
+
+    @Value("${peakguard.queue.default-throughput:10}")
+    private long defaultThroughput;
+
+    @Value("${peakguard.queue.admission.floor:5}")
+    private long floor;
+
+    @Value("${peakguard.queue.admission.ceiling:200}")
+    private long ceiling;
+
+    @Value("${peakguard.queue.admission.increase-step:2}")
+    private long increaseStep;
+
+    @Value("${peakguard.queue.admission.decrease-factor:0.7}")
+    private double decreaseFactor;
+
+    @Value("${peakguard.queue.admission.target-p95-ms:500}")
+    private long targetP95Ms;
+
+    // 오류 + BUSY 거절 비율
+    @Value("${peakguard.queue.admission.max-error-rate:0.05}")
+    private double maxErrorRate;
+
+    @Value("${peakguard.queue.admission.max-pool-saturation:0.9}")
+    private double maxPoolSaturation;
+
+    @Value("${peakguard.queue.admission.max-pool-waiters:0}")
+    private int maxPoolWaiters;
+
+    // 구간 요청 수가 이보다 적으면 처리 시간/오류율은 판단에 쓰지 않는다
+    @Value("${peakguard.queue.admission.min-samples:20}")
+    private long minSamples;
+
+    @Value("${peakguard.queue.admission.history-size:100}")
+    private int historySize;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    // 스케줄러 스레드에서만 갱신
+    private long[] lastTotals;
+    private long[] lastLatencyCounts;
+
+    private record NodeSignal(long requests, long errors, long busy, long[] latencyCounts,
+                              int poolActive, int poolMax, int poolWaiters, long sampledAtMs) {
+
+        String encode() {
+            return requests + "|" + errors + "|" + busy + "|"
+                    + String.join(",", Arrays.stream(latencyCounts).mapToObj(String::valueOf).toList()) + "|"
+                    + poolActive + "|" + poolMax + "|" + poolWaiters + "|" + sampledAtMs;
+        }
+
+        static NodeSignal decode(String value) {
+            String[] parts = value.split("\\|");
+            long[] counts = Arrays.stream(parts[3].split(",")).mapToLong(Long::parseLong).toArray();
+            return new NodeSignal(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]), counts,
+                    Integer.parseInt(parts[4]), Integer.parseInt(parts[5]), Integer.parseInt(parts[6]),
+                    Long.parseLong(parts[7]));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${peakguard.queue.admission.interval-ms:5000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            publishLocalSignal();
+
+            if (leaderElection.isLeader()) {
+                adjust();
+            }
+        } catch (RuntimeException e) {
+            log.warn("대기열 입장 인원 조정 실패", e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getState() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("intervalMs", intervalMs);
+        config.put("floor", floor);
+        config.put("ceiling", ceiling);
+        config.put("increaseStep", increaseStep);
+        config.put("decreaseFactor", decreaseFactor);
+        config.put("targetP95Ms", targetP95Ms);
+        config.put("maxErrorRate", maxErrorRate);
+        config.put("maxPoolSaturation", maxPoolSaturation);
+        config.put("maxPoolWaiters", maxPoolWaiters);
+        config.put("minSamples", minSamples);
+
+        List<Map<String, Object>> decisions = new ArrayList<>();
+        List<String> raw = stringRedisTemplate.opsForList().range(DECISIONS_KEY, 0, historySize - 1);
+        if (raw != null) {
+            for (String value : raw) {
+                try {
+                    decisions.add(objectMapper.readValue(value, new TypeReference<Map<String, Object>>() { }));
+                } catch (JsonProcessingException e) {
+                    log.debug("입장 인원 결정 이력 파싱 실패 - value={}", value, e);
+                }
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("nodeId", nodeId);
+        result.put("throughput", currentThroughput());
+        result.put("config", config);
+        result.put("decisions", decisions);
+        return result;
+    }
+
+    private void publishLocalSignal() {
+        long[] totals = enrollmentMetrics.totals();
+        long[] latencyCounts = enrollmentMetrics.latencyCounts();
+        if (lastTotals == null) {
+            lastTotals = totals;
+            lastLatencyCounts = latencyCounts;
+            return;
+        }
+
+        long[] latencyDelta = new long[latencyCounts.length];
+        for (int i = 0; i < latencyCounts.length; i++) {
+            latencyDelta[i] = latencyCounts[i] - lastLatencyCounts[i];
+        }
+
+        int poolActive = 0;
+        int poolMax = 0;
+        int poolWaiters = 0;
+        HikariDataSource hikari = hikari();
+        if (hikari != null && hikari.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            poolActive = pool.getActiveConnections();
+            poolWaiters = pool.getThreadsAwaitingConnection();
+            poolMax = hikari.getMaximumPoolSize();
+        }
+
+        NodeSignal signal = new NodeSignal(
+                totals[0] - lastTotals[0],
+                totals[1] - lastTotals[1],
+                totals[2] - lastTotals[2],
+                latencyDelta,
+                poolActive, poolMax, poolWaiters,
+                System.currentTimeMillis());
+        lastTotals = totals;
+        lastLatencyCounts = latencyCounts;
+
+        stringRedisTemplate.opsForHash().put(SIGNALS_KEY, nodeId, signal.encode());
+        stringRedisTemplate.expire(SIGNALS_KEY, Duration.ofMillis(intervalMs * 3));
+    }
+
+    private void adjust() {
+        long nowMs = System.currentTimeMillis();
+
+        // 최근 2주기 안에 기록된 노드 신호만 합산 (종료된 노드 정리)
+        long requests = 0;
+        long errors = 0;
+        long busy = 0;
+        long[] latencyCounts = new long[BOUNDS_MS.length + 1];
+        double poolSaturation = 0.0;
+        int poolWaiters = 0;
+        int nodes = 0;
+
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(SIGNALS_KEY);
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            NodeSignal signal = NodeSignal.decode((String) entry.getValue());
+            if (nowMs - signal.sampledAtMs() > intervalMs * 2) {
+                stringRedisTemplate.opsForHash().delete(SIGNALS_KEY, entry.getKey());
+                continue;
+            }
+            nodes++;
+            requests += signal.requests();
+            errors += signal.errors();
+            busy += signal.busy();
+            for (int i = 0; i < latencyCounts.length && i < signal.latencyCounts().length; i++) {
+                latencyCounts[i] += signal.latencyCounts()[i];
+            }
+            if (signal.poolMax() > 0) {
+                poolSaturation = Math.max(poolSaturation, (double) signal.poolActive() / signal.poolMax());
+            }
+            poolWaiters = Math.max(poolWaiters, signal.poolWaiters());
+        }
+
+        double errorRate = requests == 0 ? 0.0 : (double) (errors + busy) / requests;
+        long p50 = percentileMs(latencyCounts, 0.50);
+        long p95 = percentileMs(latencyCounts, 0.95);
+        long p99 = percentileMs(latencyCounts, 0.99);
+
+        QueueSnapshot snapshot = snapshotHolder.current();
+        Long waitingSize = snapshot == null ? null : snapshot.waitingSize();
+        Long promoted = snapshot == null ? null : snapshot.promoted();
+
+        List<String> reasons = new ArrayList<>();
+        boolean enoughSamples = requests >= minSamples;
+        if (enoughSamples && p95 > targetP95Ms) {
+            reasons.add("p95Ms>" + targetP95Ms);
+        }
+        if (enoughSamples && errorRate > maxErrorRate) {
+            reasons.add("errorRate>" + maxErrorRate);
+        }
+        if (poolSaturation > maxPoolSaturation) {
+            reasons.add("poolSaturation>" + maxPoolSaturation);
+        }
+        if (poolWaiters > maxPoolWaiters) {
+            reasons.add("poolWaiters>" + maxPoolWaiters);
+        }
+
+        long current = currentThroughput();
+        long next;
+        String action;
+        if (!reasons.isEmpty()) {
+            next = Math.max(floor, (long) Math.floor(current * decreaseFactor));
+            action = "DECREASE";
+        } else if (waitingSize == null) {
+            // 입장 처리 상태를 모르면 늘리지 않는다
+            next = current;
+            action = "HOLD";
+            reasons.add("noSnapshot");
+        } else if (waitingSize == 0) {
+            // 대기 인원이 없으면 늘려도 효과가 없다
+            next = current;
+            action = "HOLD";
+            reasons.add("queueEmpty");
+        } else if (promoted < snapshot.throughput()) {
+            // 직전 주기에 throughput 만큼 입장시키지 못함 (활성 자리 부족 등) → 늘려도 효과가 없다
+            next = current;
+            action = "HOLD";
+            reasons.add("promotedBelowThroughput");
+        } else {
+            next = Math.min(ceiling, current + increaseStep);
+            action = "INCREASE";
+        }
+        next = Math.max(floor, Math.min(ceiling, next));
+        if (next == current && !"HOLD".equals(action)) {
+            reasons.add(action.equals("INCREASE") ? "atCeiling" : "atFloor");
+            action = "HOLD";
+        }
+
+        if (next != current) {
+            stringRedisTemplate.opsForValue().set(KEY_THROUGHPUT, String.valueOf(next));
+            log.info("대기열 초당 입장 인원 조정 {} → {} ({}, p95={}ms, errorRate={}, poolSaturation={}, poolWaiters={})",
+                    current, next, reasons, p95, errorRate, poolSaturation, poolWaiters);
+        }
+
+        Map<String, Object> signals = new LinkedHashMap<>();
+        signals.put("nodes", nodes);
+        signals.put("requests", requests);
+        signals.put("errors", errors);
+        signals.put("busyRejected", busy);
+        signals.put("errorRate", errorRate);
+        signals.put("p50Ms", p50);
+        signals.put("p95Ms", p95);
+        signals.put("p99Ms", p99);
+        signals.put("poolSaturation", poolSaturation);
+        signals.put("poolWaiters", poolWaiters);
+        signals.put("waitingSize", waitingSize);
+        signals.put("promoted", promoted);
+
+        Map<String, Object> decision = new LinkedHashMap<>();
+        decision.put("at", nowMs);
+        decision.put("nodeId", nodeId);
+        decision.put("action", action);
+        decision.put("from", current);
+        decision.put("to", next);
+        decision.put("reasons", reasons);
+        decision.put("signals", signals);
+        recordDecision(decision);
+    }
+
+    private void recordDecision(Map<String, Object> decision) {
+        try {
+            stringRedisTemplate.opsForList().leftPush(DECISIONS_KEY, objectMapper.writeValueAsString(decision));
+            stringRedisTemplate.opsForList().trim(DECISIONS_KEY, 0, historySize - 1);
+        } catch (JsonProcessingException e) {
+            log.warn("입장 인원 결정 이력 저장 실패", e);
+        }
+    }
+
+    private long currentThroughput() {
+        String value = stringRedisTemplate.opsForValue().get(KEY_THROUGHPUT);
+        long throughput = value != null ? Long.parseLong(value) : defaultThroughput;
+        return Math.max(floor, Math.min(ceiling, throughput));
+    }
+
+    // 구간 상한값 기준 백분위 (마지막 구간은 마지막 상한의 2배로 표시)
+    private static long percentileMs(long[] counts, double percentile) {
+        long total = Arrays.stream(counts).sum();
+        if (total == 0) {
+            return 0L;
+        }
+        long target = (long) Math.ceil(total * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return i < BOUNDS_MS.length ? BOUNDS_MS[i] : BOUNDS_MS[BOUNDS_MS.length - 1] * 2;
+            }
+        }
+        return BOUNDS_MS[BOUNDS_MS.length - 1] * 2;
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            log.debug("커넥션 풀 정보 조회 실패", e);
+        }
+        return null;
+    }
+}
@@ -3,21 +3,30 @@ package com.sku.queue.service.serviceImpl;
 import com.sku.common.exception.CustomException;
 import com.sku.common.util.ErrorCode;
 import com.sku.queue.dto.QueueJoinResponseDto;
+import com.sku.queue.dto.QueuePromotionResultDto;
 import com.sku.queue.dto.QueueStatusResponseDto;
 import com.sku.queue.service.QueueService;
+import com.sku.queue.support.ActiveTokenNearCache;
+import com.sku.queue.support.QueueSnapshot;
+import com.sku.queue.support.QueueSnapshotHolder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.connection.DataType;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Service
@@ -25,6 +34,8 @@ import java.util.UUID;
 public class QueueServiceImpl implements QueueService {
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final ActiveTokenNearCache activeTokenCache;
+    private final QueueSnapshotHolder snapshotHolder;
 
     @Value("${peakguard.queue.active-ttl-seconds:900}")
     private long activeTtlSeconds;
@@ -33,6 +44,7 @@ public class QueueServiceImpl implements QueueService {
     private static final String QUEUE_WAITING_ZSET_KEY = "queue:waiting";
     private static final String QUEUE_TOKEN_PREFIX = "queue:token:";
     private static final String QUEUE_ACTIVE_ZSET_KEY = "queue:active";
+    private static final String QUEUE_LEADER_KEY = "queue:leader";
 
     // 초당 입장 허용 인원
     private static final String KEY_THROUGHPUT = "queue:config:throughput";
@@ -46,29 +58,80 @@ public class QueueServiceImpl implements QueueService {
     // 최대 활성 사용자 수
     private static final Duration TOKEN_TTL = Duration.ofHours(1);
 
-    @Override
-    public QueueJoinResponseDto joinQueue() {
-        String token = generateToken();
-        Long queueNumber = stringRedisTemplate.opsForValue().increment(QUEUE_COUNTER_KEY);
+    // 스냅샷 추정 순번의 최대 오차 비율이 이보다 크면 ZRANK 로 정확한 순번 조회
+    @Value("${peakguard.queue.snapshot.max-error-ratio:0.05}")
+    private double maxErrorRatio;
+
+    // 실제 초당 입장 인원 지수 이동 평균의 가중치
+    private static final double DRAIN_RATE_ALPHA = 0.3;
+
+    // 번호 발급 + 토큰 저장 + 만료 정리 + 즉시 입장/대기 등록 (EVALSHA 1회, 노드 간 maxActiveUsers 경쟁 없음)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> JOIN_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/queue/join.lua"), List.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PROMOTE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/queue/promote.lua"), List.class);
+
+    private static final RedisScript<Long> TOUCH_ACTIVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/queue/touch_active.lua"), Long.class);
 
-        String tokenKey = QUEUE_TOKEN_PREFIX + token;
-        stringRedisTemplate.opsForValue().set(tokenKey, String.valueOf(queueNumber), TOKEN_TTL);
-        stringRedisTemplate.opsForZSet().add(QUEUE_WAITING_ZSET_KEY, token, queueNumber.doubleValue());
+    private static final RedisScript<Long> MIGRATE_ACTIVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/queue/migrate_active.lua"), Long.class);
 
-        Long rank = stringRedisTemplate.opsForZSet().rank(QUEUE_WAITING_ZSET_KEY, token);
-        long position = (rank == null ? queueNumber : rank + 1);
+    private final LongAdder promotionRuns = new LongAdder();
+    private final LongAdder promotedTotal = new LongAdder();
+    private final LongAdder purgedTotal = new LongAdder();
+    private final LongAdder fencedRuns = new LongAdder();
+    private volatile QueuePromotionResultDto lastPromotion;
+
+    // 입장 처리 스레드(스케줄러)에서만 갱신
+    private double drainRate;
+    private long lastPromotedAtMs;
+
+    private final LongAdder estimatedStatuses = new LongAdder();
+    private final LongAdder exactStatuses = new LongAdder();
+
+    /**
+     * 이전 구현에서는 queue:active 키 타입이 SET 이었음
+     * - ZSET 으로 전환하면서 WRONGTYPE 오류가 날 수 있으므로 기동 시 1회 변환 (진입/승급 경로에서는 타입 확인 안 함)
+     * - 여러 노드가 동시에 기동해도 스크립트 안에서 타입 확인 + 변환하므로 한 번만 적용된다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyActiveSet() {
+        Long migrated = stringRedisTemplate.execute(
+                MIGRATE_ACTIVE_SCRIPT,
+                List.of(QUEUE_ACTIVE_ZSET_KEY),
+                String.valueOf(nextExpireAtMs(nowMs()))
+        );
+        if (migrated != null && migrated >= 0) {
+            log.info("queue:active SET → ZSET 변환 완료 - tokens={}", migrated);
+        }
+    }
 
+    @Override
+    public QueueJoinResponseDto joinQueue() {
+        String token = generateToken();
         long nowMs = nowMs();
-        purgeExpiredActive(nowMs);
 
-        Long currentActive = stringRedisTemplate.opsForZSet().zCard(QUEUE_ACTIVE_ZSET_KEY);
-        if (currentActive == null) currentActive = 0L;
+        List<?> result = stringRedisTemplate.execute(
+                JOIN_SCRIPT,
+                List.of(QUEUE_COUNTER_KEY, QUEUE_WAITING_ZSET_KEY, QUEUE_ACTIVE_ZSET_KEY, QUEUE_TOKEN_PREFIX + token),
+                token,
+                String.valueOf(TOKEN_TTL.toMillis()),
+                String.valueOf(nowMs),
+                String.valueOf(maxActiveUsers),
+                String.valueOf(nextExpireAtMs(nowMs))
+        );
+        if (result == null || result.size() < 3) {
+            throw new CustomException(ErrorCode.QUEUE_SERVICE_UNAVAILABLE);
+        }
 
-        boolean isActive = false;
-        if (currentActive < maxActiveUsers) {
-            stringRedisTemplate.opsForZSet().remove(QUEUE_WAITING_ZSET_KEY, token);
-            stringRedisTemplate.opsForZSet().add(QUEUE_ACTIVE_ZSET_KEY, token, (double) nextExpireAtMs(nowMs));
-            isActive = true;
+        Long queueNumber = ((Number) result.get(0)).longValue();
+        long position = ((Number) result.get(1)).longValue();
+        boolean isActive = ((Number) result.get(2)).longValue() == 1L;
+        if (isActive) {
             log.info("대기열 즉시 입장(FastPass) - token={}", maskToken(token));
         }
 
@@ -81,6 +144,9 @@ public class QueueServiceImpl implements QueueService {
 
         //  이미 입장한 상태인지 확인 (Active ZSET score=expireAtMillis)
         long nowMs = nowMs();
+        if (activeTokenCache.isFresh(queueToken, nowMs)) {
+            return new QueueStatusResponseDto(queueToken, 0L, 0L, true, 0L);
+        }
         Double expireAt = stringRedisTemplate.opsForZSet().score(QUEUE_ACTIVE_ZSET_KEY, queueToken);
         if (expireAt != null) {
             if (expireAt.longValue() > nowMs) {
@@ -90,7 +156,25 @@ public class QueueServiceImpl implements QueueService {
             stringRedisTemplate.opsForZSet().remove(QUEUE_ACTIVE_ZSET_KEY, queueToken);
         }
 
+        //  스냅샷 기준 추정 순번 (토큰 번호 GET 1회, ZRANK 없음)
+        QueueSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null && snapshot.errorRatio() <= maxErrorRatio) {
+            String number = stringRedisTemplate.opsForValue().get(QUEUE_TOKEN_PREFIX + queueToken);
+            if (number == null) {
+                throw new CustomException(ErrorCode.QUEUE_TOKEN_NOT_FOUND);
+            }
+            long queueNumber = Long.parseLong(number);
+            Long position = snapshot.estimatePosition(queueNumber);
+            if (position != null) {
+                estimatedStatuses.increment();
+                return new QueueStatusResponseDto(queueToken, queueNumber, position, false,
+                        snapshot.estimateWaitSeconds(position));
+            }
+            // 맨 앞보다 앞 번호인데 활성이 아님 → 스냅샷 이후 입장 처리/삭제됐을 수 있으므로 정확히 조회
+        }
+
         //  대기열 순번 조회
+        exactStatuses.increment();
         Long rank = stringRedisTemplate.opsForZSet().rank(QUEUE_WAITING_ZSET_KEY, queueToken);
         if (rank == null) {
             throw new CustomException(ErrorCode.QUEUE_TOKEN_NOT_FOUND);
@@ -113,68 +197,116 @@ public class QueueServiceImpl implements QueueService {
             throw new CustomException(ErrorCode.QUEUE_TOKEN_INVALID);
         }
 
+        // 최근 검증/갱신한 토큰은 Redis 접근 없이 통과 (슬라이딩 만료 쓰기는 refresh-fraction 단위로 병합)
         long nowMs = nowMs();
-        Double expireAt = stringRedisTemplate.opsForZSet().score(QUEUE_ACTIVE_ZSET_KEY, queueToken);
-
-        if (expireAt == null) {
-            throw new CustomException(ErrorCode.QUEUE_NOT_ACTIVE);
+        if (activeTokenCache.isFresh(queueToken, nowMs)) {
+            return;
         }
 
-        // 만료 여부 확인 (만료면 정리 후 차단)
-        if (expireAt.longValue() <= nowMs) {
-            stringRedisTemplate.opsForZSet().remove(QUEUE_ACTIVE_ZSET_KEY, queueToken);
+        // 활성 여부 확인 + 만료 시각 갱신 (만료면 정리 후 차단)
+        long expireAt = nextExpireAtMs(nowMs);
+        Long touched = stringRedisTemplate.execute(
+                TOUCH_ACTIVE_SCRIPT,
+                List.of(QUEUE_ACTIVE_ZSET_KEY),
+                queueToken,
+                String.valueOf(nowMs),
+                String.valueOf(expireAt)
+        );
+        if (touched == null || touched != 1L) {
+            activeTokenCache.evict(queueToken);
             throw new CustomException(ErrorCode.QUEUE_NOT_ACTIVE);
         }
-
-        // 슬라이딩 만료: 접근이 있을 때마다 expireAt 갱신
-        stringRedisTemplate.opsForZSet().add(QUEUE_ACTIVE_ZSET_KEY, queueToken, (double) nextExpireAtMs(nowMs));
+        activeTokenCache.put(queueToken, nowMs, expireAt);
     }
 
     /**
      *  1초마다 실행되어 대기열 상위 유저를 입장시킴
+     *  - 만료 정리, 남은 자리 계산, pop, 활성 등록을 스크립트 1회로 처리 (여러 노드가 동시에 실행해도 초과 입장 없음)
+     *  - 스크립트 안에서 리더 임대 값(펜싱 토큰)을 확인 → 임대가 끝난 이전 리더는 입장 처리 불가
      */
     @Override
-    public void promoteNextBatch() {
-        // 현재 입장해있는 유저 수 확인
+    public QueuePromotionResultDto promoteNextBatch(String leaderLease) {
         long nowMs = nowMs();
-        long purged = purgeExpiredActive(nowMs);
-        if (purged > 0) {
-            log.debug("Purged expired active tokens: {}", purged);
-        }
-
-        Long currentActive = stringRedisTemplate.opsForZSet().zCard(QUEUE_ACTIVE_ZSET_KEY);
-        if (currentActive == null) currentActive = 0L;
 
-        if (currentActive >= maxActiveUsers) {
-            log.debug("Active user full. current={}, max={}", currentActive, maxActiveUsers);
-            return;
+        List<?> result = stringRedisTemplate.execute(
+                PROMOTE_SCRIPT,
+                List.of(QUEUE_WAITING_ZSET_KEY, QUEUE_ACTIVE_ZSET_KEY, KEY_THROUGHPUT, QUEUE_LEADER_KEY),
+                String.valueOf(nowMs),
+                String.valueOf(maxActiveUsers),
+                String.valueOf(defaultThroughput),
+                String.valueOf(nextExpireAtMs(nowMs)),
+                leaderLease
+        );
+        if (result != null && result.size() == 1 && ((Number) result.get(0)).longValue() == -1L) {
+            fencedRuns.increment();
+            return null;
+        }
+        if (result == null || result.size() < 7) {
+            throw new CustomException(ErrorCode.QUEUE_SERVICE_UNAVAILABLE);
         }
 
-        // 이번에 입장시킬 인원 수 계산
-        String throughputStr = stringRedisTemplate.opsForValue().get(KEY_THROUGHPUT);
-        long throughput = (throughputStr != null) ? Long.parseLong(throughputStr) : defaultThroughput;
-
-        // 실제 입장 가능 수 = Min(설정된 처리량, 남은 자리)
-        long availableSlots = maxActiveUsers - currentActive;
-        long promoteCount = Math.min(throughput, availableSlots);
-
-        if (promoteCount <= 0) return;
-
-        // 대기열(ZSet)에서 상위 N명 꺼내기 (Pop Min)
-        Set<ZSetOperations.TypedTuple<String>> targetTokens =
-                stringRedisTemplate.opsForZSet().popMin(QUEUE_WAITING_ZSET_KEY, promoteCount);
-
-        if (targetTokens == null || targetTokens.isEmpty()) return;
+        long headNumber = ((Number) result.get(4)).longValue();
+        long tailNumber = ((Number) result.get(5)).longValue();
+        QueuePromotionResultDto promotion = new QueuePromotionResultDto(
+                ((Number) result.get(0)).longValue(),
+                ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue(),
+                ((Number) result.get(3)).longValue(),
+                headNumber < 0 ? null : headNumber,
+                tailNumber < 0 ? null : tailNumber,
+                ((Number) result.get(6)).longValue()
+        );
+
+        promotionRuns.increment();
+        purgedTotal.add(promotion.getPurged());
+        promotedTotal.add(promotion.getPromoted());
+        lastPromotion = promotion;
+        publishSnapshot(promotion, nowMs);
+
+        if (promotion.getPurged() > 0) {
+            log.debug("Purged expired active tokens: {}", promotion.getPurged());
+        }
+        if (promotion.getPromoted() > 0) {
+            log.info(" 스케줄러 실행: {}명 입장 승인 (현재 Active: {}명, 대기: {}명)",
+                    promotion.getPromoted(), promotion.getActiveSize(), promotion.getWaitingSize());
+        }
+        return promotion;
+    }
 
-        // Active Set으로 이동 (입장 처리)
-        for (ZSetOperations.TypedTuple<String> tuple : targetTokens) {
-            String token = tuple.getValue();
-            if (token != null) {
-                stringRedisTemplate.opsForZSet().add(QUEUE_ACTIVE_ZSET_KEY, token, (double) nextExpireAtMs(nowMs));
-            }
+    // 모든 노드의 상태 조회/SSE 가 사용할 대기열 요약 발행
+    private void publishSnapshot(QueuePromotionResultDto promotion, long nowMs) {
+        if (lastPromotedAtMs > 0 && nowMs > lastPromotedAtMs) {
+            double observed = promotion.getPromoted() * 1000.0 / (nowMs - lastPromotedAtMs);
+            drainRate = drainRate == 0.0 ? observed : DRAIN_RATE_ALPHA * observed + (1 - DRAIN_RATE_ALPHA) * drainRate;
         }
+        lastPromotedAtMs = nowMs;
+
+        snapshotHolder.publish(new QueueSnapshot(
+                promotion.getHeadNumber(),
+                promotion.getTailNumber(),
+                promotion.getWaitingSize(),
+                promotion.getActiveSize(),
+                promotion.getPromoted(),
+                promotion.getThroughput(),
+                drainRate,
+                nowMs
+        ));
+    }
 
-        log.info(" 스케줄러 실행: {}명 입장 승인 (현재 Active: {}명)", targetTokens.size(), currentActive + targetTokens.size());
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("maxActiveUsers", maxActiveUsers);
+        result.put("promotionRuns", promotionRuns.sum());
+        result.put("promotedTotal", promotedTotal.sum());
+        result.put("purgedTotal", purgedTotal.sum());
+        result.put("fencedRuns", fencedRuns.sum());
+        result.put("lastPromotion", lastPromotion);
+        result.put("activeTokenCache", activeTokenCache.getStats());
+        result.put("estimatedStatuses", estimatedStatuses.sum());
+        result.put("exactStatuses", exactStatuses.sum());
+        result.put("snapshot", snapshotHolder.getStats());
+        return result;
     }
 
     
@@ -183,33 +315,6 @@ private long nowMs() {
     return System.currentTimeMillis();
 }
 
-/**
- * Active 토큰 만료 처리 (누수 방지)
- * - score: expireAt(epochMillis)
- */
-private long purgeExpiredActive(long nowMs) {
-    // Backward-compat: 이전 구현에서는 queue:active 키 타입이 SET이었음
-    // (ZSET로 전환하면서 WRONGTYPE 오류가 날 수 있으므로, 감지 시 1회 마이그레이션)
-    DataType type = stringRedisTemplate.type(QUEUE_ACTIVE_ZSET_KEY);
-    if (type == DataType.SET) {
-        Set<String> legacy = stringRedisTemplate.opsForSet().members(QUEUE_ACTIVE_ZSET_KEY);
-        stringRedisTemplate.delete(QUEUE_ACTIVE_ZSET_KEY);
-
-        if (legacy != null && !legacy.isEmpty()) {
-            long expireAt = nextExpireAtMs(nowMs);
-            for (String token : legacy) {
-                if (token != null) {
-                    stringRedisTemplate.opsForZSet().add(QUEUE_ACTIVE_ZSET_KEY, token, (double) expireAt);
-                }
-            }
-        }
-    }
-
-    Long removed = stringRedisTemplate.opsForZSet()
-            .removeRangeByScore(QUEUE_ACTIVE_ZSET_KEY, 0, nowMs);
-    return removed == null ? 0L : removed;
-}
-
 private long nextExpireAtMs(long nowMs) {
     return nowMs + Duration.ofSeconds(activeTtlSeconds).toMillis();
 }
@@ -224,6 +329,7 @@ private String generateToken() {
             stringRedisTemplate.opsForZSet().remove(QUEUE_WAITING_ZSET_KEY, queueToken);
             stringRedisTemplate.opsForZSet().remove(QUEUE_ACTIVE_ZSET_KEY, queueToken);
             stringRedisTemplate.delete(QUEUE_TOKEN_PREFIX + queueToken);
+            activeTokenCache.invalidate(queueToken);
 
             log.info("대기열 토큰 삭제 완료: {}", maskToken(queueToken));
         }
@@ -235,6 +341,7 @@ private String generateToken() {
         stringRedisTemplate.delete(QUEUE_WAITING_ZSET_KEY);
         stringRedisTemplate.delete(QUEUE_ACTIVE_ZSET_KEY);
         stringRedisTemplate.delete(KEY_THROUGHPUT);
+        activeTokenCache.invalidateAll();
 
 
         // queue:token:* 삭제 (로컬이므로 KEYS 사용 OK)
@@ -0,0 +1,389 @@
+package com.sku.queue.service.serviceImpl;
+
+import com.sku.common.exception.CustomException;
+import com.sku.common.util.ErrorCode;
+import com.sku.queue.dto.QueueStatusResponseDto;
+import com.sku.queue.service.QueueService;
+import com.sku.queue.service.QueueStreamService;
+import com.sku.queue.support.QueueSnapshot;
+import com.sku.queue.support.QueueSnapshotHolder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대기 순번 계산 (QueueSnapshot)
+ * - 대기 번호는 단조 증가하고 대기열은 앞에서부터 빠지므로, 순번 = 내 번호 - 맨 앞 번호 + 1
+ *   (중간에 토큰이 삭제된 경우 실제보다 약간 크게 보일 수 있음)
+ * - 스냅샷이 없거나 오차 비율이 max-error-ratio 를 넘으면 모든 구독자를 ZRANK 로 정확히 조회 (getStatus 와 같은 기준)
+ * - 스냅샷 맨 앞 ~ 맨 뒤 번호 사이만 추정하고, 맨 앞보다 앞 번호는 활성 여부를 확인 (주기당 입장 인원만큼)
+ * - 스냅샷이 비어 있었거나 맨 뒤보다 뒤 번호(스냅샷 이후 등록)는 ZRANK 로 다시 확인
+ *
+ * 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 대기 중인 연결이 요청 스레드를 점유하지 않는다
+ * - 스케줄러 주기에서는 스냅샷 기준 분류만 하고, ZRANK 재확인/활성 확인/전송은 전송 스레드 풀(sender-threads)에서 처리
+ * - 구독자별로 전송은 한 번에 하나만 (이전 전송이 끝나지 않은 느린 클라이언트는 이번 주기를 건너뛴다)
+ * - 전송 대기열(sender-queue-capacity)이 가득 차면 이번 주기 전송을 버리고 다음 주기에 다시 보낸다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueStreamServiceImpl implements QueueStreamService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final QueueService queueService;
+    private final QueueSnapshotHolder snapshotHolder;
+
+    private static final String QUEUE_WAITING_ZSET_KEY = "queue:waiting";
+    private static final String QUEUE_ACTIVE_ZSET_KEY = "queue:active";
+    private static final String QUEUE_TOKEN_PREFIX = "queue:token:";
+    private static final String KEY_THROUGHPUT = "queue:config:throughput";
+
+    private static final String STATUS_EVENT = "status";
+    private static final String EXPIRED_EVENT = "expired";
+    private static final int ACTIVE_CHECK_BATCH = 500;
+
+    @Value("${peakguard.queue.default-throughput:10}")
+    private long defaultThroughput;
+
+    @Value("${peakguard.queue.snapshot.max-error-ratio:0.05}")
+    private double maxErrorRatio;
+
+    @Value("${peakguard.queue.stream.enabled:true}")
+    private boolean enabled;
+
+    // 노드당 최대 연결 수 (초과 시 503 → 클라이언트는 폴링으로 전환)
+    @Value("${peakguard.queue.stream.max-connections:20000}")
+    private int maxConnections;
+
+    // 연결 유지 시간 (만료되면 클라이언트가 재연결)
+    @Value("${peakguard.queue.stream.timeout-ms:300000}")
+    private long timeoutMs;
+
+    // 순번 변화가 없어도 이 간격마다 전송 (프록시 유휴 연결 종료 방지)
+    @Value("${peakguard.queue.stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${peakguard.queue.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${peakguard.queue.stream.sender-queue-capacity:10000}")
+    private int senderQueueCapacity;
+
+    private ThreadPoolExecutor sender;
+
+    private static final class Subscriber {
+        private final String token;
+        private final long queueNumber;
+        private final SseEmitter emitter;
+
+        // 진행 중인 전송이 있으면 true (같은 구독자에게 동시에 보내지 않음)
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        // 전송 스레드에서 갱신, 스케줄러 주기에서 읽음
+        private volatile long lastPosition = -1L;
+        private volatile long lastSentAtMs;
+
+        private Subscriber(String token, long queueNumber, SseEmitter emitter) {
+            this.token = token;
+            this.queueNumber = queueNumber;
+            this.emitter = emitter;
+        }
+    }
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder pushes = new LongAdder();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder rechecks = new LongAdder();
+    private final LongAdder skippedBusy = new LongAdder();
+    private final LongAdder droppedSends = new LongAdder();
+
+    @PostConstruct
+    void startSender() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueueCapacity),
+                r -> new Thread(r, "queue-stream-sender-" + threadIndex.getAndIncrement()));
+    }
+
+    @PreDestroy
+    void stopSender() {
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(5, TimeUnit.SECONDS)) {
+                sender.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sender.shutdownNow();
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe(String queueToken) {
+        if (queueToken == null || queueToken.isBlank()) {
+            throw new CustomException(ErrorCode.QUEUE_TOKEN_INVALID);
+        }
+        if (!enabled || subscribers.size() >= maxConnections) {
+            rejected.increment();
+            throw new CustomException(ErrorCode.QUEUE_SERVICE_UNAVAILABLE);
+        }
+
+        String number = stringRedisTemplate.opsForValue().get(QUEUE_TOKEN_PREFIX + queueToken);
+        if (number == null) {
+            throw new CustomException(ErrorCode.QUEUE_TOKEN_NOT_FOUND);
+        }
+
+        // 현재 상태는 즉시 1회 전송 (이후는 브로드캐스터가 전송)
+        QueueStatusResponseDto current = queueService.getStatus(queueToken);
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        if (current.isActive()) {
+            sendFinal(emitter, STATUS_EVENT, current);
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(queueToken, Long.parseLong(number), emitter);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+
+        if (send(subscriber, current)) {
+            subscriber.lastPosition = current.getPosition();
+            subscriber.lastSentAtMs = System.currentTimeMillis();
+            subscribers.put(emitter, subscriber);
+            connected.increment();
+        }
+        return emitter;
+    }
+
+    /**
+     * 주기마다 스냅샷 기준으로 구독자를 분류하고 전송/재확인 작업을 전송 스레드 풀에 넘긴다
+     * (느린 클라이언트 소켓이 스케줄러 스레드를 붙잡지 않는다)
+     */
+    @Scheduled(fixedDelayString = "${peakguard.queue.stream.push-ms:1000}")
+    public void broadcast() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        ticks.increment();
+
+        long nowMs = System.currentTimeMillis();
+
+        // 입장 처리 노드가 발행한 스냅샷이 있고 오차가 허용 범위면 Redis 조회 없이 계산
+        QueueSnapshot snapshot = snapshotHolder.current();
+        boolean estimable = snapshot != null && snapshot.errorRatio() <= maxErrorRatio;
+        if (!estimable) {
+            // 예상 대기 시간은 설정 처리량 기준
+            snapshot = new QueueSnapshot(null, null, 0L, 0L, 0L, findThroughput(), 0.0, nowMs);
+        }
+        Long headNumber = snapshot.headNumber();
+        Long tailNumber = snapshot.tailNumber();
+
+        List<Subscriber> passed = new ArrayList<>();
+        List<Subscriber> recheck = new ArrayList<>();
+        for (Subscriber subscriber : subscribers.values()) {
+            if (!estimable || headNumber == null || tailNumber == null || subscriber.queueNumber > tailNumber) {
+                // 스냅샷으로 판단할 수 없음 (스냅샷 이후 등록된 번호 포함)
+                recheck.add(subscriber);
+                continue;
+            }
+            if (subscriber.queueNumber < headNumber) {
+                // 스냅샷 범위 안에서 맨 앞보다 앞 번호 → 입장했거나 삭제된 토큰
+                passed.add(subscriber);
+                continue;
+            }
+            push(subscriber, snapshot.estimatePosition(subscriber.queueNumber), snapshot, nowMs);
+        }
+
+        QueueSnapshot estimator = snapshot;
+        for (int from = 0; from < recheck.size(); from += ACTIVE_CHECK_BATCH) {
+            List<Subscriber> batch = recheck.subList(from, Math.min(recheck.size(), from + ACTIVE_CHECK_BATCH));
+            submit(() -> recheck(batch, estimator, nowMs));
+        }
+        for (int from = 0; from < passed.size(); from += ACTIVE_CHECK_BATCH) {
+            List<Subscriber> batch = passed.subList(from, Math.min(passed.size(), from + ACTIVE_CHECK_BATCH));
+            submit(() -> notifyPassed(batch, nowMs));
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("connections", subscribers.size());
+        result.put("maxConnections", maxConnections);
+        result.put("connected", connected.sum());
+        result.put("rejected", rejected.sum());
+        result.put("ticks", ticks.sum());
+        result.put("rechecks", rechecks.sum());
+        result.put("skippedBusy", skippedBusy.sum());
+        result.put("droppedSends", droppedSends.sum());
+        result.put("senderQueue", sender.getQueue().size());
+        result.put("pushes", pushes.sum());
+        result.put("admitted", admitted.sum());
+        result.put("expired", expired.sum());
+        return result;
+    }
+
+    // 순번이 바뀌었거나 heartbeat 간격이 지났을 때만 전송 (전송 스레드 풀에서)
+    private void push(Subscriber subscriber, long position, QueueSnapshot snapshot, long nowMs) {
+        if (position == subscriber.lastPosition && nowMs - subscriber.lastSentAtMs < heartbeatMs) {
+            return;
+        }
+        long estimatedSeconds = snapshot.estimateWaitSeconds(position);
+        QueueStatusResponseDto status =
+                new QueueStatusResponseDto(subscriber.token, null, position, false, estimatedSeconds);
+        dispatch(subscriber, () -> {
+            if (send(subscriber, status)) {
+                subscriber.lastPosition = position;
+                subscriber.lastSentAtMs = nowMs;
+            }
+        });
+    }
+
+    /**
+     * 구독자 1명에게 보낼 작업을 전송 스레드 풀에 넣는다
+     *
+     * @return false 면 이전 전송이 진행 중이거나 전송 대기열이 가득 차 이번 주기에는 보내지 않음
+     */
+    private boolean dispatch(Subscriber subscriber, Runnable task) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            skippedBusy.increment();
+            return false;
+        }
+        boolean submitted = submit(() -> {
+            try {
+                task.run();
+            } finally {
+                subscriber.sending.set(false);
+            }
+        });
+        if (!submitted) {
+            subscriber.sending.set(false);
+        }
+        return submitted;
+    }
+
+    private boolean submit(Runnable task) {
+        try {
+            sender.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            droppedSends.increment();
+            return false;
+        }
+    }
+
+    // 대기열 ZRANK 를 파이프라인으로 조회: 대기 중이면 정확한 순번 전송, 없으면 입장/만료 확인
+    private void recheck(List<Subscriber> batch, QueueSnapshot snapshot, long nowMs) {
+        List<Subscriber> passed = new ArrayList<>();
+        List<Object> ranks = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (Subscriber subscriber : batch) {
+                conn.zRank(QUEUE_WAITING_ZSET_KEY, subscriber.token);
+            }
+            return null;
+        });
+        rechecks.add(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            Subscriber subscriber = batch.get(i);
+            Object rank = ranks.get(i);
+            if (rank instanceof Number number) {
+                push(subscriber, number.longValue() + 1, snapshot, nowMs);
+            } else {
+                passed.add(subscriber);
+            }
+        }
+        if (!passed.isEmpty()) {
+            notifyPassed(passed, nowMs);
+        }
+    }
+
+    // 맨 앞 번호보다 앞선 구독자: 활성 ZSET 에 있으면 입장, 없으면 만료
+    private void notifyPassed(List<Subscriber> passed, long nowMs) {
+        Object[] tokens = passed.stream().map(subscriber -> subscriber.token).toArray();
+        List<Double> expireAts = stringRedisTemplate.opsForZSet().score(QUEUE_ACTIVE_ZSET_KEY, tokens);
+
+        for (int i = 0; i < passed.size(); i++) {
+            Subscriber subscriber = passed.get(i);
+            Double expireAt = expireAts == null ? null : expireAts.get(i);
+            boolean active = expireAt != null && expireAt.longValue() > nowMs;
+
+            // 보내지 못하면 구독을 유지해 다음 주기에 다시 확인
+            boolean dispatched = dispatch(subscriber, () -> {
+                if (active) {
+                    sendFinal(subscriber.emitter, STATUS_EVENT,
+                            new QueueStatusResponseDto(subscriber.token, 0L, 0L, true, 0L));
+                } else {
+                    sendFinal(subscriber.emitter, EXPIRED_EVENT, Map.of("code", ErrorCode.QUEUE_TOKEN_NOT_FOUND.getCode()));
+                }
+            });
+            if (dispatched) {
+                subscribers.remove(subscriber.emitter);
+                if (active) {
+                    admitted.increment();
+                } else {
+                    expired.increment();
+                }
+            }
+        }
+    }
+
+    private long findThroughput() {
+        String throughputStr = stringRedisTemplate.opsForValue().get(KEY_THROUGHPUT);
+        long throughput = (throughputStr != null) ? Long.parseLong(throughputStr) : defaultThroughput;
+        return throughput <= 0 ? 1 : throughput;
+    }
+
+    private boolean send(Subscriber subscriber, QueueStatusResponseDto status) {
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(STATUS_EVENT).data(status));
+            pushes.increment();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊었거나 타임아웃으로 닫힌 경우
+            subscribers.remove(subscriber.emitter);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void sendFinal(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+            pushes.increment();
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("대기열 이벤트 전송 실패 - event={}", event, e);
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.sku.queue.support;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 검증된 활성 토큰 (노드별)
+ * - value: Redis 에 마지막으로 기록한 만료 시각 + 기록 시각
+ * - 기록 후 TTL 의 refresh-fraction 이 지나기 전까지는 Redis 접근 없이 통과 (슬라이딩 만료 쓰기 병합)
+ * - 토큰 삭제/대기열 초기화는 pub/sub 으로 전파 ("T:{token}" 토큰 삭제 / "R" 전체 초기화)
+ * - 최대 크기를 넘으면 만료된 항목을 먼저 정리하고, 그래도 가득 차면 새 토큰은 캐시하지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveTokenNearCache {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private static final String CHANNEL = "queue:active-token";
+    private static final String TOKEN_PREFIX = "T:";
+    private static final String RESET = "R";
+
+    @Value("${peakguard.queue.near-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${peakguard.queue.near-cache.max-size:100000}")
+    private int maxSize;
+
+    // 활성 TTL 중 이 비율이 지나면 Redis 만료 시각을 다시 기록
+    @Value("${peakguard.queue.near-cache.refresh-fraction:0.1}")
+    private double refreshFraction;
+
+    private record Entry(long expireAtMs, long refreshAfterMs) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @PostConstruct
+    void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(message), new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * Redis 접근 없이 통과 가능한지 확인
+     * - true: 캐시된 만료 시각 전이고 갱신 시점도 아직 안 됨
+     */
+    public boolean isFresh(String token, long nowMs) {
+        if (!enabled) {
+            return false;
+        }
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            misses.increment();
+            return false;
+        }
+        if (entry.expireAtMs() <= nowMs) {
+            entries.remove(token, entry);
+            misses.increment();
+            return false;
+        }
+        if (nowMs >= entry.refreshAfterMs()) {
+            refreshes.increment();
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    // Redis 에 만료 시각을 기록한 직후 호출
+    public void put(String token, long nowMs, long expireAtMs) {
+        if (!enabled) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(token)) {
+            evictExpired(nowMs);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        long refreshAfter = nowMs + (long) ((expireAtMs - nowMs) * refreshFraction);
+        entries.put(token, new Entry(expireAtMs, refreshAfter));
+    }
+
+    // 이 노드에서만 제거 (Redis 에서 활성이 아님을 확인한 경우)
+    public void evict(String token) {
+        entries.remove(token);
+    }
+
+    // 모든 노드에서 제거
+    public void invalidate(String token) {
+        if (!enabled) {
+            return;
+        }
+        entries.remove(token);
+        publish(TOKEN_PREFIX + token);
+    }
+
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        entries.clear();
+        publish(RESET);
+    }
+
+    @Scheduled(fixedDelayString = "${peakguard.queue.near-cache.cleanup-ms:60000}")
+    public void cleanup() {
+        if (enabled) {
+            evictExpired(System.currentTimeMillis());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", entries.size());
+        result.put("hits", hits.sum());
+        result.put("refreshes", refreshes.sum());
+        result.put("misses", misses.sum());
+        result.put("invalidations", invalidations.sum());
+        return result;
+    }
+
+    private void evictExpired(long nowMs) {
+        entries.values().removeIf(entry -> entry.expireAtMs() <= nowMs);
+    }
+
+    private void onMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        invalidations.increment();
+        if (RESET.equals(body)) {
+            entries.clear();
+        } else if (body.startsWith(TOKEN_PREFIX)) {
+            entries.remove(body.substring(TOKEN_PREFIX.length()));
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 노드의 캐시는 다음 갱신 시점(refresh-fraction)에 Redis 확인으로 정리된다
+            log.warn("활성 토큰 캐시 무효화 발행 실패", e);
+        }
+    }
+}
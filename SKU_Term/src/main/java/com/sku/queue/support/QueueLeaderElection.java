@@ -0,0 +1,141 @@
+package com.sku.queue.support;
+
+import com.sku.common.config.SchedulingConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대기열 스케줄러 리더 선출 (Redis 임대 + 펜싱 토큰)
+ * - queue:leader 키를 먼저 잡은 노드가 리더, renew-ms 마다 임대 연장
+ * - 리더가 죽으면 임대가 끝난 뒤 다음 갱신 주기에 다른 노드가 인계 (최대 lease-ms + renew-ms)
+ * - 리더가 바뀔 때마다 펜싱 토큰이 증가하고, 입장 처리 스크립트는 현재 임대 값과 같을 때만 실행된다
+ *   (GC 등으로 멈췄다 깨어난 이전 리더는 자신이 리더라고 믿어도 입장 처리를 할 수 없다)
+ * - 로컬 리더 판정은 임대 획득 요청 직전 시각 + lease-ms - safety-margin-ms 까지만 유효
+ * - 갱신은 전용 스케줄러(queueLeaderScheduler)에서 실행 → 다른 @Scheduled 작업이 길어져도 임대가 끊기지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueLeaderElection {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String LEADER_KEY = "queue:leader";
+    private static final String FENCE_KEY = "queue:leader:fence";
+
+    private static final RedisScript<Long> LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/queue/leader_lease.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/queue/leader_release.lua"), Long.class);
+
+    @Value("${peakguard.queue.leader.lease-ms:5000}")
+    private long leaseMs;
+
+    // 노드 간 시계/지연 오차 여유
+    @Value("${peakguard.queue.leader.safety-margin-ms:500}")
+    private long safetyMarginMs;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private volatile long fencingToken;
+    private volatile long validUntilMs;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+
+    @Scheduled(fixedDelayString = "${peakguard.queue.leader.renew-ms:1000}", scheduler = SchedulingConfig.QUEUE_LEADER_SCHEDULER)
+    public void renew() {
+        long requestedAtMs = System.currentTimeMillis();
+        Long token;
+        try {
+            token = stringRedisTemplate.execute(
+                    LEASE_SCRIPT, List.of(LEADER_KEY, FENCE_KEY), nodeId, String.valueOf(leaseMs));
+        } catch (RuntimeException e) {
+            // 갱신 실패 시 남은 임대 시간 동안만 리더로 동작
+            log.warn("대기열 리더 임대 갱신 실패 - nodeId={}", nodeId, e);
+            return;
+        }
+
+        if (token == null || token <= 0) {
+            if (fencingToken > 0) {
+                losses.increment();
+                log.warn("대기열 리더 자격 상실 - nodeId={}, fencingToken={}", nodeId, fencingToken);
+            }
+            fencingToken = 0L;
+            validUntilMs = 0L;
+            return;
+        }
+
+        if (token != fencingToken) {
+            acquisitions.increment();
+            log.info("대기열 리더 선출 - nodeId={}, fencingToken={}", nodeId, token);
+        }
+        fencingToken = token;
+        validUntilMs = requestedAtMs + leaseMs - safetyMarginMs;
+    }
+
+    public boolean isLeader() {
+        return fencingToken > 0 && System.currentTimeMillis() < validUntilMs;
+    }
+
+    // 입장 처리 스크립트에 넘기는 임대 값 ("{nodeId}:{fencingToken}")
+    public String lease() {
+        return nodeId + ":" + fencingToken;
+    }
+
+    // 스크립트가 펜싱으로 거절한 경우 (다음 갱신 전까지 리더로 동작하지 않음)
+    public void markLost() {
+        if (fencingToken > 0) {
+            losses.increment();
+            log.warn("대기열 리더 펜싱 거절 - nodeId={}, fencingToken={}", nodeId, fencingToken);
+        }
+        fencingToken = 0L;
+        validUntilMs = 0L;
+    }
+
+    @PreDestroy
+    public void release() {
+        if (fencingToken <= 0) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), lease());
+            log.info("대기열 리더 임대 반납 - nodeId={}", nodeId);
+        } catch (RuntimeException e) {
+            log.warn("대기열 리더 임대 반납 실패 - nodeId={}", nodeId, e);
+        }
+        fencingToken = 0L;
+        validUntilMs = 0L;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        String current = null;
+        try {
+            current = stringRedisTemplate.opsForValue().get(LEADER_KEY);
+        } catch (RuntimeException e) {
+            log.warn("대기열 리더 조회 실패", e);
+        }
+        result.put("leader", current);
+        result.put("nodeId", nodeId);
+        result.put("isLeader", isLeader());
+        result.put("fencingToken", fencingToken);
+        result.put("leaseMs", leaseMs);
+        result.put("acquisitions", acquisitions.sum());
+        result.put("losses", losses.sum());
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package com.sku.queue.support;
+
+/**
+ * 입장 처리(promote) 직후의 대기열 요약
+ * - 대기 번호는 단조 증가하고 대기열은 앞에서부터 빠지므로 순번 ≈ 내 번호 - 맨 앞 번호 + 1
+ * - 중간에 삭제된 토큰/즉시 입장한 번호만큼 실제 순번보다 크게 나온다 (최대 오차 = gaps)
+ *
+ * @param headNumber     대기열 맨 앞 번호 (비었으면 null)
+ * @param tailNumber     대기열 맨 뒤 번호 (비었으면 null)
+ * @param waitingSize    대기 인원
+ * @param activeSize     활성 인원
+ * @param promoted       이번 주기 입장 인원 (throughput 보다 작으면 대기 인원/활성 자리가 병목)
+ * @param throughput     설정된 초당 입장 인원
+ * @param drainRate      실제 초당 입장 인원 (지수 이동 평균)
+ * @param updatedAtMs    생성 시각
+ */
+public record QueueSnapshot(
+        Long headNumber,
+        Long tailNumber,
+        long waitingSize,
+        long activeSize,
+        long promoted,
+        long throughput,
+        double drainRate,
+        long updatedAtMs
+) {
+
+    // 맨 앞 ~ 맨 뒤 번호 중 대기열에 없는 번호 수 (순번 추정의 최대 오차)
+    public long gaps() {
+        if (headNumber == null || tailNumber == null) {
+            return 0L;
+        }
+        return Math.max(0L, tailNumber - headNumber + 1 - waitingSize);
+    }
+
+    public double errorRatio() {
+        if (waitingSize <= 0) {
+            return 0.0;
+        }
+        return (double) gaps() / (gaps() + waitingSize);
+    }
+
+    // 아직 대기 중인 번호면 추정 순번, 맨 앞보다 앞 번호(입장/삭제됨)거나 대기열이 비었으면 null
+    public Long estimatePosition(long queueNumber) {
+        if (headNumber == null || queueNumber < headNumber) {
+            return null;
+        }
+        return queueNumber - headNumber + 1;
+    }
+
+    // 실제 입장 속도가 측정되면 그 값으로, 아니면 설정 처리량으로 계산
+    public long estimateWaitSeconds(long position) {
+        double rate = drainRate > 0 ? drainRate : Math.max(1L, throughput);
+        return (long) Math.ceil(position / rate);
+    }
+
+    String encode() {
+        return String.join("|",
+                headNumber == null ? "" : String.valueOf(headNumber),
+                tailNumber == null ? "" : String.valueOf(tailNumber),
+                String.valueOf(waitingSize),
+                String.valueOf(activeSize),
+                String.valueOf(promoted),
+                String.valueOf(throughput),
+                String.valueOf(drainRate),
+                String.valueOf(updatedAtMs));
+    }
+
+    static QueueSnapshot decode(String value) {
+        String[] parts = value.split("\\|", -1);
+        return new QueueSnapshot(
+                parts[0].isEmpty() ? null : Long.parseLong(parts[0]),
+                parts[1].isEmpty() ? null : Long.parseLong(parts[1]),
+                Long.parseLong(parts[2]),
+                Long.parseLong(parts[3]),
+                Long.parseLong(parts[4]),
+                Long.parseLong(parts[5]),
+                Double.parseDouble(parts[6]),
+                Long.parseLong(parts[7]));
+    }
+}
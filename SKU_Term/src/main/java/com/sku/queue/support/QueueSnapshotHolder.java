@@ -0,0 +1,123 @@
+package com.sku.queue.support;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대기열 스냅샷의 노드별 사본
+ * - 입장 처리를 실행한 노드가 매 주기 발행 (pub/sub + 최신값 key)
+ * - 다른 노드는 메시지로 갱신하고, 메시지가 끊기면 key 에서 다시 읽는다 (reload-interval-ms 당 최대 1회)
+ * - stale-ms 보다 오래된 스냅샷은 사용하지 않는다 (호출자는 Redis 직접 조회로 대체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueSnapshotHolder {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private static final String CHANNEL = "queue:snapshot";
+    private static final String KEY = "queue:snapshot";
+
+    @Value("${peakguard.queue.snapshot.stale-ms:3000}")
+    private long staleMs;
+
+    @Value("${peakguard.queue.snapshot.reload-interval-ms:500}")
+    private long reloadIntervalMs;
+
+    private volatile QueueSnapshot snapshot;
+    private final AtomicLong lastReloadAtMs = new AtomicLong();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(message), new ChannelTopic(CHANNEL));
+    }
+
+    public void publish(QueueSnapshot next) {
+        apply(next);
+        published.increment();
+        String value = next.encode();
+        try {
+            stringRedisTemplate.opsForValue().set(KEY, value, Duration.ofMillis(staleMs));
+            stringRedisTemplate.convertAndSend(CHANNEL, value);
+        } catch (RuntimeException e) {
+            log.warn("대기열 스냅샷 발행 실패", e);
+        }
+    }
+
+    // 최신 스냅샷 (없거나 오래됐으면 null)
+    public QueueSnapshot current() {
+        long nowMs = System.currentTimeMillis();
+        QueueSnapshot local = snapshot;
+        if (local != null && nowMs - local.updatedAtMs() <= staleMs) {
+            return local;
+        }
+
+        long lastReload = lastReloadAtMs.get();
+        if (nowMs - lastReload >= reloadIntervalMs && lastReloadAtMs.compareAndSet(lastReload, nowMs)) {
+            reloads.increment();
+            try {
+                String value = stringRedisTemplate.opsForValue().get(KEY);
+                if (value != null) {
+                    apply(QueueSnapshot.decode(value));
+                }
+            } catch (RuntimeException e) {
+                log.warn("대기열 스냅샷 조회 실패", e);
+            }
+            local = snapshot;
+            if (local != null && nowMs - local.updatedAtMs() <= staleMs) {
+                return local;
+            }
+        }
+        return null;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        QueueSnapshot local = snapshot;
+        result.put("snapshot", local);
+        result.put("gaps", local == null ? null : local.gaps());
+        result.put("published", published.sum());
+        result.put("received", received.sum());
+        result.put("reloads", reloads.sum());
+        return result;
+    }
+
+    private void onMessage(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            apply(QueueSnapshot.decode(body));
+            received.increment();
+        } catch (RuntimeException e) {
+            log.warn("대기열 스냅샷 메시지 처리 실패 - message={}", body, e);
+        }
+    }
+
+    // 발행 노드가 바뀌는 경우 등에 대비해 더 최신 스냅샷만 반영
+    private synchronized void apply(QueueSnapshot next) {
+        QueueSnapshot local = snapshot;
+        if (local == null || next.updatedAtMs() >= local.updatedAtMs()) {
+            snapshot = next;
+        }
+    }
+}
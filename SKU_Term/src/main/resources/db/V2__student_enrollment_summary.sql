@@ -0,0 +1,22 @@
+-- 학생별 수강신청 요약(projection) 테이블
+-- 목적: 수강신청마다 실행되던 학점 합계 JOIN / 시간표 JOIN 을 PK 단건 조회로 대체
+--
+-- - SUMMARY_TIME_MASK: 주간 시간표 비트맵 (7일 x 5분 슬롯, long 32개 = 256byte)
+-- - SUMMARY_TIME_MASK_EXACT: 모든 강의 시간이 5분 단위면 1 (0이면 충돌 후보에 한해 정밀 비교)
+--
+-- 주의:
+-- 1) 비트맵은 애플리케이션에서 계산하므로 이 migration 은 빈 테이블만 만듭니다.
+--    기존 신청 데이터는 POST /api/admin/enrollment/summary/backfill 로 채웁니다.
+-- 2) 요약 행이 없는 학생은 첫 신청/취소 시 Enrollment 기준으로 생성됩니다.
+
+CREATE TABLE IF NOT EXISTS StudentEnrollmentSummary (
+    SUMMARY_STUDENT_ID      BIGINT      NOT NULL,
+    SUMMARY_TOTAL_CREDITS   INT         NOT NULL DEFAULT 0,
+    SUMMARY_LECTURE_COUNT   INT         NOT NULL DEFAULT 0,
+    SUMMARY_TIME_MASK       BINARY(256) NULL,
+    SUMMARY_TIME_MASK_EXACT TINYINT(1)  NOT NULL DEFAULT 1,
+    SUMMARY_UPDATED_AT      DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (SUMMARY_STUDENT_ID),
+    CONSTRAINT FK_summary_student FOREIGN KEY (SUMMARY_STUDENT_ID) REFERENCES Student (STUDENT_ID) ON DELETE CASCADE,
+    CONSTRAINT CK_summary_counts CHECK (SUMMARY_TOTAL_CREDITS >= 0 AND SUMMARY_LECTURE_COUNT >= 0)
+);
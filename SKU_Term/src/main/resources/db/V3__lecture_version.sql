@@ -0,0 +1,20 @@
+-- OPTIMISTIC lock mode 용 Lecture 버전 컬럼
+-- 정원(LECTURE_CURRENT_COUNT)을 바꾸는 모든 UPDATE 에서 +1 되며,
+-- OPTIMISTIC 모드는 조회한 버전과 같을 때만 좌석을 증가시킨다.
+
+SET @has_lecture_version := (
+    SELECT COUNT(*)
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE()
+      AND table_name = 'Lecture'
+      AND column_name = 'LECTURE_VERSION'
+);
+
+SET @sql := IF(
+    @has_lecture_version = 0,
+    'ALTER TABLE Lecture ADD COLUMN LECTURE_VERSION BIGINT NOT NULL DEFAULT 0',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,37 @@
+-- SHARDED_COUNTER lock mode 용 강의 좌석 샤드
+-- 인기 강의의 잔여 좌석을 N 개 행으로 나눠, 신청마다 같은 Lecture 행(LECTURE_CURRENT_COUNT)을
+-- 갱신하며 직렬화되던 구간을 샤드 수만큼 병렬화한다.
+--
+-- - LECTURE_SEAT_SHARDS: 강의별 샤드 수 (1 = 샤드 미사용, 기존처럼 Lecture 행 조건부 증가)
+-- - LectureSeatShard.SHARD_REMAINING: 샤드별 잔여 좌석. 신청은 임의 샤드에서 조건부 -1, 비었으면 다른 샤드로 넘어간다
+-- - LECTURE_CURRENT_COUNT 는 정원 - SUM(SHARD_REMAINING) 으로 주기 동기화된다
+--
+-- 주의:
+-- 1) 샤드 행은 애플리케이션이 만든다 (POST /api/admin/lectures/{lectureId}/seat-shards?shards=N,
+--    SHARDED_COUNTER 모드 기동 시 샤드 수/잔여 좌석이 맞지 않는 강의는 Enrollment 기준으로 재생성)
+
+SET @has_lecture_seat_shards := (
+    SELECT COUNT(*)
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE()
+      AND table_name = 'Lecture'
+      AND column_name = 'LECTURE_SEAT_SHARDS'
+);
+
+SET @sql := IF(
+    @has_lecture_seat_shards = 0,
+    'ALTER TABLE Lecture ADD COLUMN LECTURE_SEAT_SHARDS INT NOT NULL DEFAULT 1',
+    'SELECT 1'
+);
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS LectureSeatShard (
+    SHARD_LECTURE_ID BIGINT NOT NULL,
+    SHARD_NO         INT    NOT NULL,
+    SHARD_REMAINING  INT    NOT NULL,
+    PRIMARY KEY (SHARD_LECTURE_ID, SHARD_NO),
+    CONSTRAINT FK_seat_shard_lecture FOREIGN KEY (SHARD_LECTURE_ID) REFERENCES Lecture (LECTURE_ID) ON DELETE CASCADE,
+    CONSTRAINT CK_seat_shard_remaining CHECK (SHARD_REMAINING >= 0)
+);
@@ -0,0 +1,18 @@
+-- 학점 원장을 DB 스냅샷으로 1회 적재
+-- KEYS[1] = enroll:credit:{studentNumber}
+-- ARGV[1] = 최대 신청 학점, ARGV[2] = 원장 TTL(ms), ARGV[3..n] = lectureId, 학점 쌍
+-- return  1: 적재 / 0: 이미 적재됨
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+local total = 0
+for i = 3, #ARGV, 2 do
+    -- DB 에 반영된 신청은 예약 시각 0 (정합성 점검에서 바로 비교 대상)
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1] .. ':0')
+    total = total + tonumber(ARGV[i + 1])
+end
+redis.call('HSET', KEYS[1], '_max', ARGV[1])
+redis.call('HSET', KEYS[1], '_total', total)
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
@@ -0,0 +1,13 @@
+-- 학점 원장에서 강의 제거 (신청 실패 보상 / 수강 취소)
+-- KEYS[1] = enroll:credit:{studentNumber}
+-- ARGV[1] = lectureId
+-- return  1: 제거 / 0: 원장에 없음
+local entry = redis.call('HGET', KEYS[1], ARGV[1])
+if not entry then
+    return 0
+end
+
+local credit = tonumber(string.match(entry, '^(%-?%d+)')) or 0
+redis.call('HDEL', KEYS[1], ARGV[1])
+redis.call('HINCRBY', KEYS[1], '_total', -credit)
+return 1
@@ -0,0 +1,25 @@
+-- 학점 원장 차감(검사 + 추가)을 한 번에 원자적으로 처리
+-- KEYS[1] = enroll:credit:{studentNumber}  (HASH: _max, _total, {lectureId} = "{학점}:{예약 시각 ms}")
+-- ARGV[1] = lectureId
+-- ARGV[2] = 강의 학점
+-- ARGV[3] = 현재 시각(ms) - 정합성 점검에서 진행 중인 예약을 구분하는 용도
+-- ARGV[4] = 원장 TTL(ms)
+-- return  1: 예약 / -1: 이미 원장에 있음 / -2: 학점 초과 / -4: 원장 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -4
+end
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+    return -1
+end
+
+local credit = tonumber(ARGV[2])
+local total = tonumber(redis.call('HGET', KEYS[1], '_total') or '0')
+local max = tonumber(redis.call('HGET', KEYS[1], '_max') or '0')
+if total + credit > max then
+    return -2
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. ':' .. ARGV[3])
+redis.call('HINCRBY', KEYS[1], '_total', credit)
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+return 1
@@ -0,0 +1,18 @@
+-- 좌석 예약 해제(취소/보상 처리)
+-- KEYS[1] = enroll:seat:{lectureId}
+-- KEYS[2] = enroll:student:{studentId}:lectures
+-- KEYS[3] = enroll:student:{studentId}:credits
+-- ARGV[1] = lectureId
+-- return  1: 해제 / 0: 예약 내역 없음
+if redis.call('SREM', KEYS[2], ARGV[1]) == 0 then
+    return 0
+end
+
+local credit = tonumber(redis.call('HGET', KEYS[1], 'credit') or '0')
+if tonumber(redis.call('HGET', KEYS[1], 'current') or '0') > 0 then
+    redis.call('HINCRBY', KEYS[1], 'current', -1)
+end
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('DECRBY', KEYS[3], credit)
+end
+return 1
@@ -0,0 +1,33 @@
+-- 좌석 예약(정원/중복/학점 검사 + 차감)을 한 번에 원자적으로 처리
+-- KEYS[1] = enroll:seat:{lectureId}              (HASH: max, current, credit)
+-- KEYS[2] = enroll:student:{studentId}:lectures  (SET: 신청한 lectureId)
+-- KEYS[3] = enroll:student:{studentId}:credits   (STRING: 신청 학점 합계)
+-- ARGV[1] = lectureId
+-- ARGV[2] = 최대 신청 학점
+-- return  1: 예약 성공 / 0: 정원 초과 / -1: 이미 신청 / -2: 학점 초과 / -3: 강의 카운터 없음 / -4: 학생 원장 없음
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -3
+end
+if redis.call('EXISTS', KEYS[3]) == 0 then
+    return -4
+end
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return -1
+end
+
+local credit = tonumber(redis.call('HGET', KEYS[1], 'credit') or '0')
+local credits = tonumber(redis.call('GET', KEYS[3]) or '0')
+if credits + credit > tonumber(ARGV[2]) then
+    return -2
+end
+
+local current = tonumber(redis.call('HGET', KEYS[1], 'current') or '0')
+local max = tonumber(redis.call('HGET', KEYS[1], 'max') or '0')
+if current >= max then
+    return 0
+end
+
+redis.call('HINCRBY', KEYS[1], 'current', 1)
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('INCRBY', KEYS[3], credit)
+return 1
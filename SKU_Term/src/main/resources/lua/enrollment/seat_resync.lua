@@ -0,0 +1,11 @@
+-- 정합성 보정: 읽은 시점 이후 카운터가 바뀌지 않았을 때만 DB 값으로 덮어쓴다 (CAS)
+-- KEYS[1] = enroll:seat:{lectureId}
+-- ARGV[1] = 점검 시 읽은 current 값
+-- ARGV[2] = 보정할 current 값 (DB 기준)
+-- return  1: 보정 / 0: 그 사이 변경되어 건너뜀
+if redis.call('HGET', KEYS[1], 'current') ~= ARGV[1] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], 'current', ARGV[2])
+return 1
@@ -0,0 +1,15 @@
+-- 학생 원장(신청 강의 SET + 학점 합계)을 DB 스냅샷으로 1회 적재
+-- KEYS[1] = enroll:student:{studentId}:lectures
+-- KEYS[2] = enroll:student:{studentId}:credits
+-- ARGV[1] = 신청 학점 합계, ARGV[2..n] = 신청한 lectureId
+-- return  1: 적재 / 0: 이미 적재됨
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+for i = 2, #ARGV do
+    redis.call('SADD', KEYS[1], ARGV[i])
+end
+redis.call('SET', KEYS[2], ARGV[1])
+return 1
@@ -0,0 +1,8 @@
+-- 학생 단위 분산 락 해제 (본인이 잡은 락만 해제)
+-- KEYS[1] = enroll:student-lock:{studentId}
+-- ARGV[1] = 락 획득 시 저장한 토큰
+-- return  1: 해제 / 0: 만료되었거나 다른 요청이 보유 중
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
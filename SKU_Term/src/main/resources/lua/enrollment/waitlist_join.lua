@@ -0,0 +1,20 @@
+-- 강의 대기열 등록 (이미 등록된 학생은 기존 순번 유지)
+-- KEYS[1] = enroll:waitlist:{lectureId}
+-- KEYS[2] = enroll:waitlist:lectures
+-- ARGV[1] = studentNumber
+-- ARGV[2] = 등록 시각(ms, score)
+-- ARGV[3] = 대기열 최대 인원
+-- ARGV[4] = lectureId
+-- return  대기 순번(1부터) / -1: 대기열 가득 참
+local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+if rank then
+    return rank + 1
+end
+
+if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then
+    return -1
+end
+
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('SADD', KEYS[2], ARGV[4])
+return redis.call('ZCARD', KEYS[1])
@@ -0,0 +1,11 @@
+-- 대기열 맨 앞 학생 꺼내기, 비었으면 대기열 보유 강의 목록에서 제거
+-- (등록 스크립트와 원자적으로 순서가 정해지므로 등록 직후 목록에서 빠지는 경우가 없다)
+-- KEYS[1] = enroll:waitlist:{lectureId}
+-- KEYS[2] = enroll:waitlist:lectures
+-- ARGV[1] = lectureId
+-- return  { studentNumber, score } / 빈 배열
+local popped = redis.call('ZPOPMIN', KEYS[1])
+if #popped == 0 then
+    redis.call('SREM', KEYS[2], ARGV[1])
+end
+return popped
@@ -0,0 +1,25 @@
+-- 대기열 진입 (번호 발급 + 토큰 저장 + 즉시 입장/대기 등록을 한 번에 원자적으로 처리)
+-- KEYS[1] = queue:counter
+-- KEYS[2] = queue:waiting (ZSET, score = 대기 번호)
+-- KEYS[3] = queue:active  (ZSET, score = 만료 시각 ms)
+-- KEYS[4] = queue:token:{token}
+-- ARGV[1] = token
+-- ARGV[2] = 토큰 TTL(ms)
+-- ARGV[3] = 현재 시각(ms)
+-- ARGV[4] = 최대 활성 사용자 수
+-- ARGV[5] = 입장 시 만료 시각(ms)
+-- return  {대기 번호, 대기열 내 위치, 즉시 입장 여부(1/0)}
+local number = redis.call('INCR', KEYS[1])
+redis.call('SET', KEYS[4], number, 'PX', ARGV[2])
+
+-- 대기 번호는 단조 증가하므로 새 토큰은 항상 대기열 맨 뒤
+local position = redis.call('ZCARD', KEYS[2]) + 1
+
+redis.call('ZREMRANGEBYSCORE', KEYS[3], 0, ARGV[3])
+if redis.call('ZCARD', KEYS[3]) < tonumber(ARGV[4]) then
+    redis.call('ZADD', KEYS[3], ARGV[5], ARGV[1])
+    return {number, position, 1}
+end
+
+redis.call('ZADD', KEYS[2], number, ARGV[1])
+return {number, position, 0}
@@ -0,0 +1,20 @@
+-- 대기열 스케줄러 리더 임대 획득/갱신
+-- KEYS[1] = queue:leader        (value = "{nodeId}:{fencingToken}", PX = 임대 시간)
+-- KEYS[2] = queue:leader:fence  (펜싱 토큰 발급 카운터)
+-- ARGV[1] = nodeId
+-- ARGV[2] = 임대 시간(ms)
+-- return  펜싱 토큰(리더) / 0: 다른 노드가 리더
+local current = redis.call('GET', KEYS[1])
+if current then
+    local sep = string.find(current, ':', 1, true)
+    if string.sub(current, 1, sep - 1) ~= ARGV[1] then
+        return 0
+    end
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return tonumber(string.sub(current, sep + 1))
+end
+
+-- 새 리더: 이전 리더보다 큰 토큰 발급
+local fence = redis.call('INCR', KEYS[2])
+redis.call('SET', KEYS[1], ARGV[1] .. ':' .. fence, 'PX', ARGV[2])
+return fence
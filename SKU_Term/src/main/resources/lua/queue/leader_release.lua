@@ -0,0 +1,8 @@
+-- 리더 임대 반납 (내 임대일 때만 삭제)
+-- KEYS[1] = queue:leader
+-- ARGV[1] = "{nodeId}:{fencingToken}"
+-- return  1: 반납 / 0: 이미 다른 노드의 임대
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
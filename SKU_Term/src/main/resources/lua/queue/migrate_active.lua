@@ -0,0 +1,14 @@
+-- 이전 구현의 queue:active(SET) 를 ZSET(score = 만료 시각 ms) 으로 1회 변환
+-- KEYS[1] = queue:active
+-- ARGV[1] = 변환된 토큰의 만료 시각(ms)
+-- return  변환한 토큰 수 / -1: 이미 ZSET 이거나 키 없음
+if redis.call('TYPE', KEYS[1]).ok ~= 'set' then
+    return -1
+end
+
+local tokens = redis.call('SMEMBERS', KEYS[1])
+redis.call('DEL', KEYS[1])
+for _, token in ipairs(tokens) do
+    redis.call('ZADD', KEYS[1], ARGV[1], token)
+end
+return #tokens
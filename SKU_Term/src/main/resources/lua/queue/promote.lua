@@ -0,0 +1,55 @@
+-- 대기열 상위 유저 입장 (만료 정리 + 남은 자리 계산 + 대기열 pop + 활성 등록을 한 번에 원자적으로 처리)
+-- 여러 노드의 스케줄러가 동시에 실행돼도 최대 활성 사용자 수를 넘지 않는다
+-- KEYS[1] = queue:waiting (ZSET, score = 대기 번호)
+-- KEYS[2] = queue:active  (ZSET, score = 만료 시각 ms)
+-- KEYS[3] = queue:config:throughput
+-- KEYS[4] = queue:leader ("{nodeId}:{fencingToken}")
+-- ARGV[1] = 현재 시각(ms)
+-- ARGV[2] = 최대 활성 사용자 수
+-- ARGV[3] = 기본 초당 입장 인원 (KEYS[3] 가 없을 때)
+-- ARGV[4] = 입장 시 만료 시각(ms)
+-- ARGV[5] = 호출 노드의 임대 값 "{nodeId}:{fencingToken}"
+-- return  {만료 정리 수, 입장 수, 활성 인원, 대기 인원, 맨 앞 번호, 맨 뒤 번호, 초당 입장 인원}
+--         (대기열이 비었으면 맨 앞/맨 뒤 번호는 -1)
+--         {-1}: 호출 노드가 현재 리더가 아님 (임대 만료 후 멈춰 있던 이전 리더 등) → 아무것도 변경하지 않음
+if redis.call('GET', KEYS[4]) ~= ARGV[5] then
+    return {-1}
+end
+
+local purged = redis.call('ZREMRANGEBYSCORE', KEYS[2], 0, ARGV[1])
+local active = redis.call('ZCARD', KEYS[2])
+
+local throughput = tonumber(redis.call('GET', KEYS[3]) or ARGV[3]) or 0
+local count = math.min(throughput, tonumber(ARGV[2]) - active)
+
+local promoted = 0
+if count > 0 then
+    local popped = redis.call('ZPOPMIN', KEYS[1], count)
+    -- popped = {token1, score1, token2, score2, ...}
+    -- unpack 인자 수 제한이 있으므로 500명씩 나눠 ZADD
+    local args = {}
+    for i = 1, #popped, 2 do
+        args[#args + 1] = ARGV[4]
+        args[#args + 1] = popped[i]
+        promoted = promoted + 1
+        if #args >= 1000 then
+            redis.call('ZADD', KEYS[2], unpack(args))
+            args = {}
+        end
+    end
+    if #args > 0 then
+        redis.call('ZADD', KEYS[2], unpack(args))
+    end
+end
+
+-- 대기 순번 추정용 스냅샷 (순번 ≈ 내 번호 - 맨 앞 번호 + 1)
+local head = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+local tail = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES')
+local headNumber = -1
+local tailNumber = -1
+if #head > 0 then
+    headNumber = tonumber(head[2])
+    tailNumber = tonumber(tail[2])
+end
+
+return {purged, promoted, active + promoted, redis.call('ZCARD', KEYS[1]), headNumber, tailNumber, throughput}
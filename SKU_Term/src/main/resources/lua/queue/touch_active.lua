@@ -0,0 +1,16 @@
+-- 활성 토큰 확인 + 슬라이딩 만료 갱신 (ZSCORE + ZADD 를 한 번에)
+-- KEYS[1] = queue:active (ZSET, score = 만료 시각 ms)
+-- ARGV[1] = token
+-- ARGV[2] = 현재 시각(ms)
+-- ARGV[3] = 갱신할 만료 시각(ms)
+-- return  1: 활성(만료 시각 갱신) / 0: 활성 아님(만료된 토큰은 정리)
+local expireAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not expireAt then
+    return 0
+end
+if tonumber(expireAt) <= tonumber(ARGV[2]) then
+    redis.call('ZREM', KEYS[1], ARGV[1])
+    return 0
+end
+redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+return 1
@@ -4,15 +4,16 @@
     const progressBar = document.getElementById("progressBar");
     const queueTokenInfo = document.getElementById("queueTokenInfo");
 
-    // 폴링 간격 (1초)
+    // 폴링 간격 (1초) - SSE 연결이 안 될 때만 사용
     const POLLING_INTERVAL = 1000;
+    const STREAM_RECONNECT_DELAY = 1000;
     let initialRank = 0;
 
     // 세션에 토큰이 있는지 확인
     const storedToken = sessionStorage.getItem("queueToken");
 
     if (storedToken) {
-        pollStatus(storedToken);
+        watchStatus(storedToken);
     } else {
         joinQueue();
     }
@@ -35,7 +36,7 @@
                     return;
                 }
                 initialRank = data.position;
-                pollStatus(token);
+                watchStatus(token);
             } else {
                 alert("대기열 진입 실패: " + json.message);
                 window.location.href = "/";
@@ -46,6 +47,45 @@
         }
     }
 
+    // 서버 푸시(SSE)로 상태 수신, 스트림을 열 수 없으면 폴링으로 전환
+    function watchStatus(token) {
+        queueTokenInfo.textContent = `Token: ${token.substring(0, 8)}...`;
+
+        if (!window.EventSource) {
+            pollStatus(token);
+            return;
+        }
+
+        const source = new EventSource(`/api/queue/stream?token=${encodeURIComponent(token)}`);
+        let received = false;
+
+        source.addEventListener("status", (event) => {
+            received = true;
+            const status = JSON.parse(event.data);
+            if (status.active) {
+                source.close();
+                enter();
+                return;
+            }
+            updateUI(status);
+        });
+
+        source.addEventListener("expired", () => {
+            source.close();
+            expire();
+        });
+
+        source.onerror = () => {
+            source.close();
+            if (received) {
+                // 정상 수신 중 끊김(연결 유지 시간 만료 등) → 스트림 재연결
+                setTimeout(() => watchStatus(token), STREAM_RECONNECT_DELAY);
+            } else {
+                pollStatus(token);
+            }
+        };
+    }
+
     function pollStatus(token) {
         queueTokenInfo.textContent = `Token: ${token.substring(0, 8)}...`;
 
@@ -60,13 +100,7 @@
 
                     if (status.active) {
                         clearInterval(intervalId);
-                        progressBar.style.width = "100%";
-                        myRankElem.textContent = "0";
-                        expectedTimeElem.textContent = "입장 중...";
-
-                        setTimeout(() => {
-                            window.location.href = "/lectures";
-                        }, 500);
+                        enter();
                         return;
                     }
 
@@ -75,9 +109,7 @@
 
                 } else {
                     clearInterval(intervalId);
-                    sessionStorage.removeItem("queueToken");
-                    alert("대기 시간이 만료되었습니다. 다시 진입합니다.");
-                    window.location.reload();
+                    expire();
                 }
 
             } catch (e) {
@@ -86,6 +118,22 @@
         }, POLLING_INTERVAL);
     }
 
+    function enter() {
+        progressBar.style.width = "100%";
+        myRankElem.textContent = "0";
+        expectedTimeElem.textContent = "입장 중...";
+
+        setTimeout(() => {
+            window.location.href = "/lectures";
+        }, 500);
+    }
+
+    function expire() {
+        sessionStorage.removeItem("queueToken");
+        alert("대기 시간이 만료되었습니다. 다시 진입합니다.");
+        window.location.reload();
+    }
+
     function updateUI(status) {
         const currentPos = status.position;
         const waitTime = status.estimatedWaitSeconds;
@@ -0,0 +1,115 @@
+package com.sku.enrollment.benchmark;
+
+import com.sku.SKUTermApplication;
+import com.sku.enrollment.dto.BenchmarkIntegrityDto;
+import com.sku.enrollment.dto.EnrollmentBenchmarkRequestDto;
+import com.sku.enrollment.enums.EnrollmentLockMode;
+import com.sku.enrollment.service.EnrollmentBenchmarkService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EnrollmentLockMode 별 수강신청 벤치마크
+ * - lock mode 는 빈 생성 시점에 고정되므로 mode 마다 앱을 새로 띄워 같은 조건(seed)으로 측정한다
+ * - 로컬 MySQL/Redis 가 필요하다 (spring.datasource.* / spring.data.redis.* 를 -D 로 넘기거나 기본 설정 사용)
+ *
+ * 실행
+ * - 운영 jar 에 포함되지 않도록 테스트 소스에 둔다 (System.out 출력 CLI, 벤치마크 전용 학생/강의를 만들고 지움)
+ * - IDE 에서 test runtime classpath 로 main 실행 (예: VM 옵션 -Dbench.modes=PESSIMISTIC,ATOMIC_UPDATE)
+ *
+ * 옵션 (-D)
+ *   bench.modes          측정할 mode 목록 (기본: 전체)
+ *   bench.threads, bench.students, bench.lectures, bench.capacity, bench.credit,
+ *   bench.seatShards, bench.requests, bench.zipf, bench.seed
+ */
+public class LockModeBenchmark {
+
+    public static void main(String[] args) {
+        List<EnrollmentLockMode> modes = parseModes(System.getProperty("bench.modes"));
+        EnrollmentBenchmarkRequestDto request = buildRequest();
+
+        Map<EnrollmentLockMode, Map<String, Object>> results = new LinkedHashMap<>();
+        for (EnrollmentLockMode mode : modes) {
+            System.out.printf("%n=== %s ===%n", mode);
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SKUTermApplication.class)
+                    .properties(
+                            "peakguard.enrollment.lock-mode=" + mode.name(),
+                            "peakguard.enrollment.benchmark.enabled=true",
+                            "server.port=0",
+                            "spring.main.banner-mode=off"
+                    )
+                    .run(args)) {
+                results.put(mode, context.getBean(EnrollmentBenchmarkService.class).run(request));
+            } catch (RuntimeException e) {
+                System.err.printf("%s 측정 실패: %s%n", mode, e);
+            }
+        }
+
+        printTable(request, results);
+    }
+
+    private static List<EnrollmentLockMode> parseModes(String value) {
+        if (value == null || value.isBlank()) {
+            return Arrays.asList(EnrollmentLockMode.values());
+        }
+        List<EnrollmentLockMode> modes = new ArrayList<>();
+        for (String name : value.split(",")) {
+            modes.add(EnrollmentLockMode.valueOf(name.trim().toUpperCase()));
+        }
+        return modes;
+    }
+
+    private static EnrollmentBenchmarkRequestDto buildRequest() {
+        EnrollmentBenchmarkRequestDto request = new EnrollmentBenchmarkRequestDto();
+        request.setThreads(Integer.getInteger("bench.threads", request.getThreads()));
+        request.setStudents(Integer.getInteger("bench.students", request.getStudents()));
+        request.setLectures(Integer.getInteger("bench.lectures", request.getLectures()));
+        request.setCapacity(Integer.getInteger("bench.capacity", request.getCapacity()));
+        request.setCredit(Integer.getInteger("bench.credit", request.getCredit()));
+        request.setSeatShards(Integer.getInteger("bench.seatShards", request.getSeatShards()));
+        request.setRequests(Integer.getInteger("bench.requests", request.getRequests()));
+        request.setZipfExponent(Double.parseDouble(System.getProperty("bench.zipf", String.valueOf(request.getZipfExponent()))));
+        request.setSeed(Long.getLong("bench.seed", request.getSeed()));
+        request.setCleanup(true);
+        return request;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printTable(EnrollmentBenchmarkRequestDto request, Map<EnrollmentLockMode, Map<String, Object>> results) {
+        System.out.printf("%nthreads=%d students=%d lectures=%d capacity=%d requests=%d zipf=%.2f seed=%d%n",
+                request.getThreads(), request.getStudents(), request.getLectures(), request.getCapacity(),
+                request.getRequests(), request.getZipfExponent(), request.getSeed());
+
+        String format = "%-18s %10s %9s %9s %9s %9s %11s %10s %10s %12s %8s%n";
+        System.out.printf(format, "mode", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "success",
+                "overbooked", "deadlocks", "lockWaits", "lockTime(ms)", "errors");
+
+        for (Map.Entry<EnrollmentLockMode, Map<String, Object>> entry : results.entrySet()) {
+            Map<String, Object> r = entry.getValue();
+            Map<String, Object> latency = (Map<String, Object>) r.get("latencyMs");
+            Map<String, Object> innodb = (Map<String, Object>) r.get("innodb");
+            BenchmarkIntegrityDto integrity = (BenchmarkIntegrityDto) r.get("integrity");
+
+            // client: 예외로 관찰된 deadlock, server: INNODB_METRICS lock_deadlocks 증가분
+            Object serverDeadlocks = innodb.get("deadlocks");
+            System.out.printf(format,
+                    entry.getKey(),
+                    String.format("%.1f", ((Number) r.get("throughputPerSec")).doubleValue()),
+                    String.format("%.2f", ((Number) latency.get("p50")).doubleValue()),
+                    String.format("%.2f", ((Number) latency.get("p99")).doubleValue()),
+                    String.format("%.2f", ((Number) latency.get("p999")).doubleValue()),
+                    r.get("successes"),
+                    integrity.getOverbookedSeats(),
+                    r.get("deadlocks") + "/" + (serverDeadlocks != null ? serverDeadlocks : "-"),
+                    innodb.get("rowLockWaits") != null ? innodb.get("rowLockWaits") : "-",
+                    innodb.get("rowLockTimeMs") != null ? innodb.get("rowLockTimeMs") : "-",
+                    r.get("errors"));
+        }
+    }
+}
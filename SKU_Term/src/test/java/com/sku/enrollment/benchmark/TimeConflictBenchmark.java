@@ -0,0 +1,204 @@
+package com.sku.enrollment.benchmark;
+
+import com.sku.enrollment.util.WeeklyTimeMask;
+import com.sku.lecture.vo.LectureTime;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 시간표 중복 체크 전/후 비교 벤치마크 (DB/Spring 없이 같은 시간표로 판정 경로만 측정)
+ * - legacy: 비트맵 도입 전 EnrollmentRuleChecker 의 LectureTime 중첩 루프
+ * - mask: 강의별 비트맵(캐시 상태) OR 후 conflictsWith (EnrollmentRuleChecker.hasTimeConflict)
+ * - summary: 요약 행에 저장된 비트맵 복원 후 AND (StudentEnrollmentSummary 경로, 둘 다 exact 일 때)
+ * - 측정 전에 세 경로의 판정이 모두 같은지 확인하고, 다르면 측정하지 않고 종료한다
+ *
+ * 실행
+ * - IDE 에서 test runtime classpath 로 main 실행 (예: VM 옵션 -Dbench.timetables=200000 -Dbench.granularity=60)
+ *
+ * 옵션 (-D)
+ *   bench.timetables   시간표(신청 강의 0~6개 + 대상 강의 1개) 수 (기본 200000)
+ *   bench.granularity  시작/종료 시각 단위(초), 300 이면 모두 exact (기본 300)
+ *   bench.warmup, bench.rounds, bench.seed
+ */
+public class TimeConflictBenchmark {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    private record Timetable(List<LectureTime> enrolledTimes, List<LectureTime> targetTimes,
+                             WeeklyTimeMask[] enrolledMasks, WeeklyTimeMask targetMask, byte[] packed, boolean packedExact) {
+    }
+
+    private interface Checker {
+        boolean conflicts(Timetable timetable);
+    }
+
+    public static void main(String[] args) {
+        int count = Integer.getInteger("bench.timetables", 200_000);
+        int granularity = Integer.getInteger("bench.granularity", 300);
+        int warmup = Integer.getInteger("bench.warmup", 5);
+        int rounds = Integer.getInteger("bench.rounds", 10);
+        long seed = Long.getLong("bench.seed", 42L);
+
+        List<Timetable> timetables = generate(new Random(seed), count, granularity);
+
+        Checker legacy = t -> legacyConflict(t.enrolledTimes(), t.targetTimes());
+        Checker mask = TimeConflictBenchmark::maskConflict;
+        Checker summary = TimeConflictBenchmark::summaryConflict;
+
+        int conflicts = verify(timetables, legacy, mask, summary, granularity % 300 == 0);
+        if (conflicts < 0) {
+            System.exit(1);
+        }
+
+        System.out.printf("timetables=%d granularity=%ds conflicts=%d warmup=%d rounds=%d seed=%d%n",
+                count, granularity, conflicts, warmup, rounds, seed);
+        System.out.printf("%-8s %12s %12s %12s%n", "path", "p50(ns/op)", "min(ns/op)", "max(ns/op)");
+        print("legacy", measure(timetables, legacy, warmup, rounds));
+        print("mask", measure(timetables, mask, warmup, rounds));
+        if (granularity % 300 == 0) {
+            print("summary", measure(timetables, summary, warmup, rounds));
+        }
+    }
+
+    /**
+     * 세 경로가 모든 시간표에서 같은 판정인지 확인 (summary 는 exact 인 경우만)
+     * @return 충돌 시간표 수, 불일치가 있으면 -1
+     */
+    private static int verify(List<Timetable> timetables, Checker legacy, Checker mask, Checker summary, boolean exact) {
+        int conflicts = 0;
+        int mismatches = 0;
+        for (Timetable timetable : timetables) {
+            boolean expected = legacy.conflicts(timetable);
+            if (mask.conflicts(timetable) != expected || (exact && summary.conflicts(timetable) != expected)) {
+                if (mismatches++ < 10) {
+                    System.err.printf("불일치 - enrolled=%s, target=%s%n", timetable.enrolledTimes(), timetable.targetTimes());
+                }
+            }
+            if (expected) {
+                conflicts++;
+            }
+        }
+        if (mismatches > 0) {
+            System.err.printf("판정 불일치 %d건%n", mismatches);
+            return -1;
+        }
+        return conflicts;
+    }
+
+    private static double[] measure(List<Timetable> timetables, Checker checker, int warmup, int rounds) {
+        long sink = 0;
+        for (int i = 0; i < warmup; i++) {
+            sink += run(timetables, checker);
+        }
+        double[] nanosPerOp = new double[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long startedAt = System.nanoTime();
+            sink += run(timetables, checker);
+            nanosPerOp[i] = (double) (System.nanoTime() - startedAt) / timetables.size();
+        }
+        if (sink == Long.MIN_VALUE) {
+            // JIT 가 판정 결과를 버리지 못하도록 사용
+            System.out.println(sink);
+        }
+        Arrays.sort(nanosPerOp);
+        return nanosPerOp;
+    }
+
+    private static long run(List<Timetable> timetables, Checker checker) {
+        long conflicts = 0;
+        for (Timetable timetable : timetables) {
+            if (checker.conflicts(timetable)) {
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+
+    private static void print(String path, double[] sorted) {
+        System.out.printf("%-8s %12.1f %12.1f %12.1f%n", path, sorted[sorted.length / 2], sorted[0], sorted[sorted.length - 1]);
+    }
+
+    // EnrollmentRuleChecker.hasTimeConflict 와 같은 순서 (강의별 비트맵은 캐시에 있다고 가정)
+    private static boolean maskConflict(Timetable timetable) {
+        if (timetable.enrolledMasks().length == 0 || timetable.targetMask().isEmpty()) {
+            return false;
+        }
+        WeeklyTimeMask union = WeeklyTimeMask.EMPTY;
+        for (WeeklyTimeMask enrolled : timetable.enrolledMasks()) {
+            union = union.or(enrolled);
+        }
+        return union.conflictsWith(timetable.targetMask());
+    }
+
+    private static boolean summaryConflict(Timetable timetable) {
+        WeeklyTimeMask enrolled = WeeklyTimeMask.fromBytes(timetable.packed(), timetable.packedExact());
+        return enrolled.intersects(timetable.targetMask());
+    }
+
+    private static List<Timetable> generate(Random random, int count, int granularity) {
+        List<Timetable> timetables = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int lectures = random.nextInt(7);
+            List<LectureTime> enrolledTimes = new ArrayList<>();
+            WeeklyTimeMask[] enrolledMasks = new WeeklyTimeMask[lectures];
+            WeeklyTimeMask union = WeeklyTimeMask.EMPTY;
+            for (int j = 0; j < lectures; j++) {
+                List<LectureTime> lecture = randomLecture(random, granularity);
+                enrolledTimes.addAll(lecture);
+                enrolledMasks[j] = WeeklyTimeMask.of(lecture);
+                union = union.or(enrolledMasks[j]);
+            }
+            List<LectureTime> target = randomLecture(random, granularity);
+            timetables.add(new Timetable(enrolledTimes, target, enrolledMasks, WeeklyTimeMask.of(target),
+                    union.toBytes(), union.isExact()));
+        }
+        return timetables;
+    }
+
+    // 강의 1개 = 주 1~3회, 평일 위주 08:00~22:00 (WeeklyTimeMaskTest 와 같은 분포)
+    private static List<LectureTime> randomLecture(Random random, int granularity) {
+        int count = 1 + random.nextInt(3);
+        List<LectureTime> times = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String day = DAYS[random.nextInt(10) < 8 ? random.nextInt(5) : 5 + random.nextInt(2)];
+            int start = 8 * 3600 + random.nextInt(13 * 3600 / granularity) * granularity;
+            int length = (1 + random.nextInt(3 * 3600 / granularity)) * granularity;
+            int end = Math.min(start + length, 22 * 3600);
+
+            LectureTime time = new LectureTime();
+            time.setDayOfWeek(day);
+            time.setStartTime(LocalTime.ofSecondOfDay(start));
+            time.setEndTime(LocalTime.ofSecondOfDay(end));
+            times.add(time);
+        }
+        return times;
+    }
+
+    /**
+     * 비트맵 도입 전 EnrollmentRuleChecker 의 시간표 중복 체크 (비교 기준)
+     */
+    private static boolean legacyConflict(List<LectureTime> existing, List<LectureTime> target) {
+        if (existing == null || existing.isEmpty() || target == null || target.isEmpty()) {
+            return false;
+        }
+        for (LectureTime newTime : target) {
+            for (LectureTime ex : existing) {
+                if (newTime.getDayOfWeek() == null || ex.getDayOfWeek() == null
+                        || !newTime.getDayOfWeek().equalsIgnoreCase(ex.getDayOfWeek())) {
+                    continue;
+                }
+                if (newTime.getStartTime() != null && newTime.getEndTime() != null
+                        && ex.getStartTime() != null && ex.getEndTime() != null
+                        && newTime.getStartTime().isBefore(ex.getEndTime())
+                        && ex.getStartTime().isBefore(newTime.getEndTime())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,78 @@
+package com.sku.enrollment.support;
+
+import com.sku.enrollment.event.LectureChangedEvent;
+import com.sku.enrollment.util.WeeklyTimeMask;
+import com.sku.lecture.mapper.LectureMapper;
+import com.sku.lecture.vo.LectureTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LectureTimeMaskCacheTest {
+
+    private final LectureMapper lectureMapper = mock(LectureMapper.class);
+    private final LectureTimeMaskCache cache = new LectureTimeMaskCache(lectureMapper);
+
+    @Test
+    @DisplayName("강의 시간표는 한 번만 조회한다")
+    void loadsLectureOnce() {
+        when(lectureMapper.findTimesByLectureIds(anyList())).thenReturn(List.of(time(1L, "MON", "09:00", "10:00")));
+
+        cache.maskOf(1L);
+        cache.maskOf(1L);
+
+        verify(lectureMapper, times(1)).findTimesByLectureIds(anyList());
+    }
+
+    @Test
+    @DisplayName("강의 변경 이벤트를 받으면 다음 조회에서 변경된 시간표를 쓴다")
+    void reloadsAfterLectureChanged() {
+        WeeklyTimeMask monday = WeeklyTimeMask.of(List.of(time(1L, "MON", "09:30", "10:30")));
+        WeeklyTimeMask tuesday = WeeklyTimeMask.of(List.of(time(1L, "TUE", "09:30", "10:30")));
+
+        when(lectureMapper.findTimesByLectureIds(anyList()))
+                .thenReturn(List.of(time(1L, "MON", "09:00", "10:00")))
+                .thenReturn(List.of(time(1L, "TUE", "09:00", "10:00")));
+
+        assertThat(cache.maskOf(1L).conflictsWith(monday)).isTrue();
+
+        cache.onLectureChanged(new LectureChangedEvent(1L));
+
+        assertThat(cache.maskOf(1L).conflictsWith(monday)).isFalse();
+        assertThat(cache.maskOf(1L).conflictsWith(tuesday)).isTrue();
+        verify(lectureMapper, times(2)).findTimesByLectureIds(anyList());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 강의는 IN 조회 1회로 모아서 적재한다")
+    void unionLoadsMissingLecturesTogether() {
+        when(lectureMapper.findTimesByLectureIds(anyList())).thenReturn(List.of(
+                time(1L, "MON", "09:00", "10:00"),
+                time(2L, "WED", "13:00", "15:00")
+        ));
+
+        WeeklyTimeMask union = cache.unionOf(List.of(1L, 2L, 3L));
+
+        assertThat(union.conflictsWith(WeeklyTimeMask.of(List.of(time(9L, "WED", "14:00", "14:30"))))).isTrue();
+        assertThat(cache.maskOf(3L).isEmpty()).isTrue();
+        verify(lectureMapper, times(1)).findTimesByLectureIds(anyList());
+    }
+
+    private static LectureTime time(Long lectureId, String day, String start, String end) {
+        LectureTime time = new LectureTime();
+        time.setLectureId(lectureId);
+        time.setDayOfWeek(day);
+        time.setStartTime(LocalTime.parse(start));
+        time.setEndTime(LocalTime.parse(end));
+        return time;
+    }
+}
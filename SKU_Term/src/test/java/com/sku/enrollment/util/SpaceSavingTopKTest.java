@@ -0,0 +1,143 @@
+package com.sku.enrollment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpaceSavingTopKTest {
+
+    @Test
+    @DisplayName("capacity 이하의 key 는 정확히 센다")
+    void exactBelowCapacity() {
+        SpaceSavingTopK<Long, AtomicLong> topK = new SpaceSavingTopK<>(4, AtomicLong::new);
+        for (int i = 0; i < 3; i++) {
+            topK.offer(1L);
+        }
+        topK.offer(2L);
+
+        assertThat(topK.size()).isEqualTo(2);
+        for (SpaceSavingTopK.Slot<Long, AtomicLong> slot : topK.top(10)) {
+            assertThat(slot.getError()).isEqualTo(0L);
+        }
+        assertThat(topK.top(10).get(0).getKey()).isEqualTo(1L);
+        assertThat(topK.top(10).get(0).getCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("꽉 차면 최소 count key 를 내보내고 count 를 물려받으며 부가 통계는 새로 만든다")
+    void evictsMinimumAndInheritsCount() {
+        SpaceSavingTopK<Long, AtomicLong> topK = new SpaceSavingTopK<>(2, AtomicLong::new);
+        for (int i = 0; i < 5; i++) {
+            topK.offer(1L).incrementAndGet();
+        }
+        for (int i = 0; i < 2; i++) {
+            topK.offer(2L).incrementAndGet();
+        }
+
+        AtomicLong stats = topK.offer(3L);
+
+        assertThat(topK.size()).isEqualTo(2);
+        assertThat(stats.get()).isEqualTo(0L);
+        SpaceSavingTopK.Slot<Long, AtomicLong> admitted = slotOf(topK, 3L);
+        assertThat(admitted.getCount()).isEqualTo(3L);
+        assertThat(admitted.getError()).isEqualTo(2L);
+        assertThat(slotOf(topK, 2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("실제 빈도가 전체의 1/capacity 를 넘는 key 는 남아 있고 count - error <= 실제 빈도 <= count")
+    void heavyHittersAreKeptWithinBounds() {
+        int capacity = 16;
+        SpaceSavingTopK<Long, AtomicLong> topK = new SpaceSavingTopK<>(capacity, AtomicLong::new);
+        ZipfDistribution zipf = new ZipfDistribution(1_000, 1.1);
+        Random random = new Random(3L);
+
+        int total = 100_000;
+        Map<Long, Long> actual = new HashMap<>();
+        for (int i = 0; i < total; i++) {
+            long key = zipf.sample(random);
+            actual.merge(key, 1L, Long::sum);
+            topK.offer(key);
+        }
+
+        for (Map.Entry<Long, Long> entry : actual.entrySet()) {
+            if (entry.getValue() > total / capacity) {
+                assertThat(slotOf(topK, entry.getKey())).isNotNull();
+            }
+        }
+        for (SpaceSavingTopK.Slot<Long, AtomicLong> slot : topK.top(capacity)) {
+            long frequency = actual.getOrDefault(slot.getKey(), 0L);
+            assertThat(slot.getCount()).isGreaterThanOrEqualTo(frequency);
+            assertThat(slot.getCount() - slot.getError()).isLessThanOrEqualTo(frequency);
+        }
+    }
+
+    @Test
+    @DisplayName("top 은 count 내림차순 limit 개")
+    void topIsSortedAndLimited() {
+        SpaceSavingTopK<Long, AtomicLong> topK = new SpaceSavingTopK<>(8, AtomicLong::new);
+        for (long key = 1; key <= 5; key++) {
+            for (int i = 0; i < key; i++) {
+                topK.offer(key);
+            }
+        }
+
+        List<SpaceSavingTopK.Slot<Long, AtomicLong>> top = topK.top(3);
+        assertThat(top).hasSize(3);
+        assertThat(top.get(0).getKey()).isEqualTo(5L);
+        assertThat(top.get(1).getKey()).isEqualTo(4L);
+        assertThat(top.get(2).getKey()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("추적 중인 key 의 동시 갱신은 유실되지 않는다")
+    void concurrentOffersOnTrackedKeys() throws InterruptedException {
+        SpaceSavingTopK<Long, AtomicLong> topK = new SpaceSavingTopK<>(4, AtomicLong::new);
+        int threads = 8;
+        int perThread = 10_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            long key = t % 4;
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    topK.offer(key);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(topK.size()).isEqualTo(4);
+        for (SpaceSavingTopK.Slot<Long, AtomicLong> slot : topK.top(4)) {
+            assertThat(slot.getCount()).isEqualTo(2L * perThread);
+        }
+    }
+
+    @Test
+    @DisplayName("capacity 0 이하는 거절")
+    void rejectsInvalidCapacity() {
+        assertThatThrownBy(() -> new SpaceSavingTopK<Long, AtomicLong>(0, AtomicLong::new))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SpaceSavingTopK.Slot<Long, AtomicLong> slotOf(SpaceSavingTopK<Long, AtomicLong> topK, Long key) {
+        for (SpaceSavingTopK.Slot<Long, AtomicLong> slot : topK.top(topK.capacity())) {
+            if (slot.getKey().equals(key)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+}
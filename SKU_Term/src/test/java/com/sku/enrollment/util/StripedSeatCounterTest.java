@@ -0,0 +1,85 @@
+package com.sku.enrollment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedSeatCounterTest {
+
+    @Test
+    @DisplayName("정렬되지 않은 입력도 강의별 잔여 좌석 = 정원 - 사용 중")
+    void loadsUnsortedLectures() {
+        StripedSeatCounter counter = new StripedSeatCounter(
+                new long[]{30L, 10L, 20L},
+                new long[]{3L, 1L, 2L},
+                new long[]{1L, 0L, 5L});
+
+        assertThat(counter.size()).isEqualTo(3);
+        assertThat(counter.remainingOf(10L)).isEqualTo(1L);
+        assertThat(counter.remainingOf(20L)).isEqualTo(0L);
+        assertThat(counter.remainingOf(30L)).isEqualTo(2L);
+        assertThat(counter.remainingOf(40L)).isEqualTo(-1L);
+        assertThat(counter.contains(40L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("잔여 좌석까지만 차감하고 반환은 정원을 넘지 않는다")
+    void claimAndReleaseStayWithinCapacity() {
+        StripedSeatCounter counter = new StripedSeatCounter(new long[]{1L}, new long[]{2L}, new long[]{0L});
+
+        assertThat(counter.tryClaim(1L)).isEqualTo(StripedSeatCounter.CLAIMED);
+        assertThat(counter.tryClaim(1L)).isEqualTo(StripedSeatCounter.CLAIMED);
+        assertThat(counter.tryClaim(1L)).isEqualTo(StripedSeatCounter.FULL);
+        assertThat(counter.tryClaim(2L)).isEqualTo(StripedSeatCounter.UNKNOWN);
+
+        assertThat(counter.release(1L)).isTrue();
+        assertThat(counter.release(1L)).isTrue();
+        assertThat(counter.release(1L)).isFalse();
+        assertThat(counter.release(2L)).isFalse();
+        assertThat(counter.remainingOf(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("동시 차감에도 정원보다 많이 배정하지 않는다")
+    void concurrentClaimsNeverOverbook() throws InterruptedException {
+        long[] lectureIds = {1L, 2L, 3L};
+        StripedSeatCounter counter = new StripedSeatCounter(lectureIds, new long[]{100L, 50L, 1L}, new long[]{0L, 0L, 0L});
+        AtomicInteger[] claimed = {new AtomicInteger(), new AtomicInteger(), new AtomicInteger()};
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    int index = i % lectureIds.length;
+                    if (counter.tryClaim(lectureIds[index]) == StripedSeatCounter.CLAIMED) {
+                        claimed[index].incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(claimed[0].get()).isEqualTo(100);
+        assertThat(claimed[1].get()).isEqualTo(50);
+        assertThat(claimed[2].get()).isEqualTo(1);
+        for (long lectureId : lectureIds) {
+            assertThat(counter.remainingOf(lectureId)).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 카운터는 모든 강의를 모른다")
+    void emptyCounter() {
+        StripedSeatCounter counter = StripedSeatCounter.empty();
+
+        assertThat(counter.size()).isEqualTo(0);
+        assertThat(counter.tryClaim(1L)).isEqualTo(StripedSeatCounter.UNKNOWN);
+    }
+}
@@ -0,0 +1,219 @@
+package com.sku.enrollment.util;
+
+import com.sku.lecture.vo.LectureTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyTimeMaskTest {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+    private static final int CASES = 20_000;
+    private static final int LARGE_CASES = 200_000;
+
+    @Test
+    @DisplayName("5분 단위 시간표는 비트맵만으로 기존 중첩 루프와 같은 결과")
+    void alignedTimetablesMatchNestedLoop() {
+        assertEquivalent(new Random(5L), 300);
+    }
+
+    @Test
+    @DisplayName("5분 단위가 아닌 시간표는 정밀 비교 경로로 기존 중첩 루프와 같은 결과")
+    void unalignedTimetablesMatchNestedLoop() {
+        assertEquivalent(new Random(7L), 1);
+    }
+
+    @Test
+    @DisplayName("시간표 20만 건(5분/1분/1초 단위 혼합)에서 기존 중첩 루프와 같은 결과")
+    void largeRandomTimetablesMatchNestedLoop() {
+        Random random = new Random(17L);
+        int[] granularities = {300, 60, 1};
+        for (int i = 0; i < LARGE_CASES; i++) {
+            int granularity = granularities[random.nextInt(granularities.length)];
+            List<List<LectureTime>> enrolled = randomLectures(random, granularity);
+            List<LectureTime> target = randomLecture(random, granularity);
+
+            boolean expected = legacyConflict(flatten(enrolled), target);
+            boolean actual = !enrolled.isEmpty() && unionOf(enrolled).conflictsWith(WeeklyTimeMask.of(target));
+
+            assertThat(actual)
+                    .as("enrolled=%s, target=%s", enrolled, target)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("DB 에 저장된 비트맵은 충돌 후보를 놓치지 않고, 둘 다 exact 면 충돌 판정이 같다")
+    void packedMaskNeverMissesConflict() {
+        Random random = new Random(11L);
+        for (int i = 0; i < CASES; i++) {
+            int granularity = random.nextBoolean() ? 300 : 60;
+            List<List<LectureTime>> enrolled = randomLectures(random, granularity);
+            List<LectureTime> target = randomLecture(random, granularity);
+
+            WeeklyTimeMask union = unionOf(enrolled);
+            WeeklyTimeMask packed = WeeklyTimeMask.fromBytes(union.toBytes(), union.isExact());
+            WeeklyTimeMask targetMask = WeeklyTimeMask.of(target);
+            boolean expected = legacyConflict(flatten(enrolled), target);
+
+            if (!packed.intersects(targetMask)) {
+                assertThat(expected).isFalse();
+            } else if (packed.isExact() && targetMask.isExact()) {
+                assertThat(expected).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("끝과 시작이 맞닿은 시간은 충돌이 아니다")
+    void touchingIntervalsDoNotConflict() {
+        assertThat(conflicts(time("MON", "09:00", "10:00"), time("MON", "10:00", "11:00"))).isFalse();
+        // 같은 5분 슬롯을 나눠 쓰지만 겹치지 않음 → 정밀 비교로 통과
+        assertThat(conflicts(time("MON", "09:00", "09:52"), time("MON", "09:53", "10:40"))).isFalse();
+        assertThat(conflicts(time("MON", "09:00", "09:52"), time("MON", "09:51", "10:00"))).isTrue();
+        assertThat(conflicts(time("MON", "09:00", "10:00"), time("TUE", "09:00", "10:00"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("요일은 대소문자와 무관하게 비교한다")
+    void dayOfWeekIsCaseInsensitive() {
+        assertThat(conflicts(time("mon", "09:00", "10:00"), time("MON", "09:30", "10:30"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("바이트 변환 후에도 같은 비트맵")
+    void bytesRoundTrip() {
+        WeeklyTimeMask mask = WeeklyTimeMask.of(List.of(time("WED", "13:00", "14:15"), time("SUN", "23:00", "23:59")));
+        WeeklyTimeMask restored = WeeklyTimeMask.fromBytes(mask.toBytes(), mask.isExact());
+
+        assertThat(restored.toBytes()).isEqualTo(mask.toBytes());
+        assertThat(restored.intersects(WeeklyTimeMask.of(List.of(time("SUN", "23:55", "23:58"))))).isTrue();
+        assertThat(WeeklyTimeMask.fromBytes(new byte[3], true).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("충돌 없는 5분 단위 시간표에서 강의 비트를 지우면 남은 강의로 다시 만든 비트맵과 같다")
+    void andNotMatchesRebuiltUnion() {
+        Random random = new Random(13L);
+        for (int i = 0; i < CASES; i++) {
+            // 신청 경로처럼 충돌하지 않는 강의만 담는다
+            List<List<LectureTime>> enrolled = new ArrayList<>();
+            WeeklyTimeMask union = WeeklyTimeMask.EMPTY;
+            for (int j = 0; j < 7; j++) {
+                List<LectureTime> lecture = randomLecture(random, 300);
+                WeeklyTimeMask mask = WeeklyTimeMask.of(lecture);
+                if (!union.conflictsWith(mask)) {
+                    enrolled.add(lecture);
+                    union = union.or(mask);
+                }
+            }
+            List<LectureTime> cancelled = enrolled.remove(random.nextInt(enrolled.size()));
+
+            WeeklyTimeMask packed = WeeklyTimeMask.fromBytes(union.toBytes(), union.isExact());
+            WeeklyTimeMask remaining = packed.andNot(WeeklyTimeMask.of(cancelled));
+
+            assertThat(remaining.toBytes()).isEqualTo(unionOf(enrolled).toBytes());
+            assertThat(remaining.isExact()).isTrue();
+        }
+    }
+
+    private void assertEquivalent(Random random, int granularitySeconds) {
+        for (int i = 0; i < CASES; i++) {
+            List<List<LectureTime>> enrolled = randomLectures(random, granularitySeconds);
+            List<LectureTime> target = randomLecture(random, granularitySeconds);
+
+            boolean expected = legacyConflict(flatten(enrolled), target);
+            boolean actual = !enrolled.isEmpty() && unionOf(enrolled).conflictsWith(WeeklyTimeMask.of(target));
+
+            assertThat(actual)
+                    .as("enrolled=%s, target=%s", enrolled, target)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private boolean conflicts(LectureTime enrolled, LectureTime target) {
+        boolean actual = WeeklyTimeMask.of(List.of(enrolled)).conflictsWith(WeeklyTimeMask.of(List.of(target)));
+        assertThat(actual).isEqualTo(legacyConflict(List.of(enrolled), List.of(target)));
+        return actual;
+    }
+
+    private static WeeklyTimeMask unionOf(List<List<LectureTime>> lectures) {
+        WeeklyTimeMask union = WeeklyTimeMask.EMPTY;
+        for (List<LectureTime> lecture : lectures) {
+            union = union.or(WeeklyTimeMask.of(lecture));
+        }
+        return union;
+    }
+
+    private static List<LectureTime> flatten(List<List<LectureTime>> lectures) {
+        List<LectureTime> times = new ArrayList<>();
+        lectures.forEach(times::addAll);
+        return times;
+    }
+
+    private static List<List<LectureTime>> randomLectures(Random random, int granularitySeconds) {
+        int count = random.nextInt(7);
+        List<List<LectureTime>> lectures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lectures.add(randomLecture(random, granularitySeconds));
+        }
+        return lectures;
+    }
+
+    // 강의 1개 = 주 1~3회, 평일 위주 08:00~22:00 (충돌이 자주 나도록 범위를 좁힘)
+    private static List<LectureTime> randomLecture(Random random, int granularitySeconds) {
+        int count = 1 + random.nextInt(3);
+        List<LectureTime> times = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String day = DAYS[random.nextInt(10) < 8 ? random.nextInt(5) : 5 + random.nextInt(2)];
+            int start = 8 * 3600 + random.nextInt(13 * 3600 / granularitySeconds) * granularitySeconds;
+            int length = (1 + random.nextInt(3 * 3600 / granularitySeconds)) * granularitySeconds;
+            int end = Math.min(start + length, 22 * 3600);
+
+            LectureTime time = new LectureTime();
+            time.setDayOfWeek(random.nextInt(10) == 0 ? day.toLowerCase() : day);
+            time.setStartTime(LocalTime.ofSecondOfDay(start));
+            time.setEndTime(LocalTime.ofSecondOfDay(end));
+            times.add(time);
+        }
+        return times;
+    }
+
+    private static LectureTime time(String day, String start, String end) {
+        LectureTime time = new LectureTime();
+        time.setDayOfWeek(day);
+        time.setStartTime(LocalTime.parse(start));
+        time.setEndTime(LocalTime.parse(end));
+        return time;
+    }
+
+    /**
+     * 비트맵 도입 전 EnrollmentRuleChecker 의 시간표 중복 체크 (비교 기준)
+     */
+    private static boolean legacyConflict(List<LectureTime> existing, List<LectureTime> target) {
+        if (existing == null || existing.isEmpty() || target == null || target.isEmpty()) {
+            return false;
+        }
+        for (LectureTime newTime : target) {
+            for (LectureTime ex : existing) {
+                if (newTime.getDayOfWeek() == null || ex.getDayOfWeek() == null
+                        || !newTime.getDayOfWeek().equalsIgnoreCase(ex.getDayOfWeek())) {
+                    continue;
+                }
+                if (newTime.getStartTime() != null && newTime.getEndTime() != null
+                        && ex.getStartTime() != null && ex.getEndTime() != null
+                        && newTime.getStartTime().isBefore(ex.getEndTime())
+                        && ex.getStartTime().isBefore(newTime.getEndTime())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
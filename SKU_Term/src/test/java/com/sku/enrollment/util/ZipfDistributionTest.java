@@ -0,0 +1,87 @@
+package com.sku.enrollment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfDistributionTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    @DisplayName("순위 k 의 확률은 1 / k^s 에 비례하고 합계는 1")
+    void probabilityFollowsPowerLaw() {
+        ZipfDistribution zipf = new ZipfDistribution(50, 1.2);
+
+        double sum = 0;
+        for (int rank = 0; rank < zipf.size(); rank++) {
+            sum += zipf.probability(rank);
+            // p(0) / p(rank) = (rank + 1)^s
+            assertThat(zipf.probability(0) / zipf.probability(rank)).isCloseTo(Math.pow(rank + 1, 1.2), within(1e-9));
+        }
+        assertThat(sum).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("s = 0 이면 균등 분포")
+    void zeroExponentIsUniform() {
+        ZipfDistribution zipf = new ZipfDistribution(8, 0.0);
+
+        for (int rank = 0; rank < zipf.size(); rank++) {
+            assertThat(zipf.probability(rank)).isCloseTo(1.0 / 8, within(1e-12));
+        }
+    }
+
+    @Test
+    @DisplayName("샘플 빈도가 확률과 일치하고 범위를 벗어나지 않는다")
+    void sampleFrequencyMatchesProbability() {
+        ZipfDistribution zipf = new ZipfDistribution(20, 1.0);
+        Random random = new Random(42L);
+
+        int[] counts = new int[zipf.size()];
+        for (int i = 0; i < SAMPLES; i++) {
+            int rank = zipf.sample(random);
+            assertThat(rank).isBetween(0, zipf.size() - 1);
+            counts[rank]++;
+        }
+        for (int rank = 0; rank < zipf.size(); rank++) {
+            assertThat((double) counts[rank] / SAMPLES).isCloseTo(zipf.probability(rank), within(0.005));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 seed 면 같은 순서로 샘플링 (벤치마크 mode 간 같은 요청)")
+    void sameSeedSameSequence() {
+        ZipfDistribution zipf = new ZipfDistribution(100, 1.1);
+        Random first = new Random(7L);
+        Random second = new Random(7L);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(zipf.sample(first)).isEqualTo(zipf.sample(second));
+        }
+    }
+
+    @Test
+    @DisplayName("강의가 1개면 항상 0")
+    void singleRank() {
+        ZipfDistribution zipf = new ZipfDistribution(1, 2.0);
+        Random random = new Random(1L);
+
+        assertThat(zipf.probability(0)).isEqualTo(1.0);
+        for (int i = 0; i < 100; i++) {
+            assertThat(zipf.sample(random)).isEqualTo(0);
+        }
+    }
+
+    @Test
+    @DisplayName("크기 0 이하 / 음수 지수는 거절")
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new ZipfDistribution(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZipfDistribution(10, -0.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}